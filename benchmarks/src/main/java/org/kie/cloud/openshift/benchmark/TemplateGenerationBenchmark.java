@@ -0,0 +1,114 @@
+package org.kie.cloud.openshift.benchmark;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import io.fabric8.kubernetes.api.model.KubernetesList;
+import io.fabric8.openshift.api.model.Parameter;
+import org.kie.cloud.openshift.KieOpenShiftProvider;
+import org.kie.cloud.openshift.deployment.Deployment;
+import org.kie.cloud.openshift.deployment.DeploymentPrototype;
+import org.kie.cloud.openshift.deployment.MySqlDeployment;
+import org.kie.cloud.openshift.scenario.Scenario;
+import org.kie.cloud.openshift.scenario.builder.ScenarioBuilder;
+import org.kie.cloud.openshift.template.TemplateProcessor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of template generation steps for KIE server with MySQL, configured the same way as the template
+ * compatibility test. Run with "-prof gc" to get allocation rate.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TemplateGenerationBenchmark {
+
+    private Scenario scenario;
+    private Map<String, String> parameters;
+    private DeploymentPrototype<Deployment> kieServerPrototype;
+
+    @Setup
+    public void setUp() {
+        scenario = buildScenario();
+        kieServerPrototype = KieOpenShiftProvider.createDeploymentPrototype(scenario.getDeployments().get(0));
+        // Parameters without default value have to be provided for processing
+        parameters = scenario.getDeployments().stream()
+                                              .flatMap(d -> d.getParameters().stream())
+                                              .filter(p -> p.getValue() == null && p.getGenerate() == null)
+                                              .collect(Collectors.toMap(Parameter::getName, p -> "benchmark", (p1, p2) -> p1));
+    }
+
+    @Benchmark
+    public Scenario buildKieServerWithMySql() {
+        return buildScenario();
+    }
+
+    @Benchmark
+    public Deployment createKieServerVariant() {
+        return kieServerPrototype.createVariant("tenant-kieserver");
+    }
+
+    @Benchmark
+    public String getTemplateAsYaml() {
+        return scenario.getTemplateAsYaml();
+    }
+
+    @Benchmark
+    public KubernetesList processTemplateLocally() {
+        return TemplateProcessor.process(scenario, parameters);
+    }
+
+    private static Scenario buildScenario() {
+        MySqlDeployment mySql = KieOpenShiftProvider.createMySqlDeploymentBuilder("${APPLICATION_NAME}-mysql")
+                                                    .withImageStreamNamespaceFromProperties()
+                                                    .withImageStreamTagFromProperties()
+                                                    .withDatabaseUserFromProperties()
+                                                    .withDatabaseNameFromProperties()
+                                                    .makePersistentFromProperties()
+                                                    .build();
+        Deployment kieServer = KieOpenShiftProvider.createKieServerDeploymentBuilder("${APPLICATION_NAME}-kieserver")
+                                                   .withImageStreamNamespaceFromProperties()
+                                                   .withImageStreamNameFromProperties()
+                                                   .withImageStreamTagFromProperties()
+                                                   .withHttpHostnameFromProperties()
+                                                   .withHttpsFromProperties()
+                                                   .withHttpsHostnameFromProperties()
+                                                   .withClustering()
+                                                   .withKieServerUserFromProperties()
+                                                   .withContainerMemoryLimitFromProperties()
+                                                   .withKieServerClassFilteringFromProperties()
+                                                   .withKieMbeansFromProperties()
+                                                   .withKieServerBypassAuthUserFromProperties()
+                                                   .withKieServerControllerConnectionFromProperties()
+                                                   .withKieServerId("${APPLICATION_NAME}-kieserver")
+                                                   .withMavenRepo("RHPAMCENTR")
+                                                       .withService("${BUSINESS_CENTRAL_MAVEN_SERVICE}", "/maven2/")
+                                                       .withAuthentication("${BUSINESS_CENTRAL_MAVEN_USERNAME}", "${BUSINESS_CENTRAL_MAVEN_PASSWORD}")
+                                                   .endMavenRepo()
+                                                   .withMavenRepo("EXTERNAL")
+                                                       .withId("${MAVEN_REPO_ID}")
+                                                       .withUrl("${MAVEN_REPO_URL}")
+                                                       .withAuthentication("${MAVEN_REPO_USERNAME}", "${MAVEN_REPO_PASSWORD}")
+                                                   .endMavenRepo()
+                                                   .connectToDatabase(mySql)
+                                                   .withTimerServiceDataStoreRefreshIntervalFromProperties()
+                                                   .build();
+        return new ScenarioBuilder().withDeployment(kieServer)
+                                    .withDeployment(mySql)
+                                    .withApplicationName("${APPLICATION_NAME}")
+                                    .build();
+    }
+}
@@ -1,22 +1,34 @@
 package org.kie.cloud.openshift;
 
-import java.io.ByteArrayInputStream;
 import java.util.Map;
-import java.util.Optional;
 
 import io.fabric8.kubernetes.api.model.KubernetesList;
-import io.fabric8.openshift.api.model.Project;
-import io.fabric8.openshift.api.model.ProjectRequest;
-import io.fabric8.openshift.api.model.ProjectRequestBuilder;
 import io.fabric8.openshift.client.OpenShiftClient;
+import org.kie.cloud.openshift.batch.BatchInstaller;
+import org.kie.cloud.openshift.client.ResilientClientBuilder;
+import org.kie.cloud.openshift.configuration.ConfigurationLoader;
+import org.kie.cloud.openshift.deployment.Deployment;
+import org.kie.cloud.openshift.deployment.DeploymentPrototype;
+import org.kie.cloud.openshift.project.ProjectCreator;
+import org.kie.cloud.openshift.rollout.ScenarioRollout;
 import org.kie.cloud.openshift.scenario.Scenario;
 import org.kie.cloud.openshift.scenario.builder.ScenarioBuilder;
 import org.kie.cloud.openshift.settings.builder.KieServerDeploymentBuilder;
+import org.kie.cloud.openshift.settings.builder.MavenMirrorDeploymentBuilder;
 import org.kie.cloud.openshift.settings.builder.MySqlDeploymentBuilder;
 import org.kie.cloud.openshift.settings.builder.PostgreSqlDeploymentBuilder;
+import org.kie.cloud.openshift.template.CachedTemplateProcessing;
+import org.kie.cloud.openshift.template.LocalTemplateProcessing;
+import org.kie.cloud.openshift.template.ProcessedTemplateCache;
+import org.kie.cloud.openshift.template.ServerTemplateProcessing;
+import org.kie.cloud.openshift.template.TemplateProcessingStrategy;
 
 public class KieOpenShiftProvider {
 
+    // Same scenarios are often deployed into many projects, processing result is reused for same parameters
+    private static final ProcessedTemplateCache processedTemplateCache = new ProcessedTemplateCache(ConfigurationLoader.getTemplateProcessingCacheSize());
+    private static final ProjectCreator projectCreator = new ProjectCreator(ConfigurationLoader.getProjectExistenceCacheTtl());
+
     public static KieServerDeploymentBuilder createKieServerDeploymentBuilder() {
         return new KieServerDeploymentBuilder();
     }
@@ -41,28 +53,99 @@ public class KieOpenShiftProvider {
         return new PostgreSqlDeploymentBuilder(deploymentName);
     }
 
+    public static MavenMirrorDeploymentBuilder createMavenMirrorDeploymentBuilder() {
+        return new MavenMirrorDeploymentBuilder();
+    }
+
+    public static MavenMirrorDeploymentBuilder createMavenMirrorDeploymentBuilder(String deploymentName) {
+        return new MavenMirrorDeploymentBuilder(deploymentName);
+    }
+
+    public static <T extends Deployment> DeploymentPrototype<T> createDeploymentPrototype(T deployment) {
+        return new DeploymentPrototype<>(deployment);
+    }
+
     public static ScenarioBuilder createScenarioBuilder() {
         return new ScenarioBuilder();
     }
 
+    /**
+     * @return Strategy configured by "template.processing.strategy" property.
+     */
+    public static TemplateProcessingStrategy createTemplateProcessing() {
+        String templateProcessingStrategy = ConfigurationLoader.getTemplateProcessingStrategy();
+        switch (templateProcessingStrategy) {
+            case "local":
+                return createLocalTemplateProcessing();
+            case "server":
+                return createServerTemplateProcessing();
+            case "cached-server":
+                return createCachedServerTemplateProcessing();
+            default:
+                throw new RuntimeException("Unknown template processing strategy " + templateProcessingStrategy + ".");
+        }
+    }
+
+    /**
+     * @return Strategy processing templates in memory, processed objects are reused for same scenario and parameters.
+     */
+    public static TemplateProcessingStrategy createLocalTemplateProcessing() {
+        return new CachedTemplateProcessing(new LocalTemplateProcessing(), processedTemplateCache);
+    }
+
+    /**
+     * @return Strategy processing templates by the cluster.
+     */
+    public static TemplateProcessingStrategy createServerTemplateProcessing() {
+        return new ServerTemplateProcessing();
+    }
+
+    /**
+     * @return Strategy processing templates by the cluster, processed objects are reused for same scenario and parameters.
+     */
+    public static TemplateProcessingStrategy createCachedServerTemplateProcessing() {
+        return new CachedTemplateProcessing(new ServerTemplateProcessing(), processedTemplateCache);
+    }
+
+    public static ResilientClientBuilder createResilientClientBuilder(OpenShiftClient openShiftClient) {
+        return new ResilientClientBuilder(openShiftClient);
+    }
+
+    public static BatchInstaller createBatchInstaller(OpenShiftClient openShiftClient) {
+        return new BatchInstaller(openShiftClient);
+    }
+
     public static void deployScenario(OpenShiftClient openShiftClient, Scenario scenario, String projectName, Map<String, String> parameters) {
+        deployScenario(openShiftClient, scenario, projectName, parameters, createTemplateProcessing());
+    }
+
+    public static void deployScenario(OpenShiftClient openShiftClient, Scenario scenario, String projectName, Map<String, String> parameters, TemplateProcessingStrategy templateProcessing) {
         createProjectIfNotExists(openShiftClient, projectName);
-        deployScenarioIntoProject(openShiftClient, scenario, projectName, parameters);
+        deployScenarioIntoProject(openShiftClient, scenario, projectName, parameters, templateProcessing);
+    }
+
+    /**
+     * Deploy scenario into project which may already contain previous version of the scenario. Only objects which
+     * differ from the scenario are patched, missing objects are created.
+     *
+     * Parameters with generated values should be passed explicitly, otherwise newly generated values are applied.
+     */
+    public static void applyScenario(OpenShiftClient openShiftClient, Scenario scenario, String projectName, Map<String, String> parameters) {
+        applyScenario(openShiftClient, scenario, projectName, parameters, createTemplateProcessing());
+    }
+
+    public static void applyScenario(OpenShiftClient openShiftClient, Scenario scenario, String projectName, Map<String, String> parameters, TemplateProcessingStrategy templateProcessing) {
+        createProjectIfNotExists(openShiftClient, projectName);
+        KubernetesList processedObjects = templateProcessing.process(openShiftClient, projectName, scenario, parameters);
+        new ScenarioRollout(openShiftClient, projectName).withIncrementalApply(true).rollout(scenario, processedObjects);
     }
 
     private static void createProjectIfNotExists(OpenShiftClient openShiftClient, String projectName) {
-        Optional<Project> foundProject = openShiftClient.projects().list().getItems().stream()
-                                                                                     .filter(n -> n.getMetadata().getName().equals(projectName))
-                                                                                     .findAny();
-        if(!foundProject.isPresent()) {
-            ProjectRequest projectRequest = new ProjectRequestBuilder().withNewMetadata().withName(projectName).endMetadata().build();
-            openShiftClient.projectrequests().create(projectRequest);
-        }
+        projectCreator.createProjectIfNotExists(openShiftClient, projectName);
     }
 
-    private static void deployScenarioIntoProject(OpenShiftClient openShiftClient, Scenario scenario, String projectName, Map<String, String> parameters) {
-        String yaml = scenario.getTemplateAsYaml();
-        KubernetesList resourceList = openShiftClient.templates().load(new ByteArrayInputStream(yaml.getBytes())).processLocally(parameters);
-        openShiftClient.lists().inNamespace(projectName).create(resourceList);
+    private static void deployScenarioIntoProject(OpenShiftClient openShiftClient, Scenario scenario, String projectName, Map<String, String> parameters, TemplateProcessingStrategy templateProcessing) {
+        KubernetesList processedObjects = templateProcessing.process(openShiftClient, projectName, scenario, parameters);
+        new ScenarioRollout(openShiftClient, projectName).rollout(scenario, processedObjects);
     }
 }
@@ -49,6 +49,30 @@ public class OpenShiftImageConstants {
 
     public static final String KIE_SERVER_MEMORY_LIMIT = "KIE_SERVER_MEMORY_LIMIT";
 
+    public static final String KIE_SERVER_REPLICAS = "KIE_SERVER_REPLICAS";
+    public static final String KIE_SERVER_AUTOSCALING_MIN_REPLICAS = "KIE_SERVER_AUTOSCALING_MIN_REPLICAS";
+    public static final String KIE_SERVER_AUTOSCALING_MAX_REPLICAS = "KIE_SERVER_AUTOSCALING_MAX_REPLICAS";
+    public static final String KIE_SERVER_AUTOSCALING_CPU_UTILIZATION = "KIE_SERVER_AUTOSCALING_CPU_UTILIZATION";
+    public static final String KIE_SERVER_AUTOSCALING_MEMORY_UTILIZATION = "KIE_SERVER_AUTOSCALING_MEMORY_UTILIZATION";
+
+    public static final String KIE_SERVER_LIVENESS_PROBE_INITIAL_DELAY = "KIE_SERVER_LIVENESS_PROBE_INITIAL_DELAY";
+    public static final String KIE_SERVER_LIVENESS_PROBE_TIMEOUT = "KIE_SERVER_LIVENESS_PROBE_TIMEOUT";
+    public static final String KIE_SERVER_LIVENESS_PROBE_PERIOD = "KIE_SERVER_LIVENESS_PROBE_PERIOD";
+    public static final String KIE_SERVER_LIVENESS_PROBE_FAILURE_THRESHOLD = "KIE_SERVER_LIVENESS_PROBE_FAILURE_THRESHOLD";
+    public static final String KIE_SERVER_READINESS_PROBE_INITIAL_DELAY = "KIE_SERVER_READINESS_PROBE_INITIAL_DELAY";
+    public static final String KIE_SERVER_READINESS_PROBE_TIMEOUT = "KIE_SERVER_READINESS_PROBE_TIMEOUT";
+    public static final String KIE_SERVER_READINESS_PROBE_PERIOD = "KIE_SERVER_READINESS_PROBE_PERIOD";
+    public static final String KIE_SERVER_READINESS_PROBE_FAILURE_THRESHOLD = "KIE_SERVER_READINESS_PROBE_FAILURE_THRESHOLD";
+
+    public static final String JAVA_MAX_MEM_RATIO = "JAVA_MAX_MEM_RATIO";
+    public static final String JAVA_INITIAL_MEM_RATIO = "JAVA_INITIAL_MEM_RATIO";
+    public static final String JAVA_MAX_INITIAL_MEM = "JAVA_MAX_INITIAL_MEM";
+    public static final String GC_CONTAINER_OPTIONS = "GC_CONTAINER_OPTIONS";
+    public static final String GC_MAX_METASPACE_SIZE = "GC_MAX_METASPACE_SIZE";
+    public static final String JAVA_DIAGNOSTICS = "JAVA_DIAGNOSTICS";
+    public static final String CONTAINER_CORE_LIMIT = "CONTAINER_CORE_LIMIT";
+    public static final String JAVA_OPTS_APPEND = "JAVA_OPTS_APPEND";
+
     public static final String KIE_SERVER_BYPASS_AUTH_USER = "KIE_SERVER_BYPASS_AUTH_USER";
 
     public static final String KIE_SERVER_HOSTNAME_HTTP = "KIE_SERVER_HOSTNAME_HTTP";
@@ -71,6 +95,10 @@ public class OpenShiftImageConstants {
     public static final String MAVEN_REPO_PATH = "MAVEN_REPO_PATH";
     public static final String MAVEN_REPO_USERNAME = "MAVEN_REPO_USERNAME";
     public static final String MAVEN_REPO_PASSWORD = "MAVEN_REPO_PASSWORD";
+    public static final String MAVEN_LOCAL_REPO = "MAVEN_LOCAL_REPO";
+    public static final String MAVEN_MIRROR_URL = "MAVEN_MIRROR_URL";
+    public static final String MAVEN_MIRROR_VOLUME_CAPACITY = "MAVEN_MIRROR_VOLUME_CAPACITY";
+    public static final String KIE_SERVER_MAVEN_REPO_VOLUME_CAPACITY = "KIE_SERVER_MAVEN_REPO_VOLUME_CAPACITY";
 
     public static final String IMAGE_STREAM_NAMESPACE = "IMAGE_STREAM_NAMESPACE";
     public static final String IMAGE_STREAM_TAG = "IMAGE_STREAM_TAG";
@@ -114,9 +142,19 @@ public class OpenShiftImageConstants {
     public static final String MYSQL_USER = "MYSQL_USER";
     public static final String MYSQL_PASSWORD = "MYSQL_PASSWORD";
     public static final String MYSQL_DATABASE = "MYSQL_DATABASE";
+    public static final String MYSQL_MAX_CONNECTIONS = "MYSQL_MAX_CONNECTIONS";
+    public static final String MYSQL_TABLE_OPEN_CACHE = "MYSQL_TABLE_OPEN_CACHE";
+    public static final String MYSQL_INNODB_BUFFER_POOL_SIZE = "MYSQL_INNODB_BUFFER_POOL_SIZE";
+    public static final String MYSQL_INNODB_LOG_FILE_SIZE = "MYSQL_INNODB_LOG_FILE_SIZE";
+    public static final String MYSQL_INNODB_LOG_BUFFER_SIZE = "MYSQL_INNODB_LOG_BUFFER_SIZE";
 
     public static final String DB_VOLUME_CAPACITY = "DB_VOLUME_CAPACITY";
 
+    public static final String DB_MIN_POOL_SIZE = "DB_MIN_POOL_SIZE";
+    public static final String DB_MAX_POOL_SIZE = "DB_MAX_POOL_SIZE";
+    public static final String DB_BACKGROUND_VALIDATION = "DB_BACKGROUND_VALIDATION";
+    public static final String DB_BACKGROUND_VALIDATION_MILLIS = "DB_BACKGROUND_VALIDATION_MILLIS";
+
     public static final String KIE_SERVER_MYSQL_USER = "KIE_SERVER_MYSQL_USER";
     public static final String KIE_SERVER_MYSQL_PWD = "KIE_SERVER_MYSQL_PWD";
     public static final String KIE_SERVER_MYSQL_DB = "KIE_SERVER_MYSQL_DB";
@@ -125,6 +163,9 @@ public class OpenShiftImageConstants {
     public static final String POSTGRESQL_PASSWORD = "POSTGRESQL_PASSWORD";
     public static final String POSTGRESQL_DATABASE = "POSTGRESQL_DATABASE";
     public static final String POSTGRESQL_MAX_PREPARED_TRANSACTIONS = "POSTGRESQL_MAX_PREPARED_TRANSACTIONS";
+    public static final String POSTGRESQL_MAX_CONNECTIONS = "POSTGRESQL_MAX_CONNECTIONS";
+    public static final String POSTGRESQL_SHARED_BUFFERS = "POSTGRESQL_SHARED_BUFFERS";
+    public static final String POSTGRESQL_EFFECTIVE_CACHE_SIZE = "POSTGRESQL_EFFECTIVE_CACHE_SIZE";
 
     public static final String KIE_SERVER_POSTGRESQL_DB = "KIE_SERVER_POSTGRESQL_DB";
     public static final String KIE_SERVER_POSTGRESQL_USER = "KIE_SERVER_POSTGRESQL_USER";
@@ -145,6 +186,12 @@ public class OpenShiftImageConstants {
     public static final String PASSWORD = "PASSWORD";
     public static final String SERVICE_HOST = "SERVICE_HOST";
     public static final String SERVICE_PORT = "SERVICE_PORT";
+    public static final String MIN_POOL_SIZE = "MIN_POOL_SIZE";
+    public static final String MAX_POOL_SIZE = "MAX_POOL_SIZE";
+    public static final String CONNECTION_CHECKER = "CONNECTION_CHECKER";
+    public static final String EXCEPTION_SORTER = "EXCEPTION_SORTER";
+    public static final String BACKGROUND_VALIDATION = "BACKGROUND_VALIDATION";
+    public static final String BACKGROUND_VALIDATION_MILLIS = "BACKGROUND_VALIDATION_MILLIS";
     public static final String TIMER_SERVICE_DATA_STORE = "TIMER_SERVICE_DATA_STORE";
     public static final String TIMER_SERVICE_DATA_STORE_REFRESH_INTERVAL = "TIMER_SERVICE_DATA_STORE_REFRESH_INTERVAL";
 }
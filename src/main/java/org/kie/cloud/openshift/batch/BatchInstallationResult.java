@@ -0,0 +1,46 @@
+package org.kie.cloud.openshift.batch;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Aggregated results of scenario installation into multiple targets.
+ */
+public class BatchInstallationResult {
+
+    private List<InstallationResult> results;
+
+    BatchInstallationResult(List<InstallationResult> results) {
+        this.results = Collections.unmodifiableList(results);
+    }
+
+    /**
+     * @return Results of all targets, in the same order as the targets were passed.
+     */
+    public List<InstallationResult> getResults() {
+        return results;
+    }
+
+    public List<InstallationResult> getFailedResults() {
+        return results.stream().filter(r -> !r.isSuccessful()).collect(Collectors.toList());
+    }
+
+    public boolean isSuccessful() {
+        return results.stream().allMatch(InstallationResult::isSuccessful);
+    }
+
+    /**
+     * Throw exception if installation into any target failed, failures of other targets are added as suppressed.
+     */
+    public void throwIfFailed() {
+        List<InstallationResult> failedResults = getFailedResults();
+        if (!failedResults.isEmpty()) {
+            String failedProjects = failedResults.stream().map(r -> r.getTarget().getProjectName()).collect(Collectors.joining(", "));
+            RuntimeException exception = new RuntimeException("Installation failed for " + failedResults.size() + " of " + results.size() +
+                                                              " projects: " + failedProjects + ".", failedResults.get(0).getFailure().get());
+            failedResults.stream().skip(1).forEach(r -> exception.addSuppressed(r.getFailure().get()));
+            throw exception;
+        }
+    }
+}
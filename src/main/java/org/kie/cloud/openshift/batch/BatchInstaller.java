@@ -0,0 +1,174 @@
+package org.kie.cloud.openshift.batch;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import io.fabric8.openshift.client.OpenShiftClient;
+import org.kie.cloud.openshift.KieOpenShiftProvider;
+import org.kie.cloud.openshift.client.ResilientClientBuilder;
+import org.kie.cloud.openshift.configuration.ConfigurationLoader;
+import org.kie.cloud.openshift.scenario.Scenario;
+import org.kie.cloud.openshift.template.TemplateProcessingStrategy;
+
+/**
+ * Installs a scenario into multiple projects concurrently.
+ *
+ * Installation failure of a target doesn't affect other targets, failures are collected in the result. Starts of
+ * target installations can be spaced out so the cluster isn't hit by all installations at once. By default every
+ * target is installed using its own client, which rate limits API requests of the target and retries them on transient
+ * failures, so a target with many objects doesn't slow down installation of other targets.
+ */
+public class BatchInstaller {
+
+    private OpenShiftClient openShiftClient;
+    private int parallelism = ConfigurationLoader.getBatchInstallationParallelism();
+    private Duration startInterval = Duration.ZERO;
+    private boolean incrementalApply = false;
+    private TemplateProcessingStrategy templateProcessing = KieOpenShiftProvider.createTemplateProcessing();
+    private boolean resilientClient = true;
+    private double rateLimit = ConfigurationLoader.getClientRateLimit();
+    private int rateLimitBurst = ConfigurationLoader.getClientRateLimitBurst();
+
+    private final Object startLock = new Object();
+    private Instant nextStart = Instant.MIN;
+
+    public BatchInstaller(OpenShiftClient openShiftClient) {
+        this.openShiftClient = openShiftClient;
+    }
+
+    public BatchInstaller withParallelism(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Installation parallelism must be positive, was " + parallelism + ".");
+        }
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    /**
+     * @param startInterval Minimal delay between starts of two target installations, applies to the whole batch.
+     * @return Installer
+     */
+    public BatchInstaller withStartInterval(Duration startInterval) {
+        if (startInterval.isNegative()) {
+            throw new IllegalArgumentException("Start interval cannot be negative, was " + startInterval + ".");
+        }
+        this.startInterval = startInterval;
+        return this;
+    }
+
+    /**
+     * @param incrementalApply True to apply scenario to projects which may already contain it, see {@link KieOpenShiftProvider#applyScenario}.
+     * @return Installer
+     */
+    public BatchInstaller withIncrementalApply(boolean incrementalApply) {
+        this.incrementalApply = incrementalApply;
+        return this;
+    }
+
+    public BatchInstaller withTemplateProcessing(TemplateProcessingStrategy templateProcessing) {
+        this.templateProcessing = templateProcessing;
+        return this;
+    }
+
+    /**
+     * @param resilientClient False to use the client as is for all targets, e.g. if it already retries failed requests.
+     * @return Installer
+     * @see ResilientClientBuilder
+     */
+    public BatchInstaller withResilientClient(boolean resilientClient) {
+        this.resilientClient = resilientClient;
+        return this;
+    }
+
+    /**
+     * @param requestsPerSecond Average number of API requests sent per second for a single target.
+     * @param burst Number of requests of a single target which can be sent at once after a period of inactivity.
+     * @return Installer
+     */
+    public BatchInstaller withRateLimit(double requestsPerSecond, int burst) {
+        this.rateLimit = requestsPerSecond;
+        this.rateLimitBurst = burst;
+        return this;
+    }
+
+    /**
+     * Install scenario into all targets, waits until all installations finish.
+     *
+     * @param scenario Scenario to be installed, it must not be modified during installation.
+     * @param targets Projects to install the scenario into.
+     * @return Results of all installations.
+     */
+    public BatchInstallationResult install(Scenario scenario, Collection<InstallationTarget> targets) {
+        if (targets.isEmpty()) {
+            return new BatchInstallationResult(new ArrayList<>());
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, targets.size()));
+        try {
+            List<CompletableFuture<InstallationResult>> installations = targets.stream()
+                                                                               .map(t -> CompletableFuture.supplyAsync(() -> installTarget(scenario, t), executor))
+                                                                               .collect(Collectors.toList());
+            return new BatchInstallationResult(installations.stream().map(CompletableFuture::join).collect(Collectors.toList()));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * @param installationClient Client used for installation of the target.
+     * @param scenario Scenario to be installed.
+     * @param target Project to install the scenario into.
+     */
+    protected void install(OpenShiftClient installationClient, Scenario scenario, InstallationTarget target) {
+        if (incrementalApply) {
+            KieOpenShiftProvider.applyScenario(installationClient, scenario, target.getProjectName(), target.getParameters(), templateProcessing);
+        } else {
+            KieOpenShiftProvider.deployScenario(installationClient, scenario, target.getProjectName(), target.getParameters(), templateProcessing);
+        }
+    }
+
+    private InstallationResult installTarget(Scenario scenario, InstallationTarget target) {
+        Instant start = Instant.now();
+        try {
+            awaitStart(target);
+            install(createInstallationClient(), scenario, target);
+            return new InstallationResult(target, Duration.between(start, Instant.now()), null);
+        } catch (Exception e) {
+            return new InstallationResult(target, Duration.between(start, Instant.now()), e);
+        }
+    }
+
+    // Every target gets its own client, so each target has its own rate limit
+    private OpenShiftClient createInstallationClient() {
+        if (!resilientClient) {
+            return openShiftClient;
+        }
+        return new ResilientClientBuilder(openShiftClient).withRateLimit(rateLimit, rateLimitBurst).build();
+    }
+
+    // Reserves the next start slot, so concurrent installations start at least the interval apart
+    private void awaitStart(InstallationTarget target) {
+        Instant start;
+        synchronized (startLock) {
+            Instant now = Instant.now();
+            start = now.isAfter(nextStart) ? now : nextStart;
+            nextStart = start.plus(startInterval);
+        }
+        long delayMillis = Duration.between(Instant.now(), start).toMillis();
+        if (delayMillis > 0) {
+            try {
+                TimeUnit.MILLISECONDS.sleep(delayMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Interrupted while waiting for installation start of project " + target.getProjectName() + ".", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package org.kie.cloud.openshift.batch;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Result of scenario installation into a single target.
+ */
+public class InstallationResult {
+
+    private InstallationTarget target;
+    private Duration duration;
+    private Throwable failure;
+
+    InstallationResult(InstallationTarget target, Duration duration, Throwable failure) {
+        this.target = target;
+        this.duration = duration;
+        this.failure = failure;
+    }
+
+    public InstallationTarget getTarget() {
+        return target;
+    }
+
+    public Duration getDuration() {
+        return duration;
+    }
+
+    public boolean isSuccessful() {
+        return failure == null;
+    }
+
+    public Optional<Throwable> getFailure() {
+        return Optional.ofNullable(failure);
+    }
+}
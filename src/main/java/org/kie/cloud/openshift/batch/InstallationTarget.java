@@ -0,0 +1,32 @@
+package org.kie.cloud.openshift.batch;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Project the scenario is installed into, together with template parameters used for the project.
+ */
+public class InstallationTarget {
+
+    private String projectName;
+    private Map<String, String> parameters;
+
+    public InstallationTarget(String projectName, Map<String, String> parameters) {
+        this.projectName = projectName;
+        this.parameters = Collections.unmodifiableMap(new HashMap<>(parameters));
+    }
+
+    public String getProjectName() {
+        return projectName;
+    }
+
+    public Map<String, String> getParameters() {
+        return parameters;
+    }
+
+    @Override
+    public String toString() {
+        return "InstallationTarget[" + projectName + "]";
+    }
+}
@@ -0,0 +1,68 @@
+package org.kie.cloud.openshift.client;
+
+import java.time.Duration;
+
+import io.fabric8.kubernetes.client.HttpClientAware;
+import io.fabric8.openshift.client.DefaultOpenShiftClient;
+import io.fabric8.openshift.client.OpenShiftClient;
+import io.fabric8.openshift.client.OpenShiftConfig;
+import okhttp3.OkHttpClient;
+import org.kie.cloud.openshift.configuration.ConfigurationLoader;
+
+/**
+ * Builds OpenShift client which rate limits its requests and retries them on throttling and transient failures.
+ *
+ * Built client shares connections with the original client, closing one of them closes the other one too.
+ */
+public class ResilientClientBuilder {
+
+    private OpenShiftClient openShiftClient;
+    private double rateLimit = ConfigurationLoader.getClientRateLimit();
+    private int rateLimitBurst = ConfigurationLoader.getClientRateLimitBurst();
+    private int maxAttempts = ConfigurationLoader.getClientRetryMaxAttempts();
+    private Duration initialBackoff = ConfigurationLoader.getClientRetryInitialBackoff();
+    private Duration maxBackoff = ConfigurationLoader.getClientRetryMaxBackoff();
+
+    public ResilientClientBuilder(OpenShiftClient openShiftClient) {
+        this.openShiftClient = openShiftClient;
+    }
+
+    /**
+     * @param requestsPerSecond Average number of requests sent per second.
+     * @param burst Number of requests which can be sent at once after a period of inactivity.
+     * @return Builder
+     */
+    public ResilientClientBuilder withRateLimit(double requestsPerSecond, int burst) {
+        this.rateLimit = requestsPerSecond;
+        this.rateLimitBurst = burst;
+        return this;
+    }
+
+    /**
+     * @param maxAttempts Maximal number of attempts of a single request, 1 disables retries.
+     * @param initialBackoff Delay before the first retry, the delay is doubled for every other retry.
+     * @param maxBackoff Upper bound of the delay.
+     * @return Builder
+     */
+    public ResilientClientBuilder withRetries(int maxAttempts, Duration initialBackoff, Duration maxBackoff) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("Maximal number of attempts must be positive, was " + maxAttempts + ".");
+        }
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        return this;
+    }
+
+    public OpenShiftClient build() {
+        if (!(openShiftClient instanceof HttpClientAware)) {
+            throw new RuntimeException("OpenShift client " + openShiftClient.getClass().getName() + " doesn't expose its HTTP client.");
+        }
+        OkHttpClient originalHttpClient = ((HttpClientAware) openShiftClient).getHttpClient();
+        RetryingInterceptor interceptor = new RetryingInterceptor(new TokenBucket(rateLimit, rateLimitBurst), maxAttempts, initialBackoff, maxBackoff, originalHttpClient);
+        OkHttpClient httpClient = originalHttpClient.newBuilder()
+                                                    .addNetworkInterceptor(interceptor)
+                                                    .build();
+        return new DefaultOpenShiftClient(httpClient, (OpenShiftConfig) openShiftClient.getConfiguration());
+    }
+}
@@ -0,0 +1,195 @@
+package org.kie.cloud.openshift.client;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.HttpURLConnection;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.fabric8.kubernetes.client.utils.Serialization;
+import okhttp3.HttpUrl;
+import okhttp3.Interceptor;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okio.Buffer;
+
+/**
+ * Rate limits API requests and retries requests failed because of throttling, transient server errors or connection
+ * failures.
+ *
+ * Throttled requests (429) are always retried as the server didn't process them. Other failures are retried only for
+ * idempotent requests and object creations. Creation which may have succeeded before the failure is detected by
+ * "AlreadyExists" conflict of the retried request, the created object is returned in that case.
+ *
+ * Interceptor is registered as network interceptor as the OpenShift client drops application interceptors for
+ * Kubernetes operations. Network interceptor can proceed with the request only once, so retries are sent by a separate
+ * retry client.
+ */
+class RetryingInterceptor implements Interceptor {
+
+    private static final int HTTP_TOO_MANY_REQUESTS = 429;
+    private static final Set<Integer> TRANSIENT_SERVER_ERRORS = new HashSet<>(Arrays.asList(HttpURLConnection.HTTP_INTERNAL_ERROR,
+                                                                                            HttpURLConnection.HTTP_BAD_GATEWAY,
+                                                                                            HttpURLConnection.HTTP_UNAVAILABLE,
+                                                                                            HttpURLConnection.HTTP_GATEWAY_TIMEOUT));
+    private static final Set<String> IDEMPOTENT_METHODS = new HashSet<>(Arrays.asList("GET", "HEAD", "PUT", "DELETE", "OPTIONS"));
+    // Template processing doesn't create any object
+    private static final String PROCESSED_TEMPLATES_PATH_SUFFIX = "/processedtemplates";
+
+    private final TokenBucket rateLimiter;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final OkHttpClient retryClient;
+
+    /**
+     * @param retryClient Client sending retried requests, it must not contain this interceptor.
+     */
+    RetryingInterceptor(TokenBucket rateLimiter, int maxAttempts, Duration initialBackoff, Duration maxBackoff, OkHttpClient retryClient) {
+        this.rateLimiter = rateLimiter;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.retryClient = retryClient;
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Request request = chain.request();
+        boolean create = isCreate(request);
+        boolean retriable = create || isIdempotent(request);
+        boolean possiblyProcessed = false;
+        Duration backoff = initialBackoff;
+
+        rateLimiter.acquire();
+        Response response = null;
+        IOException failure = null;
+        try {
+            response = chain.proceed(request);
+        } catch (IOException e) {
+            failure = e;
+        }
+
+        for (int attempt = 1; attempt < maxAttempts; attempt++) {
+            Duration delay;
+            if (failure != null && retriable && !(failure instanceof InterruptedIOException)) {
+                possiblyProcessed = true;
+                delay = withJitter(backoff);
+            } else if (response != null && response.code() == HTTP_TOO_MANY_REQUESTS) {
+                delay = getRetryAfter(response).orElse(withJitter(backoff));
+                response.close();
+            } else if (response != null && retriable && TRANSIENT_SERVER_ERRORS.contains(response.code())) {
+                possiblyProcessed = true;
+                delay = withJitter(backoff);
+                response.close();
+            } else {
+                break;
+            }
+            sleep(delay);
+            backoff = increase(backoff);
+
+            rateLimiter.acquire();
+            response = null;
+            failure = null;
+            try {
+                response = asNetworkResponse(retryClient.newCall(request).execute());
+            } catch (IOException e) {
+                failure = e;
+            }
+        }
+
+        if (failure != null) {
+            throw failure;
+        }
+        if (create && possiblyProcessed && response.code() == HttpURLConnection.HTTP_CONFLICT) {
+            Optional<Response> created = getCreatedObject(request);
+            if (created.isPresent()) {
+                response.close();
+                return created.get();
+            }
+        }
+        return response;
+    }
+
+    // Response returned by network interceptor must not reference other responses
+    private static Response asNetworkResponse(Response response) {
+        return response.newBuilder()
+                       .networkResponse(null)
+                       .cacheResponse(null)
+                       .priorResponse(null)
+                       .build();
+    }
+
+    private static boolean isIdempotent(Request request) {
+        return IDEMPOTENT_METHODS.contains(request.method()) ||
+               ("POST".equals(request.method()) && request.url().encodedPath().endsWith(PROCESSED_TEMPLATES_PATH_SUFFIX));
+    }
+
+    private static boolean isCreate(Request request) {
+        return "POST".equals(request.method()) && !request.url().encodedPath().endsWith(PROCESSED_TEMPLATES_PATH_SUFFIX);
+    }
+
+    /**
+     * @return Object created by a previous attempt of the request, empty if it can't be fetched.
+     */
+    private Optional<Response> getCreatedObject(Request createRequest) throws IOException {
+        if (createRequest.body() == null) {
+            return Optional.empty();
+        }
+        Buffer body = new Buffer();
+        createRequest.body().writeTo(body);
+        JsonNode name = Serialization.jsonMapper().readTree(body.inputStream()).path("metadata").path("name");
+        if (!name.isTextual() || name.asText().isEmpty()) {
+            return Optional.empty();
+        }
+
+        HttpUrl objectUrl = createRequest.url().newBuilder().addPathSegment(name.asText()).build();
+        rateLimiter.acquire();
+        Request getRequest = createRequest.newBuilder().url(objectUrl).get().removeHeader("Content-Length").removeHeader("Content-Type").build();
+        Response response = asNetworkResponse(retryClient.newCall(getRequest).execute());
+        if (!response.isSuccessful()) {
+            response.close();
+            return Optional.empty();
+        }
+        return Optional.of(response);
+    }
+
+    private Optional<Duration> getRetryAfter(Response response) {
+        String retryAfter = response.header("Retry-After");
+        if (retryAfter != null) {
+            try {
+                Duration delay = Duration.ofSeconds(Long.parseLong(retryAfter.trim()));
+                return Optional.of(delay.compareTo(maxBackoff) < 0 ? delay : maxBackoff);
+            } catch (NumberFormatException e) {
+                // HTTP date format isn't used by the API server
+            }
+        }
+        return Optional.empty();
+    }
+
+    // Randomized between half and full backoff, so concurrent clients don't retry at the same time
+    private static Duration withJitter(Duration backoff) {
+        long halfMillis = backoff.toMillis() / 2;
+        return Duration.ofMillis(halfMillis + ThreadLocalRandom.current().nextLong(halfMillis + 1));
+    }
+
+    private Duration increase(Duration backoff) {
+        return backoff.multipliedBy(2).compareTo(maxBackoff) < 0 ? backoff.multipliedBy(2) : maxBackoff;
+    }
+
+    private static void sleep(Duration duration) throws InterruptedIOException {
+        try {
+            TimeUnit.MILLISECONDS.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for request retry.");
+        }
+    }
+}
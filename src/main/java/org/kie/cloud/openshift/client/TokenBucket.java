@@ -0,0 +1,54 @@
+package org.kie.cloud.openshift.client;
+
+import java.io.InterruptedIOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token bucket rate limiter, allows bursts up to the bucket capacity and the configured average rate afterwards.
+ *
+ * Callers reserve tokens in arrival order, waiting happens outside of the lock.
+ */
+class TokenBucket {
+
+    private final double permitsPerSecond;
+    private final int capacity;
+
+    private double tokens;
+    private long lastRefillNanos = System.nanoTime();
+
+    TokenBucket(double permitsPerSecond, int capacity) {
+        if (permitsPerSecond <= 0) {
+            throw new IllegalArgumentException("Rate limit must be positive, was " + permitsPerSecond + ".");
+        }
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Rate limit burst must be positive, was " + capacity + ".");
+        }
+        this.permitsPerSecond = permitsPerSecond;
+        this.capacity = capacity;
+        this.tokens = capacity;
+    }
+
+    void acquire() throws InterruptedIOException {
+        long waitNanos = reserve();
+        if (waitNanos > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for rate limit.");
+            }
+        }
+    }
+
+    /**
+     * @return Nanoseconds to wait until the reserved token is available.
+     */
+    synchronized long reserve() {
+        long now = System.nanoTime();
+        tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * permitsPerSecond / TimeUnit.SECONDS.toNanos(1));
+        lastRefillNanos = now;
+        tokens -= 1;
+        // Negative balance is owed by waiting callers
+        return tokens >= 0 ? 0 : (long) (-tokens / permitsPerSecond * TimeUnit.SECONDS.toNanos(1));
+    }
+}
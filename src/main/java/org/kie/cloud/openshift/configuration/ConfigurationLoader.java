@@ -2,6 +2,7 @@ package org.kie.cloud.openshift.configuration;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.time.Duration;
 import java.util.Properties;
 
 public class ConfigurationLoader {
@@ -18,10 +19,30 @@ public class ConfigurationLoader {
     private static final String MYSQL_IMAGE_STREAM_TAG_PROPERTY = "mysql.image.stream.tag";
     private static final String POSTGRESQL_IMAGE_STREAM_NAME_PROPERTY = "postgresql.image.stream.name";
     private static final String POSTGRESQL_IMAGE_STREAM_TAG_PROPERTY = "postgresql.image.stream.tag";
+    private static final String MAVEN_MIRROR_IMAGE_STREAM_NAME_PROPERTY = "maven.mirror.image.stream.name";
+    private static final String MAVEN_MIRROR_IMAGE_STREAM_TAG_PROPERTY = "maven.mirror.image.stream.tag";
 
     private static final String KIE_SERVER_DATASOURCE_JNDI_PROPERTY = "kie.server.datasource.jndi";
     private static final String KIE_SERVER_DATASOURCE_PREFIX_PROPERTY = "kie.server.datasource.prefix";
 
+    private static final String ROLLOUT_PARALLELISM_PROPERTY = "rollout.parallelism";
+    private static final String ROLLOUT_READINESS_TIMEOUT_PROPERTY = "rollout.readiness.timeout";
+
+    private static final String CLIENT_RATE_LIMIT_PROPERTY = "client.rate.limit";
+    private static final String CLIENT_RATE_LIMIT_BURST_PROPERTY = "client.rate.limit.burst";
+    private static final String CLIENT_RETRY_MAX_ATTEMPTS_PROPERTY = "client.retry.max.attempts";
+    private static final String CLIENT_RETRY_INITIAL_BACKOFF_PROPERTY = "client.retry.initial.backoff";
+    private static final String CLIENT_RETRY_MAX_BACKOFF_PROPERTY = "client.retry.max.backoff";
+
+    private static final String BATCH_INSTALLATION_PARALLELISM_PROPERTY = "batch.installation.parallelism";
+
+    private static final String PROJECT_EXISTENCE_CACHE_TTL_PROPERTY = "project.existence.cache.ttl";
+
+    private static final String TEMPLATE_PROCESSING_STRATEGY_PROPERTY = "template.processing.strategy";
+    private static final String TEMPLATE_PROCESSING_CACHE_SIZE_PROPERTY = "template.processing.cache.size";
+
+    private static final String RESOURCE_PROFILE_PROPERTY_PREFIX = "resource.profile.";
+
     private static Properties properties = new Properties();
 
     static {
@@ -75,6 +96,14 @@ public class ConfigurationLoader {
         return getConfigurationProperty(POSTGRESQL_IMAGE_STREAM_TAG_PROPERTY);
     }
 
+    public static String getMavenMirrorImageStreamName() {
+        return getConfigurationProperty(MAVEN_MIRROR_IMAGE_STREAM_NAME_PROPERTY);
+    }
+
+    public static String getMavenMirrorImageStreamTag() {
+        return getConfigurationProperty(MAVEN_MIRROR_IMAGE_STREAM_TAG_PROPERTY);
+    }
+
     public static String getKieServerDatasourceJndi() {
         return getConfigurationProperty(KIE_SERVER_DATASOURCE_JNDI_PROPERTY);
     }
@@ -83,6 +112,84 @@ public class ConfigurationLoader {
         return getConfigurationProperty(KIE_SERVER_DATASOURCE_PREFIX_PROPERTY);
     }
 
+    public static int getRolloutParallelism() {
+        return Integer.parseInt(getConfigurationProperty(ROLLOUT_PARALLELISM_PROPERTY));
+    }
+
+    /**
+     * @return Maximal time to wait for a deployment to become ready before its dependents are rolled out.
+     */
+    public static Duration getRolloutReadinessTimeout() {
+        return Duration.ofSeconds(Long.parseLong(getConfigurationProperty(ROLLOUT_READINESS_TIMEOUT_PROPERTY)));
+    }
+
+    /**
+     * @return Average number of API requests per second sent by resilient client.
+     */
+    public static double getClientRateLimit() {
+        return Double.parseDouble(getConfigurationProperty(CLIENT_RATE_LIMIT_PROPERTY));
+    }
+
+    public static int getClientRateLimitBurst() {
+        return Integer.parseInt(getConfigurationProperty(CLIENT_RATE_LIMIT_BURST_PROPERTY));
+    }
+
+    public static int getClientRetryMaxAttempts() {
+        return Integer.parseInt(getConfigurationProperty(CLIENT_RETRY_MAX_ATTEMPTS_PROPERTY));
+    }
+
+    public static Duration getClientRetryInitialBackoff() {
+        return Duration.ofMillis(Long.parseLong(getConfigurationProperty(CLIENT_RETRY_INITIAL_BACKOFF_PROPERTY)));
+    }
+
+    public static Duration getClientRetryMaxBackoff() {
+        return Duration.ofMillis(Long.parseLong(getConfigurationProperty(CLIENT_RETRY_MAX_BACKOFF_PROPERTY)));
+    }
+
+    /**
+     * @return Maximal number of projects a scenario is installed into concurrently.
+     */
+    public static int getBatchInstallationParallelism() {
+        return Integer.parseInt(getConfigurationProperty(BATCH_INSTALLATION_PARALLELISM_PROPERTY));
+    }
+
+    /**
+     * @return How long is a project considered existing after it was found or created.
+     */
+    public static Duration getProjectExistenceCacheTtl() {
+        return Duration.ofSeconds(Long.parseLong(getConfigurationProperty(PROJECT_EXISTENCE_CACHE_TTL_PROPERTY)));
+    }
+
+    /**
+     * @return Strategy used to process scenario templates, one of "local", "server" or "cached-server".
+     */
+    public static String getTemplateProcessingStrategy() {
+        return getConfigurationProperty(TEMPLATE_PROCESSING_STRATEGY_PROPERTY);
+    }
+
+    /**
+     * @return Maximal total size in bytes of cached processed templates, 0 if caching is disabled.
+     */
+    public static long getTemplateProcessingCacheSize() {
+        return Long.parseLong(getConfigurationProperty(TEMPLATE_PROCESSING_CACHE_SIZE_PROPERTY));
+    }
+
+    /**
+     * @param profileName Name of the profile, e.g. {@link ResourceProfile#SMALL}.
+     * @return Resource profile defined by "resource.profile.&lt;name&gt;.*" properties.
+     */
+    public static ResourceProfile getResourceProfile(String profileName) {
+        String profilePrefix = RESOURCE_PROFILE_PROPERTY_PREFIX + profileName + ".";
+        String cpuRequest = getConfigurationProperty(profilePrefix + "cpu.request");
+        String memoryRequest = getConfigurationProperty(profilePrefix + "memory.request");
+        String cpuLimit = getConfigurationProperty(profilePrefix + "cpu.limit");
+        String memoryLimit = getConfigurationProperty(profilePrefix + "memory.limit");
+        if (cpuRequest == null && memoryRequest == null && cpuLimit == null && memoryLimit == null) {
+            throw new RuntimeException("Resource profile " + profileName + " is not defined.");
+        }
+        return new ResourceProfile(profileName, cpuRequest, memoryRequest, cpuLimit, memoryLimit);
+    }
+
     private static String getConfigurationProperty(String configurationPropertyname) {
         String defaultPropertyValue = properties.getProperty(configurationPropertyname);
         return System.getProperty(configurationPropertyname, defaultPropertyValue);
@@ -0,0 +1,47 @@
+package org.kie.cloud.openshift.configuration;
+
+/**
+ * Named set of container resource requests and limits.
+ *
+ * Values are in Kubernetes quantity format (e.g. "500m" CPU, "1Gi" memory), undefined values are null.
+ */
+public class ResourceProfile {
+
+    public static final String SMALL = "small";
+    public static final String MEDIUM = "medium";
+    public static final String LARGE = "large";
+
+    private String name;
+    private String cpuRequest;
+    private String memoryRequest;
+    private String cpuLimit;
+    private String memoryLimit;
+
+    public ResourceProfile(String name, String cpuRequest, String memoryRequest, String cpuLimit, String memoryLimit) {
+        this.name = name;
+        this.cpuRequest = cpuRequest;
+        this.memoryRequest = memoryRequest;
+        this.cpuLimit = cpuLimit;
+        this.memoryLimit = memoryLimit;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getCpuRequest() {
+        return cpuRequest;
+    }
+
+    public String getMemoryRequest() {
+        return memoryRequest;
+    }
+
+    public String getCpuLimit() {
+        return cpuLimit;
+    }
+
+    public String getMemoryLimit() {
+        return memoryLimit;
+    }
+}
@@ -1,12 +1,15 @@
 package org.kie.cloud.openshift.deployment;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
+import io.fabric8.kubernetes.api.model.Container;
 import io.fabric8.kubernetes.api.model.EnvVar;
 import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.HorizontalPodAutoscaler;
 import io.fabric8.kubernetes.api.model.PersistentVolumeClaim;
 import io.fabric8.kubernetes.api.model.Service;
 import io.fabric8.openshift.api.model.DeploymentConfig;
@@ -15,18 +18,39 @@ import io.fabric8.openshift.api.model.Route;
 
 public class Deployment {
 
-    private List<HasMetadata> objects = new ArrayList<>();
+    private IndexedObjectList objects = new IndexedObjectList();
     private List<Parameter> parameters = new ArrayList<>();
+    private List<Deployment> dependencies = new ArrayList<>();
     private String deploymentName;
 
     public Deployment(String deploymentName) {
         this.deploymentName = deploymentName;
     }
 
+    /**
+     * @return Deployment of the same type without any objects.
+     */
+    Deployment newEmptyDeployment(String deploymentName) {
+        return new Deployment(deploymentName);
+    }
+
     public List<HasMetadata> getObjects() {
         return objects;
     }
 
+    /**
+     * @return Objects of the type in the order they were added to the deployment.
+     */
+    public <T extends HasMetadata> List<T> getObjects(Class<T> type) {
+        return objects.getObjectsOfType(type);
+    }
+
+    public <T extends HasMetadata> Optional<T> getObject(Class<T> type, String name) {
+        return objects.getObjectsOfType(type).stream()
+                                             .filter(o -> o.getMetadata().getName().equals(name))
+                                             .findAny();
+    }
+
     public List<Parameter> getParameters() {
         return parameters;
     }
@@ -35,6 +59,13 @@ public class Deployment {
         return deploymentName;
     }
 
+    /**
+     * @return Deployments which have to be ready before this deployment can be rolled out.
+     */
+    public List<Deployment> getDependencies() {
+        return dependencies;
+    }
+
     public List<Service> getUnsecureServices() {
         List<String> unsecureServiceNames = getUnsecureRoutes().stream()
                                                                .map(r -> r.getSpec().getTo().getName())
@@ -54,41 +85,35 @@ public class Deployment {
     }
 
     public List<Service> getServices() {
-        return objects.stream()
-                      .filter(o -> o instanceof Service)
-                      .map(o -> (Service) o)
-                      .collect(Collectors.toList());
+        return new ArrayList<>(getObjects(Service.class));
     }
 
     public List<Route> getUnsecureRoutes() {
-        return objects.stream()
-                      .filter(o -> o instanceof Route)
-                      .map(o -> (Route) o)
-                      .filter(r -> r.getSpec().getTls() == null)
-                      .collect(Collectors.toList());
+        return getObjects(Route.class).stream()
+                                      .filter(r -> r.getSpec().getTls() == null)
+                                      .collect(Collectors.toList());
     }
 
     public List<Route> getSecureRoutes() {
-        return objects.stream()
-                      .filter(o -> o instanceof Route)
-                      .map(o -> (Route) o)
-                      .filter(r -> r.getSpec().getTls() != null)
-                      .collect(Collectors.toList());
+        return getObjects(Route.class).stream()
+                                      .filter(r -> r.getSpec().getTls() != null)
+                                      .collect(Collectors.toList());
     }
 
     public DeploymentConfig getDeploymentConfig() {
-        return objects.stream()
-                      .filter(o -> o instanceof DeploymentConfig)
-                      .map(o -> (DeploymentConfig) o)
-                      .findAny()
-                      .orElseThrow(() -> new RuntimeException("No Deployment config found."));
+        List<DeploymentConfig> deploymentConfigs = getObjects(DeploymentConfig.class);
+        if (deploymentConfigs.isEmpty()) {
+            throw new RuntimeException("No Deployment config found.");
+        }
+        return deploymentConfigs.get(0);
     }
 
     public List<PersistentVolumeClaim> getPersistentVolumeClaims() {
-        return objects.stream()
-                      .filter(o -> o instanceof PersistentVolumeClaim)
-                      .map(o -> (PersistentVolumeClaim) o)
-                      .collect(Collectors.toList());
+        return new ArrayList<>(getObjects(PersistentVolumeClaim.class));
+    }
+
+    public Optional<HorizontalPodAutoscaler> getHorizontalPodAutoscaler() {
+        return getObjects(HorizontalPodAutoscaler.class).stream().findFirst();
     }
 
     public String getEnvironmentVariableValue(String environmentVariableName) {
@@ -96,10 +121,38 @@ public class Deployment {
     }
 
     public Optional<String> getOptionalEnvironmentVariableValue(String environmentVariableName) {
-        return getDeploymentConfig().getSpec().getTemplate().getSpec().getContainers().stream()
-                                     .flatMap(c -> c.getEnv().stream())
-                                     .filter(e -> e.getName().equals(environmentVariableName))
-                                     .map(EnvVar::getValue)
-                                     .findAny();
+        for (Container container : getDeploymentConfig().getSpec().getTemplate().getSpec().getContainers()) {
+            EnvVar envVar = getIndexedEnv(container).getByName(environmentVariableName);
+            if (envVar != null) {
+                return Optional.ofNullable(envVar.getValue());
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Set environment variable in all containers of deployment config, variables with the same name are replaced.
+     */
+    public void addOrReplaceEnvironmentVariable(EnvVar envVar) {
+        for (Container container : getDeploymentConfig().getSpec().getTemplate().getSpec().getContainers()) {
+            getIndexedEnv(container).replaceByName(envVar);
+        }
+    }
+
+    /**
+     * Remove environment variable from all containers of deployment config.
+     */
+    public void removeEnvironmentVariable(String environmentVariableName) {
+        for (Container container : getDeploymentConfig().getSpec().getTemplate().getSpec().getContainers()) {
+            getIndexedEnv(container).removeIf(e -> e.getName().equals(environmentVariableName));
+        }
+    }
+
+    // Containers get indexed environment variables on first access, so that also later replaced lists are indexed
+    private static EnvVarList getIndexedEnv(Container container) {
+        if (!(container.getEnv() instanceof EnvVarList)) {
+            container.setEnv(new EnvVarList(container.getEnv() == null ? Collections.emptyList() : container.getEnv()));
+        }
+        return (EnvVarList) container.getEnv();
     }
 }
@@ -0,0 +1,166 @@
+package org.kie.cloud.openshift.deployment;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import io.fabric8.kubernetes.api.model.EnvVar;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.client.utils.Serialization;
+import io.fabric8.openshift.api.model.Parameter;
+
+/**
+ * Creates variants of a built deployment without running its builder again.
+ *
+ * Deployment state is captured when the prototype is created, every variant is an independent deep copy with the
+ * prototype deployment name replaced by the variant name in labels, selectors and names. Names are object names,
+ * container and volume names of the prototype, any other value is renamed only if it is equal to one of these names
+ * (object references such as route target or volume claim name). Other values are copied unchanged.
+ * Every variant gets its own dependency list containing the prototype dependencies.
+ *
+ * @param <T> Deployment type.
+ */
+public class DeploymentPrototype<T extends Deployment> {
+
+    private static final ObjectMapper MAPPER = Serialization.jsonMapper();
+    // Values of these fields are renamed as a whole, "id" is template object identifier of routes
+    private static final Set<String> RENAMED_FIELDS = new HashSet<>(Arrays.asList("labels", "selector", "matchLabels", "id"));
+    private static final Set<String> NAMED_ELEMENT_FIELDS = new HashSet<>(Arrays.asList("containers", "initContainers", "volumes"));
+
+    private T prototype;
+    private List<CapturedObject> objects = new ArrayList<>();
+    private List<JsonNode> parameters = new ArrayList<>();
+    private List<Deployment> dependencies;
+    private Set<String> names = new HashSet<>();
+
+    public DeploymentPrototype(T prototype) {
+        this.prototype = prototype;
+        for (HasMetadata object : prototype.getObjects()) {
+            JsonNode node = MAPPER.valueToTree(object);
+            objects.add(new CapturedObject(object.getClass(), node));
+            names.add(object.getMetadata().getName());
+            collectElementNames(node);
+        }
+        for (Parameter parameter : prototype.getParameters()) {
+            parameters.add(MAPPER.valueToTree(parameter));
+        }
+        dependencies = new ArrayList<>(prototype.getDependencies());
+    }
+
+    public T createVariant(String deploymentName) {
+        return createVariant(deploymentName, Collections.emptyMap());
+    }
+
+    /**
+     * @param deploymentName Name of the variant deployment.
+     * @param environmentVariables Environment variables to be added to the variant or to replace prototype values.
+     * @return New deployment.
+     */
+    @SuppressWarnings("unchecked")
+    public T createVariant(String deploymentName, Map<String, String> environmentVariables) {
+        T variant = (T) prototype.newEmptyDeployment(deploymentName);
+        String prototypeName = prototype.getDeploymentName();
+        try {
+            for (CapturedObject object : objects) {
+                variant.getObjects().add(MAPPER.treeToValue(rename(object.node, prototypeName, deploymentName, false), object.type));
+            }
+            for (JsonNode parameter : parameters) {
+                variant.getParameters().add(MAPPER.treeToValue(rename(parameter, prototypeName, deploymentName, false), Parameter.class));
+            }
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Error while creating variant " + deploymentName + " of deployment " + prototypeName + ".", e);
+        }
+        variant.getDependencies().addAll(dependencies);
+        for (Entry<String, String> environmentVariable : environmentVariables.entrySet()) {
+            variant.addOrReplaceEnvironmentVariable(new EnvVar(environmentVariable.getKey(), environmentVariable.getValue(), null));
+        }
+        return variant;
+    }
+
+    /**
+     * Create variants in parallel.
+     *
+     * @param environmentVariablesByDeploymentName Environment variables of variants keyed by variant deployment name.
+     * @param pool Pool to create variants in.
+     * @return Variants in iteration order of the map.
+     */
+    public List<T> createVariants(Map<String, Map<String, String>> environmentVariablesByDeploymentName, ForkJoinPool pool) {
+        List<Entry<String, Map<String, String>>> variants = new ArrayList<>(new LinkedHashMap<>(environmentVariablesByDeploymentName).entrySet());
+        // Parallel stream runs in the pool it was started from
+        return pool.submit(() -> variants.parallelStream()
+                                         .map(v -> createVariant(v.getKey(), v.getValue()))
+                                         .collect(Collectors.toList()))
+                   .join();
+    }
+
+    private void collectElementNames(JsonNode node) {
+        Iterator<Entry<String, JsonNode>> fields = node.fields();
+        while (fields.hasNext()) {
+            Entry<String, JsonNode> field = fields.next();
+            if (NAMED_ELEMENT_FIELDS.contains(field.getKey()) && field.getValue().isArray()) {
+                for (JsonNode element : field.getValue()) {
+                    if (element.path("name").isTextual()) {
+                        names.add(element.get("name").asText());
+                    }
+                }
+            }
+            collectElementNames(field.getValue());
+        }
+        if (node.isArray()) {
+            for (JsonNode element : node) {
+                collectElementNames(element);
+            }
+        }
+    }
+
+    private JsonNode rename(JsonNode node, String target, String replacement, boolean renamedField) {
+        if (node.isTextual()) {
+            String text = node.asText();
+            boolean renamed = renamedField || names.contains(text);
+            return renamed && text.contains(target) ? TextNode.valueOf(text.replace(target, replacement)) : node;
+        }
+        if (node.isObject()) {
+            ObjectNode copy = MAPPER.createObjectNode();
+            Iterator<Entry<String, JsonNode>> fields = node.fields();
+            while (fields.hasNext()) {
+                Entry<String, JsonNode> field = fields.next();
+                copy.set(field.getKey(), rename(field.getValue(), target, replacement, renamedField || RENAMED_FIELDS.contains(field.getKey())));
+            }
+            return copy;
+        }
+        if (node.isArray()) {
+            ArrayNode copy = MAPPER.createArrayNode();
+            for (JsonNode element : node) {
+                copy.add(rename(element, target, replacement, renamedField));
+            }
+            return copy;
+        }
+        return node;
+    }
+
+    private static class CapturedObject {
+
+        private Class<? extends HasMetadata> type;
+        private JsonNode node;
+
+        private CapturedObject(Class<? extends HasMetadata> type, JsonNode node) {
+            this.type = type;
+            this.node = node;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package org.kie.cloud.openshift.deployment;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+import io.fabric8.kubernetes.api.model.EnvVar;
+
+/**
+ * Container environment variables indexed by name.
+ *
+ * Index is updated on every list mutation, the first variable wins if there are more variables with the same name.
+ */
+class EnvVarList extends AbstractList<EnvVar> implements RandomAccess {
+
+    private List<EnvVar> envVars = new ArrayList<>();
+    private Map<String, EnvVar> envVarsByName = new HashMap<>();
+
+    EnvVarList(Collection<EnvVar> envVars) {
+        addAll(envVars);
+    }
+
+    @Override
+    public EnvVar get(int index) {
+        return envVars.get(index);
+    }
+
+    @Override
+    public int size() {
+        return envVars.size();
+    }
+
+    @Override
+    public void add(int index, EnvVar envVar) {
+        envVars.add(index, envVar);
+        if (index == envVars.size() - 1) {
+            envVarsByName.putIfAbsent(envVar.getName(), envVar);
+        } else {
+            reindex(envVar.getName());
+        }
+    }
+
+    @Override
+    public EnvVar set(int index, EnvVar envVar) {
+        EnvVar replacedEnvVar = envVars.set(index, envVar);
+        reindex(replacedEnvVar.getName());
+        reindex(envVar.getName());
+        return replacedEnvVar;
+    }
+
+    @Override
+    public EnvVar remove(int index) {
+        EnvVar removedEnvVar = envVars.remove(index);
+        if (envVarsByName.get(removedEnvVar.getName()) == removedEnvVar) {
+            reindex(removedEnvVar.getName());
+        }
+        return removedEnvVar;
+    }
+
+    @Override
+    public void clear() {
+        envVars.clear();
+        envVarsByName.clear();
+    }
+
+    EnvVar getByName(String name) {
+        return envVarsByName.get(name);
+    }
+
+    /**
+     * Remove all variables with the same name as the variable and append the variable to the end of the list.
+     */
+    void replaceByName(EnvVar envVar) {
+        if (envVarsByName.containsKey(envVar.getName())) {
+            envVars.removeIf(e -> e.getName().equals(envVar.getName()));
+        }
+        envVars.add(envVar);
+        envVarsByName.put(envVar.getName(), envVar);
+    }
+
+    private void reindex(String name) {
+        envVarsByName.remove(name);
+        envVars.stream().filter(e -> e.getName().equals(name)).findFirst().ifPresent(e -> envVarsByName.put(name, e));
+    }
+}
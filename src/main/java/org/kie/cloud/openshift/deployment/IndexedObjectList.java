@@ -0,0 +1,89 @@
+package org.kie.cloud.openshift.deployment;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+
+/**
+ * List of deployment objects which keeps its objects indexed by type.
+ *
+ * Index is updated on every list mutation, so objects of a given type are available without scanning the whole list.
+ */
+class IndexedObjectList extends AbstractList<HasMetadata> implements RandomAccess {
+
+    private List<HasMetadata> objects = new ArrayList<>();
+    private Map<Class<?>, List<HasMetadata>> objectsByType = new HashMap<>();
+
+    @Override
+    public HasMetadata get(int index) {
+        return objects.get(index);
+    }
+
+    @Override
+    public int size() {
+        return objects.size();
+    }
+
+    @Override
+    public void add(int index, HasMetadata object) {
+        objects.add(index, object);
+        index(object);
+    }
+
+    @Override
+    public HasMetadata set(int index, HasMetadata object) {
+        HasMetadata replacedObject = objects.set(index, object);
+        unindex(replacedObject);
+        index(object);
+        return replacedObject;
+    }
+
+    @Override
+    public HasMetadata remove(int index) {
+        HasMetadata removedObject = objects.remove(index);
+        unindex(removedObject);
+        return removedObject;
+    }
+
+    @Override
+    public void clear() {
+        objects.clear();
+        objectsByType.clear();
+    }
+
+    /**
+     * @return Objects of the type in list order.
+     */
+    @SuppressWarnings("unchecked")
+    <T extends HasMetadata> List<T> getObjectsOfType(Class<T> type) {
+        List<HasMetadata> typedObjects = objectsByType.getOrDefault(type, Collections.emptyList());
+        return Collections.unmodifiableList((List<T>) typedObjects);
+    }
+
+    // Objects of the same type are kept in list order, so the type index is rebuilt when an object is inserted in between
+    private void index(HasMetadata object) {
+        List<HasMetadata> typedObjects = objectsByType.computeIfAbsent(object.getClass(), k -> new ArrayList<>());
+        if (typedObjects.isEmpty() || objects.get(objects.size() - 1) == object) {
+            typedObjects.add(object);
+        } else {
+            typedObjects.clear();
+            objects.stream().filter(o -> o.getClass() == object.getClass()).forEach(typedObjects::add);
+        }
+    }
+
+    private void unindex(HasMetadata object) {
+        List<HasMetadata> typedObjects = objectsByType.get(object.getClass());
+        for (int i = 0; i < typedObjects.size(); i++) {
+            if (typedObjects.get(i) == object) {
+                typedObjects.remove(i);
+                break;
+            }
+        }
+    }
+}
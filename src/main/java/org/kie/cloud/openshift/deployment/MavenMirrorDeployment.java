@@ -0,0 +1,26 @@
+package org.kie.cloud.openshift.deployment;
+
+import io.fabric8.kubernetes.api.model.Service;
+
+public class MavenMirrorDeployment extends Deployment {
+
+    // Repository group of Nexus proxying Maven Central by default
+    private static final String MIRROR_PATH = "/repository/maven-public/";
+
+    public MavenMirrorDeployment(String deploymentName) {
+        super(deploymentName);
+    }
+
+    @Override
+    MavenMirrorDeployment newEmptyDeployment(String deploymentName) {
+        return new MavenMirrorDeployment(deploymentName);
+    }
+
+    /**
+     * @return URL of the mirror repository accessible from the project.
+     */
+    public String getMirrorUrl() {
+        Service service = getServices().get(0);
+        return "http://" + service.getMetadata().getName() + ":" + service.getSpec().getPorts().get(0).getPort() + MIRROR_PATH;
+    }
+}
@@ -7,4 +7,9 @@ public class MySqlDeployment extends Deployment {
         super(deploymentName);
     }
 
+    @Override
+    MySqlDeployment newEmptyDeployment(String deploymentName) {
+        return new MySqlDeployment(deploymentName);
+    }
+
 }
@@ -7,4 +7,9 @@ public class PostgreSqlDeployment extends Deployment {
         super(deploymentName);
     }
 
+    @Override
+    PostgreSqlDeployment newEmptyDeployment(String deploymentName) {
+        return new PostgreSqlDeployment(deploymentName);
+    }
+
 }
@@ -0,0 +1,79 @@
+package org.kie.cloud.openshift.project;
+
+import java.net.HttpURLConnection;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.openshift.api.model.ProjectRequest;
+import io.fabric8.openshift.api.model.ProjectRequestBuilder;
+import io.fabric8.openshift.client.OpenShiftClient;
+
+/**
+ * Creates projects which don't exist yet.
+ *
+ * Projects are looked up by name, existing projects are remembered for a short time so repeated installations into
+ * the same project don't query the cluster. Project created concurrently by somebody else is considered existing if it
+ * is accessible.
+ */
+public class ProjectCreator {
+
+    private enum ProjectState {
+        EXISTING, MISSING, FORBIDDEN
+    }
+
+    private final Duration existenceCacheTtl;
+    private final Map<String, Instant> existingProjects = new ConcurrentHashMap<>();
+
+    /**
+     * @param existenceCacheTtl How long is a project considered existing after it was found or created.
+     */
+    public ProjectCreator(Duration existenceCacheTtl) {
+        this.existenceCacheTtl = existenceCacheTtl;
+    }
+
+    public void createProjectIfNotExists(OpenShiftClient openShiftClient, String projectName) {
+        String key = openShiftClient.getMasterUrl() + "/" + projectName;
+        Instant now = Instant.now();
+        Instant expiry = existingProjects.get(key);
+        if (expiry != null && now.isBefore(expiry)) {
+            return;
+        }
+
+        ProjectState state = getProjectState(openShiftClient, projectName);
+        if (state != ProjectState.EXISTING) {
+            createProject(openShiftClient, projectName, state);
+        }
+        existingProjects.values().removeIf(now::isAfter);
+        existingProjects.put(key, now.plus(existenceCacheTtl));
+    }
+
+    private static ProjectState getProjectState(OpenShiftClient openShiftClient, String projectName) {
+        try {
+            return openShiftClient.projects().withName(projectName).get() != null ? ProjectState.EXISTING : ProjectState.MISSING;
+        } catch (KubernetesClientException e) {
+            // Projects which the user can't access are reported as forbidden, even if they don't exist
+            if (e.getCode() == HttpURLConnection.HTTP_FORBIDDEN) {
+                return ProjectState.FORBIDDEN;
+            }
+            throw e;
+        }
+    }
+
+    private static void createProject(OpenShiftClient openShiftClient, String projectName, ProjectState state) {
+        ProjectRequest projectRequest = new ProjectRequestBuilder().withNewMetadata().withName(projectName).endMetadata().build();
+        try {
+            openShiftClient.projectrequests().create(projectRequest);
+        } catch (KubernetesClientException e) {
+            if (e.getCode() != HttpURLConnection.HTTP_CONFLICT) {
+                throw e;
+            }
+            // Project was created in the meantime, unless it was forbidden before - then it may be project of somebody else
+            if (state == ProjectState.FORBIDDEN && getProjectState(openShiftClient, projectName) != ProjectState.EXISTING) {
+                throw new RuntimeException("Project " + projectName + " exists but is not accessible.", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,255 @@
+package org.kie.cloud.openshift.readiness;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiPredicate;
+import java.util.function.BooleanSupplier;
+
+import io.fabric8.kubernetes.api.model.Endpoints;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.kubernetes.client.Watcher.Action;
+import io.fabric8.kubernetes.client.dsl.Watchable;
+import io.fabric8.openshift.api.model.DeploymentConfig;
+import io.fabric8.openshift.api.model.DeploymentConfigStatus;
+import io.fabric8.openshift.api.model.Route;
+import io.fabric8.openshift.client.OpenShiftClient;
+
+/**
+ * Waits for OpenShift objects to become ready.
+ *
+ * Object states are observed using watches, so waiting ends as soon as the readiness event is received. A watch closed
+ * by the server (e.g. on its timeout or when the resource version expires) is opened again and the current state is
+ * fetched again, so no event is lost. Routes are checked by HTTP requests, retried with exponential backoff.
+ */
+public class ReadinessWaiter {
+
+    private static final Duration DEFAULT_TIMEOUT = Duration.ofMinutes(5);
+    private static final Duration DEFAULT_INITIAL_BACKOFF = Duration.ofMillis(100);
+    private static final Duration DEFAULT_MAX_BACKOFF = Duration.ofSeconds(5);
+    private static final int HTTP_TIMEOUT_MILLIS = 5000;
+
+    private OpenShiftClient openShiftClient;
+    private String projectName;
+    private Duration timeout = DEFAULT_TIMEOUT;
+    private Duration initialBackoff = DEFAULT_INITIAL_BACKOFF;
+    private Duration maxBackoff = DEFAULT_MAX_BACKOFF;
+
+    public ReadinessWaiter(OpenShiftClient openShiftClient, String projectName) {
+        this.openShiftClient = openShiftClient;
+        this.projectName = projectName;
+    }
+
+    public ReadinessWaiter withTimeout(Duration timeout) {
+        this.timeout = timeout;
+        return this;
+    }
+
+    /**
+     * Set delays between HTTP availability checks and between reopening of watches closed by the server, the delay is
+     * doubled after every unsuccessful attempt.
+     *
+     * @param initialBackoff Delay after the first unsuccessful attempt.
+     * @param maxBackoff Upper bound of the delay.
+     * @return Waiter
+     */
+    public ReadinessWaiter withHttpBackoff(Duration initialBackoff, Duration maxBackoff) {
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        return this;
+    }
+
+    public void waitUntilDeploymentConfigReady(String deploymentConfigName) {
+        waitUntil("deployment config " + deploymentConfigName,
+                  openShiftClient.deploymentConfigs().inNamespace(projectName).withName(deploymentConfigName),
+                  () -> isDeploymentConfigReady(openShiftClient.deploymentConfigs().inNamespace(projectName).withName(deploymentConfigName).get()),
+                  (action, deploymentConfig) -> action != Action.DELETED && isDeploymentConfigReady(deploymentConfig));
+    }
+
+    /**
+     * Wait until expected number of pods belonging to the deployment config is ready.
+     *
+     * Deployment config readiness is computed by the controller from readiness of its pods, so waiting for the deployment
+     * config is usually sufficient. Waiting for pods is useful when just some of the pods have to be ready.
+     *
+     * @param deploymentConfigName Name of deployment config owning the pods.
+     * @param expectedReadyPods Number of pods which have to be ready.
+     */
+    public void waitUntilPodsReady(String deploymentConfigName, int expectedReadyPods) {
+        // Pod events just trigger counting of ready pods in the current list, so the count doesn't depend on order of events and list
+        waitUntil("pods of deployment config " + deploymentConfigName,
+                  openShiftClient.pods().inNamespace(projectName).withLabel("deploymentConfig", deploymentConfigName),
+                  () -> countReadyPods(deploymentConfigName) >= expectedReadyPods,
+                  (action, pod) -> countReadyPods(deploymentConfigName) >= expectedReadyPods);
+    }
+
+    private long countReadyPods(String deploymentConfigName) {
+        return openShiftClient.pods().inNamespace(projectName).withLabel("deploymentConfig", deploymentConfigName).list().getItems()
+                              .stream()
+                              .filter(ReadinessWaiter::isPodReady)
+                              .count();
+    }
+
+    public void waitUntilEndpointsReady(String serviceName) {
+        waitUntil("endpoints of service " + serviceName,
+                  openShiftClient.endpoints().inNamespace(projectName).withName(serviceName),
+                  () -> hasReadyAddress(openShiftClient.endpoints().inNamespace(projectName).withName(serviceName).get()),
+                  (action, endpoints) -> action != Action.DELETED && hasReadyAddress(endpoints));
+    }
+
+    /**
+     * Wait until all routes in the project respond with other status than 503 (Service Unavailable).
+     */
+    public void waitUntilRoutesAvailable() {
+        Instant deadline = Instant.now().plus(timeout);
+        for (Route route : openShiftClient.routes().inNamespace(projectName).list().getItems()) {
+            waitUntilRouteAvailable(route, deadline);
+        }
+    }
+
+    private void waitUntilRouteAvailable(Route route, Instant deadline) {
+        Duration backoff = initialBackoff;
+        while (!isRouteAvailable(route)) {
+            Duration remaining = Duration.between(Instant.now(), deadline);
+            if (remaining.isNegative() || remaining.isZero()) {
+                throw new RuntimeException("Timeout while waiting for route " + route.getMetadata().getName() + " to become available.");
+            }
+            sleep(backoff.compareTo(remaining) < 0 ? backoff : remaining, "route " + route.getMetadata().getName());
+            backoff = backoff.multipliedBy(2).compareTo(maxBackoff) < 0 ? backoff.multipliedBy(2) : maxBackoff;
+        }
+    }
+
+    private boolean isRouteAvailable(Route route) {
+        HttpURLConnection connection = null;
+        try {
+            URL url = new URL("http://" + route.getSpec().getHost());
+            connection = (HttpURLConnection) url.openConnection();
+            connection.setReadTimeout(HTTP_TIMEOUT_MILLIS);
+            connection.setConnectTimeout(HTTP_TIMEOUT_MILLIS);
+            connection.connect();
+            return connection.getResponseCode() != HttpURLConnection.HTTP_UNAVAILABLE;
+        } catch (IOException e) {
+            return false;
+        } finally {
+            if (connection != null) {
+                connection.disconnect();
+            }
+        }
+    }
+
+    private <T> void waitUntil(String description, Watchable<Watch, Watcher<T>> watchable, BooleanSupplier currentStateReady, BiPredicate<Action, T> eventReady) {
+        Instant deadline = Instant.now().plus(timeout);
+        Duration backoff = initialBackoff;
+        AtomicReference<KubernetesClientException> closeCause = new AtomicReference<>();
+        while (!watchUntil(description, watchable, currentStateReady, eventReady, deadline, closeCause)) {
+            // Watch was closed by the server, it is opened again after backoff to not flood the server if closing repeats
+            Duration remaining = Duration.between(Instant.now(), deadline);
+            if (remaining.isNegative() || remaining.isZero()) {
+                throw new RuntimeException("Timeout while waiting for " + description + " to become ready.", closeCause.get());
+            }
+            sleep(backoff.compareTo(remaining) < 0 ? backoff : remaining, description);
+            backoff = backoff.multipliedBy(2).compareTo(maxBackoff) < 0 ? backoff.multipliedBy(2) : maxBackoff;
+        }
+    }
+
+    /**
+     * @return True if the object became ready, false if the watch was closed before.
+     */
+    private <T> boolean watchUntil(String description, Watchable<Watch, Watcher<T>> watchable, BooleanSupplier currentStateReady, BiPredicate<Action, T> eventReady,
+                                   Instant deadline, AtomicReference<KubernetesClientException> closeCause) {
+        CountDownLatch finished = new CountDownLatch(1);
+        AtomicBoolean ready = new AtomicBoolean(false);
+
+        Watch watch = watchable.watch(new Watcher<T>() {
+
+            @Override
+            public void eventReceived(Action action, T resource) {
+                if (eventReady.test(action, resource)) {
+                    ready.set(true);
+                    finished.countDown();
+                }
+            }
+
+            @Override
+            public void onClose(KubernetesClientException cause) {
+                closeCause.set(cause);
+                finished.countDown();
+            }
+        });
+
+        try {
+            // Object could become ready before the watch was opened or while it was closed
+            if (currentStateReady.getAsBoolean()) {
+                return true;
+            }
+            Duration remaining = Duration.between(Instant.now(), deadline);
+            if (remaining.isNegative() || !finished.await(remaining.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new RuntimeException("Timeout while waiting for " + description + " to become ready.", closeCause.get());
+            }
+            return ready.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for " + description + " to become ready.", e);
+        } finally {
+            watch.close();
+        }
+    }
+
+    /**
+     * Deployment config is ready when its latest spec was observed by the controller and the latest rollout finished,
+     * i.e. all desired replicas belong to the latest rollout and are ready. Pods of a previous rollout don't count,
+     * so waiting after an update doesn't end before the updated pods are ready.
+     */
+    private static boolean isDeploymentConfigReady(DeploymentConfig deploymentConfig) {
+        if (deploymentConfig == null || deploymentConfig.getSpec() == null || deploymentConfig.getStatus() == null) {
+            return false;
+        }
+        DeploymentConfigStatus status = deploymentConfig.getStatus();
+        long generation = valueOf(deploymentConfig.getMetadata().getGeneration());
+        if (valueOf(status.getObservedGeneration()) < generation) {
+            return false;
+        }
+        int replicas = deploymentConfig.getSpec().getReplicas() == null ? 1 : deploymentConfig.getSpec().getReplicas();
+        int updatedReplicas = valueOf(status.getUpdatedReplicas());
+        return updatedReplicas >= replicas &&
+               valueOf(status.getReadyReplicas()) >= replicas &&
+               // Pods of previous rollout are scaled down
+               valueOf(status.getReplicas()) <= updatedReplicas;
+    }
+
+    private static boolean isPodReady(Pod pod) {
+        return pod.getStatus() != null && pod.getStatus().getConditions() != null &&
+               pod.getStatus().getConditions().stream().anyMatch(c -> "Ready".equals(c.getType()) && "True".equals(c.getStatus()));
+    }
+
+    private static int valueOf(Integer value) {
+        return value == null ? 0 : value;
+    }
+
+    private static long valueOf(Long value) {
+        return value == null ? 0 : value;
+    }
+
+    private static boolean hasReadyAddress(Endpoints endpoints) {
+        return endpoints != null && endpoints.getSubsets() != null &&
+               endpoints.getSubsets().stream().anyMatch(s -> s.getAddresses() != null && !s.getAddresses().isEmpty());
+    }
+
+    private static void sleep(Duration duration, String description) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for " + description + ".", e);
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package org.kie.cloud.openshift.rollout;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.HorizontalPodAutoscaler;
+import io.fabric8.kubernetes.api.model.KubernetesResourceList;
+import io.fabric8.kubernetes.api.model.PersistentVolumeClaim;
+import io.fabric8.kubernetes.api.model.Service;
+import io.fabric8.kubernetes.api.model.ServiceAccount;
+import io.fabric8.kubernetes.client.dsl.MixedOperation;
+import io.fabric8.kubernetes.client.dsl.Resource;
+import io.fabric8.kubernetes.client.utils.Serialization;
+import io.fabric8.openshift.api.model.DeploymentConfig;
+import io.fabric8.openshift.api.model.DeploymentTriggerPolicy;
+import io.fabric8.openshift.api.model.RoleBinding;
+import io.fabric8.openshift.api.model.Route;
+import io.fabric8.openshift.client.OpenShiftClient;
+
+/**
+ * Applies processed objects to a project which may already contain them.
+ *
+ * Live objects are fetched by the "service" and "application" labels of desired objects (by name for objects without
+ * these labels). Missing objects are created, existing objects are patched only if their state differs from the
+ * desired one, so unchanged deployment configs don't trigger a new rollout.
+ */
+class ObjectApplier {
+
+    private static final List<String> SELECTOR_LABELS = Arrays.asList("service", "application");
+
+    enum Result {
+        CREATED, PATCHED, UNCHANGED
+    }
+
+    private OpenShiftClient openShiftClient;
+    private String projectName;
+
+    ObjectApplier(OpenShiftClient openShiftClient, String projectName) {
+        this.openShiftClient = openShiftClient;
+        this.projectName = projectName;
+    }
+
+    /**
+     * @return Results of apply, in the same order as the objects.
+     */
+    List<Result> apply(List<HasMetadata> objects) {
+        Map<String, HasMetadata> liveObjects = fetchLiveObjects(objects);
+        List<Result> results = new ArrayList<>();
+        for (HasMetadata object : objects) {
+            results.add(apply(object, liveObjects.get(getKey(object))));
+        }
+        return results;
+    }
+
+    private Result apply(HasMetadata desired, HasMetadata live) {
+        if (live == null) {
+            getOperation(desired).inNamespace(projectName).create(desired);
+            return Result.CREATED;
+        }
+
+        ObjectMapper mapper = Serialization.jsonMapper();
+        ObjectNode desiredNode = mapper.valueToTree(desired);
+        ObjectNode liveNode = mapper.valueToTree(live);
+        omitServerAssignedValues(desired, desiredNode, liveNode);
+
+        Optional<ObjectNode> merged = ObjectDiff.merge(desiredNode, liveNode);
+        if (!merged.isPresent()) {
+            return Result.UNCHANGED;
+        }
+        try {
+            HasMetadata patched = mapper.treeToValue(merged.get(), live.getClass());
+            // Patch is computed against the live object, so it contains just the differing fields
+            getOperation(desired).inNamespace(projectName).withName(desired.getMetadata().getName()).patch(patched);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Error while patching " + desired.getKind() + " " + desired.getMetadata().getName() + ".", e);
+        }
+        return Result.PATCHED;
+    }
+
+    private Map<String, HasMetadata> fetchLiveObjects(List<HasMetadata> objects) {
+        Map<String, HasMetadata> liveObjects = new HashMap<>();
+        Set<String> listedSelectors = new HashSet<>();
+        for (HasMetadata object : objects) {
+            Map<String, String> selector = getSelector(object);
+            if (selector.isEmpty()) {
+                HasMetadata live = getOperation(object).inNamespace(projectName).withName(object.getMetadata().getName()).get();
+                if (live != null && live.getMetadata() != null && getKey(object).equals(getKey(live))) {
+                    liveObjects.put(getKey(live), live);
+                }
+            } else if (listedSelectors.add(object.getKind() + selector)) {
+                for (HasMetadata live : getOperation(object).inNamespace(projectName).withLabels(selector).list().getItems()) {
+                    if (object.getKind().equals(live.getKind())) {
+                        liveObjects.put(getKey(live), live);
+                    }
+                }
+            }
+        }
+        return liveObjects;
+    }
+
+    private static Map<String, String> getSelector(HasMetadata object) {
+        Map<String, String> selector = new TreeMap<>();
+        Map<String, String> labels = object.getMetadata().getLabels();
+        if (labels != null) {
+            SELECTOR_LABELS.stream().filter(labels::containsKey).forEach(l -> selector.put(l, labels.get(l)));
+        }
+        return selector;
+    }
+
+    private static String getKey(HasMetadata object) {
+        return object.getKind() + "/" + object.getMetadata().getName();
+    }
+
+    /**
+     * Keep values which are populated by the server on purpose, otherwise every apply would revert them.
+     */
+    private static void omitServerAssignedValues(HasMetadata desired, ObjectNode desiredNode, JsonNode liveNode) {
+        if (desired instanceof DeploymentConfig) {
+            // Images of containers with image change trigger are resolved to image stream image references
+            Set<String> triggeredContainers = new HashSet<>();
+            List<DeploymentTriggerPolicy> triggers = ((DeploymentConfig) desired).getSpec().getTriggers();
+            if (triggers != null) {
+                triggers.stream().filter(t -> t.getImageChangeParams() != null)
+                                 .forEach(t -> triggeredContainers.addAll(t.getImageChangeParams().getContainerNames()));
+            }
+            JsonNode liveContainers = liveNode.at("/spec/template/spec/containers");
+            for (JsonNode desiredContainer : desiredNode.at("/spec/template/spec/containers")) {
+                String containerName = desiredContainer.path("name").asText();
+                if (triggeredContainers.contains(containerName)) {
+                    for (JsonNode liveContainer : liveContainers) {
+                        if (containerName.equals(liveContainer.path("name").asText()) && liveContainer.has("image")) {
+                            ((ObjectNode) desiredContainer).set("image", liveContainer.get("image"));
+                        }
+                    }
+                }
+            }
+        } else if (desired instanceof Route) {
+            // Empty host is generated by the router
+            JsonNode desiredSpec = desiredNode.path("spec");
+            if (desiredSpec.isObject() && desiredSpec.path("host").asText().isEmpty()) {
+                ((ObjectNode) desiredSpec).remove("host");
+            }
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private MixedOperation<HasMetadata, KubernetesResourceList<HasMetadata>, ?, Resource<HasMetadata, ?>> getOperation(HasMetadata object) {
+        MixedOperation operation;
+        if (object instanceof DeploymentConfig) {
+            operation = openShiftClient.deploymentConfigs();
+        } else if (object instanceof Service) {
+            operation = openShiftClient.services();
+        } else if (object instanceof Route) {
+            operation = openShiftClient.routes();
+        } else if (object instanceof PersistentVolumeClaim) {
+            operation = openShiftClient.persistentVolumeClaims();
+        } else if (object instanceof ServiceAccount) {
+            operation = openShiftClient.serviceAccounts();
+        } else if (object instanceof RoleBinding) {
+            operation = openShiftClient.roleBindings();
+        } else if (object instanceof HorizontalPodAutoscaler) {
+            operation = openShiftClient.autoscaling().horizontalPodAutoscalers();
+        } else {
+            throw new RuntimeException("Applying objects of kind " + object.getKind() + " is not supported.");
+        }
+        return operation;
+    }
+}
@@ -0,0 +1,115 @@
+package org.kie.cloud.openshift.rollout;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.Set;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Structural comparison of desired and live object state.
+ *
+ * Only fields defined in desired state are compared, fields populated by the server (status, defaulted values,
+ * resource version) are ignored. Null desired values are handled the same way as omitted fields. Other empty desired
+ * values (empty string, object or array) match only empty or missing live values as the server omits them, so a live
+ * value can be cleared. Exception are empty annotations and labels, these are populated by the server and other tools.
+ */
+final class ObjectDiff {
+
+    private static final Set<String> SERVER_POPULATED_FIELDS = new HashSet<>(Arrays.asList("annotations", "labels"));
+
+    private ObjectDiff() {
+        // Utility class
+    }
+
+    /**
+     * @param desired Desired object state.
+     * @param live Live object state as returned by the server.
+     * @return Copy of live state with differing desired fields applied, empty if live state already matches desired state.
+     */
+    static Optional<ObjectNode> merge(ObjectNode desired, ObjectNode live) {
+        ObjectNode merged = live.deepCopy();
+        return mergeInto(desired, merged) ? Optional.of(merged) : Optional.empty();
+    }
+
+    static boolean matches(JsonNode desired, JsonNode live) {
+        if (desired == null || desired.isNull()) {
+            return true;
+        }
+        if (isEmpty(desired)) {
+            return isEmpty(live);
+        }
+        if (live == null) {
+            return false;
+        }
+        if (desired.isObject()) {
+            if (!live.isObject()) {
+                return false;
+            }
+            Iterator<Entry<String, JsonNode>> fields = desired.fields();
+            while (fields.hasNext()) {
+                Entry<String, JsonNode> field = fields.next();
+                if (!matchesField(field.getKey(), field.getValue(), live.get(field.getKey()))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (desired.isArray()) {
+            if (!live.isArray() || desired.size() != live.size()) {
+                return false;
+            }
+            for (int i = 0; i < desired.size(); i++) {
+                if (!matches(desired.get(i), live.get(i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (desired.isNumber() && live.isNumber()) {
+            return desired.decimalValue().compareTo(live.decimalValue()) == 0;
+        }
+        return desired.equals(live);
+    }
+
+    // Nested objects are merged field by field, other values (including arrays) are replaced as a whole
+    private static boolean mergeInto(JsonNode desired, ObjectNode merged) {
+        boolean changed = false;
+        Iterator<Entry<String, JsonNode>> fields = desired.fields();
+        while (fields.hasNext()) {
+            Entry<String, JsonNode> field = fields.next();
+            JsonNode liveValue = merged.get(field.getKey());
+            if (matchesField(field.getKey(), field.getValue(), liveValue)) {
+                continue;
+            }
+            if (field.getValue().isObject() && liveValue != null && liveValue.isObject()) {
+                changed |= mergeInto(field.getValue(), (ObjectNode) liveValue);
+            } else {
+                merged.set(field.getKey(), field.getValue().deepCopy());
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+    private static boolean matchesField(String name, JsonNode desired, JsonNode live) {
+        if (SERVER_POPULATED_FIELDS.contains(name) && isEmpty(desired)) {
+            return true;
+        }
+        return matches(desired, live);
+    }
+
+    private static boolean isEmpty(JsonNode node) {
+        if (node == null || node.isNull()) {
+            return true;
+        }
+        if (node.isContainerNode()) {
+            return node.size() == 0;
+        }
+        return node.isTextual() && node.asText().isEmpty();
+    }
+}
@@ -0,0 +1,191 @@
+package org.kie.cloud.openshift.rollout;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.KubernetesList;
+import io.fabric8.kubernetes.api.model.KubernetesListBuilder;
+import io.fabric8.kubernetes.api.model.Service;
+import io.fabric8.openshift.api.model.DeploymentConfig;
+import io.fabric8.openshift.client.OpenShiftClient;
+import org.kie.cloud.openshift.configuration.ConfigurationLoader;
+import org.kie.cloud.openshift.deployment.Deployment;
+import org.kie.cloud.openshift.readiness.ReadinessWaiter;
+import org.kie.cloud.openshift.scenario.Scenario;
+
+/**
+ * Rolls out processed scenario objects deployment by deployment.
+ *
+ * Deployments without mutual dependencies are created concurrently, dependent deployments are created once all
+ * of their dependencies are ready.
+ */
+public class ScenarioRollout {
+
+    private OpenShiftClient openShiftClient;
+    private String projectName;
+    private int parallelism = ConfigurationLoader.getRolloutParallelism();
+    private Duration readinessTimeout = ConfigurationLoader.getRolloutReadinessTimeout();
+    private boolean incrementalApply = false;
+
+    public ScenarioRollout(OpenShiftClient openShiftClient, String projectName) {
+        this.openShiftClient = openShiftClient;
+        this.projectName = projectName;
+    }
+
+    public ScenarioRollout withParallelism(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Rollout parallelism must be positive, was " + parallelism + ".");
+        }
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    public ScenarioRollout withReadinessTimeout(Duration readinessTimeout) {
+        this.readinessTimeout = readinessTimeout;
+        return this;
+    }
+
+    /**
+     * Apply objects to the project instead of creating them, objects which already exist are patched only if they differ.
+     *
+     * @param incrementalApply True to apply objects incrementally.
+     * @return Rollout
+     */
+    public ScenarioRollout withIncrementalApply(boolean incrementalApply) {
+        this.incrementalApply = incrementalApply;
+        return this;
+    }
+
+    /**
+     * Create processed scenario objects in the project.
+     *
+     * @param scenario Scenario the objects were processed from.
+     * @param processedObjects Scenario template processed with parameters, objects are expected in the same order as in the scenario.
+     */
+    public void rollout(Scenario scenario, KubernetesList processedObjects) {
+        Map<Deployment, List<HasMetadata>> deploymentObjects = splitByDeployment(scenario, processedObjects.getItems());
+        List<Deployment> orderedDeployments = orderByDependencies(scenario.getDeployments());
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, Math.max(orderedDeployments.size(), 1)));
+        try {
+            Map<Deployment, CompletableFuture<Void>> rollouts = new HashMap<>();
+            for (Deployment deployment : orderedDeployments) {
+                CompletableFuture<?>[] prerequisites = getScenarioDependencies(deployment, deploymentObjects.keySet()).stream()
+                                                                                                                  .map(rollouts::get)
+                                                                                                                  .toArray(CompletableFuture[]::new);
+                boolean hasDependents = hasDependents(deployment, orderedDeployments);
+                CompletableFuture<Void> rollout = CompletableFuture.allOf(prerequisites).thenRunAsync(() -> {
+                    List<HasMetadata> objects = deploymentObjects.get(deployment);
+                    if (incrementalApply) {
+                        applyObjects(deployment, objects);
+                    } else {
+                        createObjects(deployment, objects);
+                    }
+                    if (hasDependents) {
+                        waitUntilReady(deployment, objects);
+                    }
+                }, executor);
+                rollouts.put(deployment, rollout);
+            }
+            CompletableFuture.allOf(rollouts.values().toArray(new CompletableFuture[0])).join();
+        } catch (CompletionException e) {
+            throw new RuntimeException("Error while rolling out scenario into project " + projectName + ".", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    protected void createObjects(Deployment deployment, List<HasMetadata> objects) {
+        if (objects.isEmpty()) {
+            return;
+        }
+        KubernetesList resourceList = new KubernetesListBuilder().withItems(objects).build();
+        openShiftClient.lists().inNamespace(projectName).create(resourceList);
+    }
+
+    protected void applyObjects(Deployment deployment, List<HasMetadata> objects) {
+        new ObjectApplier(openShiftClient, projectName).apply(objects);
+    }
+
+    protected void waitUntilReady(Deployment deployment, List<HasMetadata> objects) {
+        ReadinessWaiter readinessWaiter = new ReadinessWaiter(openShiftClient, projectName).withTimeout(readinessTimeout);
+        for (HasMetadata object : objects) {
+            if (object instanceof DeploymentConfig) {
+                readinessWaiter.waitUntilDeploymentConfigReady(object.getMetadata().getName());
+            }
+        }
+        // Dependents connect through services, make sure they already route to ready pods
+        for (HasMetadata object : objects) {
+            if (object instanceof Service && !"None".equals(((Service) object).getSpec().getClusterIP())) {
+                readinessWaiter.waitUntilEndpointsReady(object.getMetadata().getName());
+            }
+        }
+    }
+
+    /**
+     * Assign processed objects back to their deployments, template processing keeps objects in scenario order.
+     */
+    private Map<Deployment, List<HasMetadata>> splitByDeployment(Scenario scenario, List<HasMetadata> processedObjects) {
+        int expectedObjectCount = scenario.getDeployments().stream().mapToInt(d -> d.getObjects().size()).sum();
+        if (expectedObjectCount != processedObjects.size()) {
+            throw new RuntimeException("Processed template contains " + processedObjects.size() + " objects, expected " + expectedObjectCount + ".");
+        }
+
+        Map<Deployment, List<HasMetadata>> deploymentObjects = new HashMap<>();
+        int offset = 0;
+        for (Deployment deployment : scenario.getDeployments()) {
+            int objectCount = deployment.getObjects().size();
+            deploymentObjects.put(deployment, new ArrayList<>(processedObjects.subList(offset, offset + objectCount)));
+            offset += objectCount;
+        }
+        return deploymentObjects;
+    }
+
+    /**
+     * @return Deployments sorted so that every deployment is preceded by its dependencies.
+     */
+    static List<Deployment> orderByDependencies(List<Deployment> deployments) {
+        Set<Deployment> scenarioDeployments = new LinkedHashSet<>(deployments);
+        Set<Deployment> ordered = new LinkedHashSet<>();
+        Set<Deployment> visiting = new LinkedHashSet<>();
+        for (Deployment deployment : deployments) {
+            visit(deployment, scenarioDeployments, visiting, ordered);
+        }
+        return new ArrayList<>(ordered);
+    }
+
+    private static void visit(Deployment deployment, Set<Deployment> scenarioDeployments, Set<Deployment> visiting, Set<Deployment> ordered) {
+        if (ordered.contains(deployment)) {
+            return;
+        }
+        if (!visiting.add(deployment)) {
+            throw new RuntimeException("Cyclic dependency detected for deployment " + deployment.getDeploymentName() + ".");
+        }
+        for (Deployment dependency : getScenarioDependencies(deployment, scenarioDeployments)) {
+            visit(dependency, scenarioDeployments, visiting, ordered);
+        }
+        visiting.remove(deployment);
+        ordered.add(deployment);
+    }
+
+    // Dependencies outside of the scenario are expected to be deployed already
+    private static List<Deployment> getScenarioDependencies(Deployment deployment, Set<Deployment> scenarioDeployments) {
+        List<Deployment> dependencies = new ArrayList<>(deployment.getDependencies());
+        dependencies.retainAll(scenarioDeployments);
+        return dependencies;
+    }
+
+    private static boolean hasDependents(Deployment deployment, List<Deployment> deployments) {
+        return deployments.stream().anyMatch(d -> d.getDependencies().contains(deployment));
+    }
+}
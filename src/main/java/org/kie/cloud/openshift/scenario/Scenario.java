@@ -1,21 +1,29 @@
 package org.kie.cloud.openshift.scenario;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.io.Writer;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
 import io.fabric8.kubernetes.api.model.HasMetadata;
-import io.fabric8.kubernetes.api.model.ObjectMeta;
 import io.fabric8.kubernetes.api.model.ObjectMetaBuilder;
-import io.fabric8.kubernetes.client.utils.Serialization;
 import io.fabric8.openshift.api.model.Parameter;
-import io.fabric8.openshift.api.model.Template;
-import io.fabric8.openshift.api.model.TemplateBuilder;
 import org.kie.cloud.openshift.deployment.Deployment;
 
 public class Scenario {
 
+    private static final String TEMPLATE_NAME = "custom-template";
+
     private List<Deployment> deployments = new ArrayList<>();
 
     public void addDeployment(Deployment deployment) {
@@ -27,26 +35,86 @@ public class Scenario {
     }
 
     public String getTemplateAsYaml() {
-        return Serialization.asYaml(getTemplate());
+        StringWriter writer = new StringWriter();
+        writeTemplate(writer, TemplateFormat.YAML);
+        return writer.toString();
     }
 
-    private Template getTemplate() {
-        List<HasMetadata> objects = new ArrayList<>();
-        Map<String, Parameter> parameters = new HashMap<>();
+    /**
+     * @return Template in JSON format, read directly from serialization buffer.
+     */
+    public InputStream getTemplateAsInputStream() {
+        TemplateBuffer buffer = new TemplateBuffer();
+        writeTemplate(buffer, TemplateFormat.JSON);
+        return buffer.toInputStream();
+    }
+
+    /**
+     * Write template to the output stream using UTF-8 encoding, objects are serialized one by one. Output stream is not closed.
+     */
+    public void writeTemplate(OutputStream outputStream, TemplateFormat format) {
+        try {
+            writeTemplate(format.getMapper().getFactory().createGenerator(outputStream, JsonEncoding.UTF8), format);
+        } catch (IOException e) {
+            throw new RuntimeException("Error while writing template.", e);
+        }
+    }
+
+    /**
+     * Write template to the writer, objects are serialized one by one. Writer is not closed.
+     */
+    public void writeTemplate(Writer writer, TemplateFormat format) {
+        try {
+            writeTemplate(format.getMapper().getFactory().createGenerator(writer), format);
+        } catch (IOException e) {
+            throw new RuntimeException("Error while writing template.", e);
+        }
+    }
 
+    private void writeTemplate(JsonGenerator generator, TemplateFormat format) throws IOException {
+        generator.setCodec(format.getMapper());
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        try {
+            generator.writeStartObject();
+            generator.writeStringField("apiVersion", "v1");
+            generator.writeStringField("kind", "Template");
+            generator.writeObjectField("metadata", new ObjectMetaBuilder().withName(TEMPLATE_NAME).build());
+            generator.writeArrayFieldStart("objects");
+            for (Deployment deployment : deployments) {
+                for (HasMetadata object : deployment.getObjects()) {
+                    generator.writeObject(object);
+                }
+            }
+            generator.writeEndArray();
+            generator.writeArrayFieldStart("parameters");
+            for (Parameter parameter : getParameters()) {
+                generator.writeObject(parameter);
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        } finally {
+            generator.close();
+        }
+    }
+
+    /**
+     * @return Template parameters of all deployments, parameters shared by several deployments are listed once.
+     */
+    public Collection<Parameter> getParameters() {
+        Map<String, Parameter> parameters = new HashMap<>();
         for (Deployment deployment : deployments) {
-            objects.addAll(deployment.getObjects());
             for (Parameter parameter : deployment.getParameters()) {
                 parameters.putIfAbsent(parameter.getName(), parameter);
             }
         }
+        return parameters.values();
+    }
 
-        ObjectMeta metadata = new ObjectMetaBuilder().withName("custom-template").build();
-        return new TemplateBuilder().withApiVersion("v1")
-                                    .withKind("Template")
-                                    .withMetadata(metadata)
-                                    .withObjects(objects)
-                                    .withParameters(new ArrayList<>(parameters.values()))
-                                    .build();
+    // Exposes written bytes without copying them
+    private static class TemplateBuffer extends ByteArrayOutputStream {
+
+        private InputStream toInputStream() {
+            return new ByteArrayInputStream(buf, 0, count);
+        }
     }
 }
@@ -0,0 +1,23 @@
+package org.kie.cloud.openshift.scenario;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.fabric8.kubernetes.client.utils.Serialization;
+
+/**
+ * Format of written scenario template.
+ */
+public enum TemplateFormat {
+
+    YAML(Serialization.yamlMapper()),
+    JSON(Serialization.jsonMapper());
+
+    private ObjectMapper mapper;
+
+    TemplateFormat(ObjectMapper mapper) {
+        this.mapper = mapper;
+    }
+
+    ObjectMapper getMapper() {
+        return mapper;
+    }
+}
@@ -1,32 +1,63 @@
 package org.kie.cloud.openshift.settings.builder;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.regex.Matcher;
 
+import io.fabric8.kubernetes.api.model.Affinity;
 import io.fabric8.kubernetes.api.model.Container;
 import io.fabric8.kubernetes.api.model.EnvVar;
+import io.fabric8.kubernetes.api.model.IntOrString;
+import io.fabric8.kubernetes.api.model.LabelSelector;
+import io.fabric8.kubernetes.api.model.LabelSelectorBuilder;
 import io.fabric8.kubernetes.api.model.PersistentVolumeClaim;
 import io.fabric8.kubernetes.api.model.PersistentVolumeClaimBuilder;
+import io.fabric8.kubernetes.api.model.PodAffinityTerm;
+import io.fabric8.kubernetes.api.model.PodAffinityTermBuilder;
+import io.fabric8.kubernetes.api.model.PodAntiAffinity;
 import io.fabric8.kubernetes.api.model.PodSpec;
+import io.fabric8.kubernetes.api.model.Probe;
+import io.fabric8.kubernetes.api.model.ProbeBuilder;
 import io.fabric8.kubernetes.api.model.Quantity;
+import io.fabric8.kubernetes.api.model.ResourceRequirements;
 import io.fabric8.kubernetes.api.model.Service;
 import io.fabric8.kubernetes.api.model.ServiceBuilder;
 import io.fabric8.kubernetes.api.model.Volume;
 import io.fabric8.kubernetes.api.model.VolumeBuilder;
 import io.fabric8.kubernetes.api.model.VolumeMount;
 import io.fabric8.kubernetes.api.model.VolumeMountBuilder;
+import io.fabric8.kubernetes.api.model.WeightedPodAffinityTerm;
+import io.fabric8.kubernetes.api.model.WeightedPodAffinityTermBuilder;
 import io.fabric8.openshift.api.model.DeploymentConfig;
 import io.fabric8.openshift.api.model.DeploymentConfigBuilder;
+import io.fabric8.openshift.api.model.DeploymentStrategy;
 import io.fabric8.openshift.api.model.DeploymentTriggerPolicy;
+import io.fabric8.openshift.api.model.LifecycleHook;
+import io.fabric8.openshift.api.model.LifecycleHookBuilder;
 import io.fabric8.openshift.api.model.Parameter;
 import io.fabric8.openshift.api.model.ParameterBuilder;
+import io.fabric8.openshift.api.model.RollingDeploymentStrategyParams;
+import org.kie.cloud.openshift.configuration.ConfigurationLoader;
+import org.kie.cloud.openshift.configuration.ResourceProfile;
 import org.kie.cloud.openshift.deployment.Deployment;
+import org.kie.cloud.openshift.util.MemorySize;
 
 public abstract class AbstractDeploymentBuilder<T extends DeploymentBuilder<U>, U extends Deployment> implements DeploymentBuilder<U> {
 
+    private static final String STARTUP_PROBE_PROPERTY = "startupProbe";
+    private static final String TOPOLOGY_SPREAD_CONSTRAINTS_PROPERTY = "topologySpreadConstraints";
+    private static final List<String> WHEN_UNSATISFIABLE_VALUES = Arrays.asList("DoNotSchedule", "ScheduleAnyway");
+
     private U deployment;
+    // Timings of startup probe, null if startup probe isn't used
+    private Probe startupProbeTimings;
 
     protected AbstractDeploymentBuilder(U deployment) {
         this.deployment = deployment;
@@ -38,8 +69,10 @@ public abstract class AbstractDeploymentBuilder<T extends DeploymentBuilder<U>,
 
     @Override
     public U build() {
+        configureDerivedValues();
         configureLivenessProbe();
         configureReadinessProbe();
+        configureStartupProbe();
         return deployment;
     }
 
@@ -117,12 +150,156 @@ public abstract class AbstractDeploymentBuilder<T extends DeploymentBuilder<U>,
 
     protected void configureAdditionalObjects() {};
 
+    /**
+     * Configure values which depend on other builder settings, invoked once all settings are known.
+     */
+    protected void configureDerivedValues() {};
+
     protected abstract void configureLivenessProbe();
 
     protected abstract void configureReadinessProbe();
 
+    /**
+     * Startup probe checks the same endpoint as liveness probe. Liveness and readiness probes start right after the
+     * startup probe succeeds, so their initial delay and its template parameter are dropped.
+     */
+    private void configureStartupProbe() {
+        if (startupProbeTimings == null) {
+            return;
+        }
+        Container container = getDeployment().getDeploymentConfig().getSpec().getTemplate().getSpec().getContainers().get(0);
+        Probe livenessProbe = container.getLivenessProbe();
+        if (livenessProbe == null) {
+            throw new RuntimeException("Startup probe requires liveness probe of deployment " + getDeployment().getDeploymentName() + ".");
+        }
+
+        // Builder copies the probe handler, so later changes of liveness probe don't affect startup probe
+        Probe startupProbe = new ProbeBuilder(livenessProbe).withInitialDelaySeconds(null)
+                                                            .withSuccessThreshold(null)
+                                                            .withPeriodSeconds(startupProbeTimings.getPeriodSeconds())
+                                                            .withFailureThreshold(startupProbeTimings.getFailureThreshold())
+                                                            .build();
+        startupProbe.getAdditionalProperties().clear();
+        Optional.ofNullable(livenessProbe.getAdditionalProperties().get("timeoutSeconds")).ifPresent(t -> startupProbe.setAdditionalProperty("timeoutSeconds", t));
+        // Startup probe isn't part of the Kubernetes model version in use
+        container.setAdditionalProperty(STARTUP_PROBE_PROPERTY, startupProbe);
+
+        for (Probe probe : Arrays.asList(livenessProbe, container.getReadinessProbe())) {
+            if (probe != null) {
+                probe.setInitialDelaySeconds(0);
+                Object templatedInitialDelay = probe.getAdditionalProperties().remove("initialDelaySeconds");
+                // Template parameter of the delay isn't referenced anymore
+                if (templatedInitialDelay != null) {
+                    getDeployment().getParameters().removeIf(p -> templatedInitialDelay.equals("${{" + p.getName() + "}}"));
+                }
+            }
+        }
+    }
+
     // ***** Shared functionality *****
 
+    /**
+     * Check container startup by startup probe instead of delaying liveness and readiness probes. Liveness and readiness
+     * probes are started once startup succeeds, so container starting faster receives traffic sooner and container
+     * starting slower isn't restarted prematurely. Requires OpenShift cluster supporting startup probes.
+     *
+     * @param period Interval between startup probes.
+     * @param failureThreshold Number of failed startup probes after which the container is restarted, period multiplied by the threshold is the maximal startup time.
+     * @return Builder
+     */
+    @SuppressWarnings("unchecked")
+    public T withStartupProbe(Duration period, int failureThreshold) {
+        if (period.getSeconds() < 1) {
+            throw new IllegalArgumentException("Startup probe period must be at least one second, was " + period + ".");
+        }
+        if (failureThreshold < 1) {
+            throw new IllegalArgumentException("Startup probe failure threshold must be positive, was " + failureThreshold + ".");
+        }
+        startupProbeTimings = new ProbeBuilder().withPeriodSeconds((int) period.getSeconds())
+                                                .withFailureThreshold(failureThreshold)
+                                                .build();
+        return (T) this;
+    }
+
+    @SuppressWarnings("unchecked")
+    public T withoutStartupProbe() {
+        startupProbeTimings = null;
+        return (T) this;
+    }
+
+    /**
+     * Prefer scheduling pods of this deployment to different topology domains, e.g. nodes or zones.
+     *
+     * @param topologyKey Node label defining the topology domain, e.g. "kubernetes.io/hostname".
+     * @return Builder
+     */
+    @SuppressWarnings("unchecked")
+    public T withPreferredPodAntiAffinity(String topologyKey) {
+        WeightedPodAffinityTerm weightedTerm = new WeightedPodAffinityTermBuilder().withWeight(100)
+                                                                                   .withPodAffinityTerm(createDeploymentPodAffinityTerm(topologyKey))
+                                                                                   .build();
+        getPodAntiAffinity().getPreferredDuringSchedulingIgnoredDuringExecution().add(weightedTerm);
+        return (T) this;
+    }
+
+    /**
+     * Schedule every pod of this deployment to a different topology domain, pods which can't be placed stay pending.
+     *
+     * @param topologyKey Node label defining the topology domain, e.g. "kubernetes.io/hostname".
+     * @return Builder
+     */
+    @SuppressWarnings("unchecked")
+    public T withRequiredPodAntiAffinity(String topologyKey) {
+        getPodAntiAffinity().getRequiredDuringSchedulingIgnoredDuringExecution().add(createDeploymentPodAffinityTerm(topologyKey));
+        return (T) this;
+    }
+
+    /**
+     * Spread pods of this deployment evenly across topology domains. Requires OpenShift cluster supporting topology
+     * spread constraints.
+     *
+     * @param topologyKey Node label defining the topology domain, e.g. "topology.kubernetes.io/zone".
+     * @param maxSkew Maximal difference between the number of pods in any two domains.
+     * @param whenUnsatisfiable "DoNotSchedule" to keep pods pending or "ScheduleAnyway" to just prefer spreading.
+     * @return Builder
+     */
+    @SuppressWarnings("unchecked")
+    public T withTopologySpreadConstraint(String topologyKey, int maxSkew, String whenUnsatisfiable) {
+        if (maxSkew < 1) {
+            throw new IllegalArgumentException("Max skew must be positive, was " + maxSkew + ".");
+        }
+        if (!WHEN_UNSATISFIABLE_VALUES.contains(whenUnsatisfiable)) {
+            throw new IllegalArgumentException("Unsupported value " + whenUnsatisfiable + ", expected one of " + WHEN_UNSATISFIABLE_VALUES + ".");
+        }
+        Map<String, Object> constraint = new LinkedHashMap<>();
+        constraint.put("maxSkew", maxSkew);
+        constraint.put("topologyKey", topologyKey);
+        constraint.put("whenUnsatisfiable", whenUnsatisfiable);
+        constraint.put("labelSelector", createDeploymentPodSelector());
+
+        // Topology spread constraints aren't part of the Kubernetes model version in use
+        PodSpec podSpec = getDeployment().getDeploymentConfig().getSpec().getTemplate().getSpec();
+        List<Object> constraints = (List<Object>) podSpec.getAdditionalProperties().computeIfAbsent(TOPOLOGY_SPREAD_CONSTRAINTS_PROPERTY, k -> new ArrayList<>());
+        constraints.add(constraint);
+        return (T) this;
+    }
+
+    /**
+     * Schedule pods of this deployment only to nodes having the label.
+     *
+     * @param labelName Node label name, e.g. "node-role.kubernetes.io/worker".
+     * @param labelValue Node label value.
+     * @return Builder
+     */
+    @SuppressWarnings("unchecked")
+    public T withNodeSelector(String labelName, String labelValue) {
+        PodSpec podSpec = getDeployment().getDeploymentConfig().getSpec().getTemplate().getSpec();
+        Map<String, String> nodeSelector = podSpec.getNodeSelector() == null ? new HashMap<>() : new HashMap<>(podSpec.getNodeSelector());
+        nodeSelector.put(labelName, labelValue);
+        podSpec.setNodeSelector(nodeSelector);
+        return (T) this;
+    }
+
     @SuppressWarnings("unchecked")
     public T withImageStreamNamespace(String imageStreamNamespace) {
         getDeployment().getDeploymentConfig().getSpec().getTriggers().stream()
@@ -162,23 +339,235 @@ public abstract class AbstractDeploymentBuilder<T extends DeploymentBuilder<U>,
         return (T) this;
     }
 
+    /**
+     * Set resource requests of the deployment container, used by scheduler to place the pod on a node with enough resources.
+     *
+     * @param cpuRequest Requested CPU, e.g. "500m", null to keep current value.
+     * @param memoryRequest Requested memory, e.g. "1Gi", null to keep current value.
+     * @return Builder
+     */
+    @SuppressWarnings("unchecked")
+    public T withResourceRequests(String cpuRequest, String memoryRequest) {
+        ResourceRequirements resources = getContainerResources();
+        resources.setRequests(withQuantities(resources.getRequests(), cpuRequest, memoryRequest));
+        return (T) this;
+    }
+
+    /**
+     * Set resource limits of the deployment container.
+     *
+     * @param cpuLimit CPU limit, e.g. "2", null to keep current value.
+     * @param memoryLimit Memory limit, e.g. "2Gi", null to keep current value.
+     * @return Builder
+     */
+    @SuppressWarnings("unchecked")
+    public T withResourceLimits(String cpuLimit, String memoryLimit) {
+        ResourceRequirements resources = getContainerResources();
+        resources.setLimits(withQuantities(resources.getLimits(), cpuLimit, memoryLimit));
+        return (T) this;
+    }
+
+    /**
+     * Set resource requests and limits of the deployment container from a profile defined in installer configuration.
+     *
+     * @param profileName Profile name, e.g. {@link ResourceProfile#SMALL}.
+     * @return Builder
+     */
+    public T withResourceProfile(String profileName) {
+        ResourceProfile resourceProfile = ConfigurationLoader.getResourceProfile(profileName);
+        withResourceRequests(resourceProfile.getCpuRequest(), resourceProfile.getMemoryRequest());
+        return withResourceLimits(resourceProfile.getCpuLimit(), resourceProfile.getMemoryLimit());
+    }
+
+    /**
+     * Replace pods one by one instead of stopping all of them before new pods are started.
+     *
+     * Deployments using ReadWriteOnce persistent volume can't run old and new pod at the same time, Recreate strategy
+     * should be kept for them.
+     *
+     * @return Rolling strategy builder
+     */
+    public RollingStrategyBuilder withRollingStrategy() {
+        return new RollingStrategyBuilder();
+    }
+
+    @SuppressWarnings("unchecked")
+    public T withRecreateStrategy() {
+        DeploymentStrategy strategy = getDeployment().getDeploymentConfig().getSpec().getStrategy();
+        strategy.setType("Recreate");
+        strategy.setRollingParams(null);
+        return (T) this;
+    }
+
+    public class RollingStrategyBuilder {
+
+        private RollingDeploymentStrategyParams rollingParams = new RollingDeploymentStrategyParams();
+
+        public RollingStrategyBuilder() {
+            DeploymentStrategy strategy = getDeployment().getDeploymentConfig().getSpec().getStrategy();
+            strategy.setType("Rolling");
+            strategy.setRecreateParams(null);
+            strategy.setRollingParams(rollingParams);
+        }
+
+        /**
+         * @param maxSurge Number of pods (e.g. "1") or percentage of replicas (e.g. "25%") which can be started above the desired replica count.
+         * @return Builder
+         */
+        public RollingStrategyBuilder withMaxSurge(String maxSurge) {
+            rollingParams.setMaxSurge(toIntOrString(maxSurge));
+            return this;
+        }
+
+        /**
+         * @param maxUnavailable Number of pods (e.g. "0") or percentage of replicas (e.g. "25%") which can be unavailable during the update.
+         * @return Builder
+         */
+        public RollingStrategyBuilder withMaxUnavailable(String maxUnavailable) {
+            rollingParams.setMaxUnavailable(toIntOrString(maxUnavailable));
+            return this;
+        }
+
+        /**
+         * @param timeout Time to wait for the update to finish before it is rolled back.
+         * @return Builder
+         */
+        public RollingStrategyBuilder withTimeout(Duration timeout) {
+            rollingParams.setTimeoutSeconds(timeout.getSeconds());
+            return this;
+        }
+
+        public RollingStrategyBuilder withUpdatePeriod(Duration updatePeriod) {
+            rollingParams.setUpdatePeriodSeconds(updatePeriod.getSeconds());
+            return this;
+        }
+
+        /**
+         * Run command in a new pod before the update starts.
+         *
+         * @param failurePolicy Action on hook failure - "Abort", "Retry" or "Ignore".
+         * @param command Command executed in a pod created from the deployment container.
+         * @return Builder
+         */
+        public RollingStrategyBuilder withPreHook(String failurePolicy, String... command) {
+            rollingParams.setPre(createLifecycleHook(failurePolicy, command));
+            return this;
+        }
+
+        /**
+         * Run command in a new pod after the update finished.
+         *
+         * @param failurePolicy Action on hook failure - "Abort", "Retry" or "Ignore".
+         * @param command Command executed in a pod created from the deployment container.
+         * @return Builder
+         */
+        public RollingStrategyBuilder withPostHook(String failurePolicy, String... command) {
+            rollingParams.setPost(createLifecycleHook(failurePolicy, command));
+            return this;
+        }
+
+        @SuppressWarnings("unchecked")
+        public T endRollingStrategy() {
+            if (isZero(rollingParams.getMaxSurge()) && isZero(rollingParams.getMaxUnavailable())) {
+                throw new RuntimeException("Max surge and max unavailable cannot be both zero.");
+            }
+            return (T) AbstractDeploymentBuilder.this;
+        }
+
+        private LifecycleHook createLifecycleHook(String failurePolicy, String... command) {
+            String containerName = getDeployment().getDeploymentConfig().getSpec().getTemplate().getSpec().getContainers().get(0).getName();
+            return new LifecycleHookBuilder().withFailurePolicy(failurePolicy)
+                                             .withNewExecNewPod()
+                                                 .withContainerName(containerName)
+                                                 .withCommand(command)
+                                             .endExecNewPod()
+                                             .build();
+        }
+
+        private IntOrString toIntOrString(String value) {
+            if (value.endsWith("%")) {
+                return new IntOrString(null, null, value, new HashMap<String, Object>());
+            }
+            return new IntOrString(Integer.valueOf(value), null, null, new HashMap<String, Object>());
+        }
+
+        private boolean isZero(IntOrString value) {
+            return value != null && (Integer.valueOf(0).equals(value.getIntVal()) || "0%".equals(value.getStrVal()));
+        }
+    }
+
     // ***** Helper methods *****
 
+    /**
+     * @return Memory limit of the deployment container in bytes, empty if not set or defined by a template parameter.
+     */
+    protected Optional<Long> getContainerMemoryLimit() {
+        ResourceRequirements resources = getDeployment().getDeploymentConfig().getSpec().getTemplate().getSpec().getContainers().get(0).getResources();
+        if (resources == null || resources.getLimits() == null) {
+            return Optional.empty();
+        }
+        return MemorySize.toBytes(resources.getLimits().get("memory"));
+    }
+
+    private PodAntiAffinity getPodAntiAffinity() {
+        PodSpec podSpec = getDeployment().getDeploymentConfig().getSpec().getTemplate().getSpec();
+        if (podSpec.getAffinity() == null) {
+            podSpec.setAffinity(new Affinity());
+        }
+        Affinity affinity = podSpec.getAffinity();
+        if (affinity.getPodAntiAffinity() == null) {
+            affinity.setPodAntiAffinity(new PodAntiAffinity());
+        }
+        return affinity.getPodAntiAffinity();
+    }
+
+    private PodAffinityTerm createDeploymentPodAffinityTerm(String topologyKey) {
+        return new PodAffinityTermBuilder().withLabelSelector(createDeploymentPodSelector())
+                                           .withTopologyKey(topologyKey)
+                                           .build();
+    }
+
+    // Pods are labeled by the deployment config name, see pod template
+    private LabelSelector createDeploymentPodSelector() {
+        return new LabelSelectorBuilder().addToMatchLabels("deploymentConfig", getDeployment().getDeploymentName())
+                                         .build();
+    }
+
+    private ResourceRequirements getContainerResources() {
+        Container container = getDeployment().getDeploymentConfig().getSpec().getTemplate().getSpec().getContainers().get(0);
+        ResourceRequirements resources = container.getResources();
+        if (resources == null) {
+            resources = new ResourceRequirements();
+            container.setResources(resources);
+        }
+        return resources;
+    }
+
+    private static Map<String, Quantity> withQuantities(Map<String, Quantity> quantities, String cpu, String memory) {
+        if (cpu == null && memory == null) {
+            return quantities;
+        }
+        Map<String, Quantity> updatedQuantities = quantities == null ? new HashMap<>() : new HashMap<>(quantities);
+        if (cpu != null) {
+            updatedQuantities.put("cpu", new Quantity(cpu));
+        }
+        if (memory != null) {
+            updatedQuantities.put("memory", new Quantity(memory));
+        }
+        return updatedQuantities;
+    }
+
     protected void addOrReplaceEnvVar(String environmentVariableName, String environmentVariableValue) {
         EnvVar envVar = new EnvVar(environmentVariableName, environmentVariableValue, null);
         addOrReplaceEnvVar(envVar);
     }
 
     protected void addOrReplaceEnvVar(EnvVar envVar) {
-        List<Container> containers = deployment.getDeploymentConfig()
-                                               .getSpec()
-                                               .getTemplate()
-                                               .getSpec()
-                                               .getContainers();
-        for (Container container : containers) {
-            container.getEnv().removeIf(n -> n.getName().equals(envVar.getName()));
-            container.getEnv().add(envVar);
-        }
+        deployment.addOrReplaceEnvironmentVariable(envVar);
+    }
+
+    protected void removeEnvVar(String environmentVariableName) {
+        deployment.removeEnvironmentVariable(environmentVariableName);
     }
 
     protected void addOrAppendEnvVar(String environmentVariableName, String environmentVariableValue) {
@@ -233,6 +622,21 @@ public abstract class AbstractDeploymentBuilder<T extends DeploymentBuilder<U>,
         deployment.getParameters().add(parameter);
     }
 
+    /**
+     * Set default value of template parameter which has no default value yet. Does nothing if the parameter isn't defined.
+     */
+    protected void setPropertyValueIfBlank(String propertyName, String propertyValue) {
+        deployment.getParameters().stream()
+                                  .filter(p -> p.getName().equals(propertyName) && (p.getValue() == null || p.getValue().isEmpty()))
+                                  .forEach(p -> p.setValue(propertyValue));
+    }
+
+    protected void addDependency(Deployment dependency) {
+        if (!deployment.getDependencies().contains(dependency)) {
+            deployment.getDependencies().add(dependency);
+        }
+    }
+
     protected void addPersistence(String deploymentName, String mountPath, String accessMode, String persistentVolumeStorageSize) {
         String volumeName = deploymentName + "-pvol";
         String volumeClaimName = deploymentName + "-claim";
@@ -15,15 +15,21 @@
  */
 package org.kie.cloud.openshift.settings.builder;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.Arrays;
+import java.util.Base64;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 
 import io.fabric8.kubernetes.api.model.Container;
 import io.fabric8.kubernetes.api.model.ContainerPort;
 import io.fabric8.kubernetes.api.model.ContainerPortBuilder;
+import io.fabric8.kubernetes.api.model.HorizontalPodAutoscaler;
+import io.fabric8.kubernetes.api.model.HorizontalPodAutoscalerBuilder;
+import io.fabric8.kubernetes.api.model.HorizontalPodAutoscalerSpec;
 import io.fabric8.kubernetes.api.model.IntOrString;
 import io.fabric8.kubernetes.api.model.PodSpec;
 import io.fabric8.kubernetes.api.model.Probe;
@@ -41,6 +47,8 @@ import io.fabric8.kubernetes.api.model.Volume;
 import io.fabric8.kubernetes.api.model.VolumeBuilder;
 import io.fabric8.kubernetes.api.model.VolumeMount;
 import io.fabric8.kubernetes.api.model.VolumeMountBuilder;
+import io.fabric8.openshift.api.model.DeploymentConfig;
+import io.fabric8.openshift.api.model.DeploymentConfigSpec;
 import io.fabric8.openshift.api.model.RoleBinding;
 import io.fabric8.openshift.api.model.RoleBindingBuilder;
 import io.fabric8.openshift.api.model.Route;
@@ -48,6 +56,7 @@ import io.fabric8.openshift.api.model.RouteBuilder;
 import org.kie.cloud.openshift.OpenShiftImageConstants;
 import org.kie.cloud.openshift.configuration.ConfigurationLoader;
 import org.kie.cloud.openshift.deployment.Deployment;
+import org.kie.cloud.openshift.deployment.MavenMirrorDeployment;
 import org.kie.cloud.openshift.deployment.MySqlDeployment;
 import org.kie.cloud.openshift.deployment.PostgreSqlDeployment;
 import org.kie.cloud.openshift.util.NameGenerator;
@@ -60,6 +69,16 @@ import org.kie.cloud.openshift.util.NameGenerator;
  */
 public class KieServerDeploymentBuilder extends AbstractDeploymentBuilder<KieServerDeploymentBuilder,Deployment> {
 
+    private static final String HPA_METRICS_ANNOTATION = "autoscaling.alpha.kubernetes.io/metrics";
+    private static final String HEALTHCHECK_PATH = "/services/rest/server/healthcheck";
+    private static final String READYCHECK_PATH = "/services/rest/server/readycheck";
+    private static final String MAVEN_LOCAL_REPO_PATH = "/opt/kie/maven-repository";
+
+    private Probe livenessProbeTimings = createProbeTimings(180, 2, 15, 3);
+    private Probe readinessProbeTimings = createProbeTimings(60, 2, 30, 6);
+    private boolean unauthenticatedProbes = false;
+    private boolean execProbes = false;
+
     public KieServerDeploymentBuilder() {
         this(NameGenerator.generateDeploymentName("kieserver"));
     }
@@ -170,18 +189,20 @@ public class KieServerDeploymentBuilder extends AbstractDeploymentBuilder<KieSer
         getDeployment().getDeploymentConfig().getSpec().getTemplate().getSpec().setServiceAccountName(serviceAccount.getMetadata().getName());
     }
 
+    @Override
+    protected void configureDerivedValues() {
+        // Replicas are managed by autoscaler, applying them again would reset the number of replicas chosen by autoscaler
+        if (getDeployment().getHorizontalPodAutoscaler().isPresent()) {
+            DeploymentConfigSpec deploymentConfigSpec = getDeployment().getDeploymentConfig().getSpec();
+            deploymentConfigSpec.setReplicas(null);
+            deploymentConfigSpec.getAdditionalProperties().remove("replicas");
+            getDeployment().getParameters().removeIf(p -> OpenShiftImageConstants.KIE_SERVER_REPLICAS.equals(p.getName()));
+        }
+    }
+
     @Override
     protected void configureLivenessProbe() {
-        String kieServerUser = getDeployment().getEnvironmentVariableValue(OpenShiftImageConstants.KIE_SERVER_USER);
-        String kieServerPassword = getDeployment().getEnvironmentVariableValue(OpenShiftImageConstants.KIE_SERVER_PWD);
-        Probe livenessProbe = new ProbeBuilder().withNewExec()
-                                                    .withCommand("/bin/bash", "-c", "curl --fail --silent -u '" + kieServerUser + ":" + kieServerPassword + "' http://localhost:8080/services/rest/server/healthcheck")
-                                                .endExec()
-                                                .withInitialDelaySeconds(180)
-                                                .withTimeoutSeconds(2)
-                                                .withPeriodSeconds(15)
-                                                .withFailureThreshold(3)
-                                                .build();
+        Probe livenessProbe = createProbe(HEALTHCHECK_PATH, livenessProbeTimings);
         // Just one container should be available
         Container container = getDeployment().getDeploymentConfig().getSpec().getTemplate().getSpec().getContainers().get(0);
         container.setLivenessProbe(livenessProbe);
@@ -189,21 +210,160 @@ public class KieServerDeploymentBuilder extends AbstractDeploymentBuilder<KieSer
 
     @Override
     protected void configureReadinessProbe() {
-        String kieServerUser = getDeployment().getEnvironmentVariableValue(OpenShiftImageConstants.KIE_SERVER_USER);
-        String kieServerPassword = getDeployment().getEnvironmentVariableValue(OpenShiftImageConstants.KIE_SERVER_PWD);
-        Probe readinessProbe = new ProbeBuilder().withNewExec()
-                                                     .withCommand("/bin/bash", "-c", "curl --fail --silent -u '" + kieServerUser + ":" + kieServerPassword + "' http://localhost:8080/services/rest/server/readycheck")
-                                                 .endExec()
-                                                 .withInitialDelaySeconds(60)
-                                                 .withTimeoutSeconds(2)
-                                                 .withPeriodSeconds(30)
-                                                 .withFailureThreshold(6)
-                                                 .build();
+        Probe readinessProbe = createProbe(READYCHECK_PATH, readinessProbeTimings);
         // Just one container should be available
         Container container = getDeployment().getDeploymentConfig().getSpec().getTemplate().getSpec().getContainers().get(0);
         container.setReadinessProbe(readinessProbe);
     }
 
+    /**
+     * Probes send HTTP GET request from kubelet, with basic authentication header if credentials are known. Credentials
+     * defined by template parameters can't be encoded into the header, health endpoints are probed without credentials
+     * for them. Exec probe with curl is used only if enabled explicitly.
+     */
+    private Probe createProbe(String path, Probe timings) {
+        String kieServerUser = getDeployment().getEnvironmentVariableValue(OpenShiftImageConstants.KIE_SERVER_USER);
+        String kieServerPassword = getDeployment().getEnvironmentVariableValue(OpenShiftImageConstants.KIE_SERVER_PWD);
+        boolean templatedCredentials = kieServerUser.contains("${") || kieServerPassword.contains("${");
+
+        Probe probe;
+        if (execProbes && !unauthenticatedProbes) {
+            // Credentials are read from container environment, so they don't appear in the probe definition
+            probe = new ProbeBuilder().withNewExec()
+                                          .withCommand("/bin/bash", "-c", "curl --fail --silent -u \"$" + OpenShiftImageConstants.KIE_SERVER_USER + ":$" + OpenShiftImageConstants.KIE_SERVER_PWD + "\" http://localhost:8080" + path)
+                                      .endExec()
+                                      .build();
+        } else if (unauthenticatedProbes || templatedCredentials) {
+            probe = new ProbeBuilder().withNewHttpGet()
+                                          .withPath(path)
+                                          .withNewPortLike(new IntOrString(8080, null, null, new HashMap<String, Object>()))
+                                          .endPort()
+                                          .withScheme("HTTP")
+                                      .endHttpGet()
+                                      .build();
+        } else {
+            String credentials = Base64.getEncoder().encodeToString((kieServerUser + ":" + kieServerPassword).getBytes(StandardCharsets.UTF_8));
+            probe = new ProbeBuilder().withNewHttpGet()
+                                          .withPath(path)
+                                          .withNewPortLike(new IntOrString(8080, null, null, new HashMap<String, Object>()))
+                                          .endPort()
+                                          .withScheme("HTTP")
+                                          .addNewHttpHeader()
+                                              .withName("Authorization")
+                                              .withValue("Basic " + credentials)
+                                          .endHttpHeader()
+                                      .endHttpGet()
+                                      .build();
+        }
+
+        probe.setInitialDelaySeconds(timings.getInitialDelaySeconds());
+        probe.setTimeoutSeconds(timings.getTimeoutSeconds());
+        probe.setPeriodSeconds(timings.getPeriodSeconds());
+        probe.setFailureThreshold(timings.getFailureThreshold());
+        timings.getAdditionalProperties().forEach(probe::setAdditionalProperty);
+        return probe;
+    }
+
+    /**
+     * Probe KIE server health endpoints without credentials, for images which expose them to anonymous users.
+     *
+     * @return Builder
+     */
+    public KieServerDeploymentBuilder withUnauthenticatedProbes() {
+        this.unauthenticatedProbes = true;
+        return this;
+    }
+
+    /**
+     * Probe KIE server health endpoints by curl executed in the container, authenticated by KIE server credentials
+     * from container environment. Useful for images which don't expose health endpoints to anonymous users while the
+     * credentials are defined by template parameters.
+     *
+     * @return Builder
+     */
+    public KieServerDeploymentBuilder withExecProbes() {
+        this.execProbes = true;
+        return this;
+    }
+
+    /**
+     * @param initialDelay Delay after container start before the first probe.
+     * @param timeout Time after which the probe is considered failed.
+     * @param period Interval between probes.
+     * @param failureThreshold Number of consecutive failures after which the container is restarted.
+     * @return Builder
+     */
+    public KieServerDeploymentBuilder withLivenessProbeTimings(Duration initialDelay, Duration timeout, Duration period, int failureThreshold) {
+        setProbeTimings(livenessProbeTimings, initialDelay, timeout, period, failureThreshold);
+        return this;
+    }
+
+    /**
+     * @param initialDelay Delay after container start before the first probe.
+     * @param timeout Time after which the probe is considered failed.
+     * @param period Interval between probes.
+     * @param failureThreshold Number of consecutive failures after which the pod is removed from service endpoints.
+     * @return Builder
+     */
+    public KieServerDeploymentBuilder withReadinessProbeTimings(Duration initialDelay, Duration timeout, Duration period, int failureThreshold) {
+        setProbeTimings(readinessProbeTimings, initialDelay, timeout, period, failureThreshold);
+        return this;
+    }
+
+    public KieServerDeploymentBuilder withProbeTimingsFromProperties() {
+        addOrReplaceProperty("KIE Server Liveness Probe Initial Delay", "Seconds after KIE server container start before the first liveness probe.", OpenShiftImageConstants.KIE_SERVER_LIVENESS_PROBE_INITIAL_DELAY, "180", false);
+        addOrReplaceProperty("KIE Server Liveness Probe Timeout", "Seconds after which the liveness probe is considered failed.", OpenShiftImageConstants.KIE_SERVER_LIVENESS_PROBE_TIMEOUT, "2", false);
+        addOrReplaceProperty("KIE Server Liveness Probe Period", "Seconds between liveness probes.", OpenShiftImageConstants.KIE_SERVER_LIVENESS_PROBE_PERIOD, "15", false);
+        addOrReplaceProperty("KIE Server Liveness Probe Failure Threshold", "Number of consecutive failed liveness probes after which the container is restarted.", OpenShiftImageConstants.KIE_SERVER_LIVENESS_PROBE_FAILURE_THRESHOLD, "3", false);
+        addOrReplaceProperty("KIE Server Readiness Probe Initial Delay", "Seconds after KIE server container start before the first readiness probe.", OpenShiftImageConstants.KIE_SERVER_READINESS_PROBE_INITIAL_DELAY, "60", false);
+        addOrReplaceProperty("KIE Server Readiness Probe Timeout", "Seconds after which the readiness probe is considered failed.", OpenShiftImageConstants.KIE_SERVER_READINESS_PROBE_TIMEOUT, "2", false);
+        addOrReplaceProperty("KIE Server Readiness Probe Period", "Seconds between readiness probes.", OpenShiftImageConstants.KIE_SERVER_READINESS_PROBE_PERIOD, "30", false);
+        addOrReplaceProperty("KIE Server Readiness Probe Failure Threshold", "Number of consecutive failed readiness probes after which the pod stops receiving traffic.", OpenShiftImageConstants.KIE_SERVER_READINESS_PROBE_FAILURE_THRESHOLD, "6", false);
+
+        // Probe timings are numeric, template parameters are stored in place of the typed values
+        setProbeTimingsFromProperties(livenessProbeTimings, OpenShiftImageConstants.KIE_SERVER_LIVENESS_PROBE_INITIAL_DELAY, OpenShiftImageConstants.KIE_SERVER_LIVENESS_PROBE_TIMEOUT,
+                                      OpenShiftImageConstants.KIE_SERVER_LIVENESS_PROBE_PERIOD, OpenShiftImageConstants.KIE_SERVER_LIVENESS_PROBE_FAILURE_THRESHOLD);
+        setProbeTimingsFromProperties(readinessProbeTimings, OpenShiftImageConstants.KIE_SERVER_READINESS_PROBE_INITIAL_DELAY, OpenShiftImageConstants.KIE_SERVER_READINESS_PROBE_TIMEOUT,
+                                      OpenShiftImageConstants.KIE_SERVER_READINESS_PROBE_PERIOD, OpenShiftImageConstants.KIE_SERVER_READINESS_PROBE_FAILURE_THRESHOLD);
+        return this;
+    }
+
+    private static Probe createProbeTimings(int initialDelaySeconds, int timeoutSeconds, int periodSeconds, int failureThreshold) {
+        return new ProbeBuilder().withInitialDelaySeconds(initialDelaySeconds)
+                                 .withTimeoutSeconds(timeoutSeconds)
+                                 .withPeriodSeconds(periodSeconds)
+                                 .withFailureThreshold(failureThreshold)
+                                 .build();
+    }
+
+    private static void setProbeTimings(Probe timings, Duration initialDelay, Duration timeout, Duration period, int failureThreshold) {
+        if (initialDelay.isNegative()) {
+            throw new IllegalArgumentException("Probe initial delay cannot be negative, was " + initialDelay + ".");
+        }
+        if (timeout.getSeconds() < 1 || period.getSeconds() < 1) {
+            throw new IllegalArgumentException("Probe timeout and period must be at least one second, were " + timeout + " and " + period + ".");
+        }
+        if (failureThreshold < 1) {
+            throw new IllegalArgumentException("Probe failure threshold must be positive, was " + failureThreshold + ".");
+        }
+        timings.getAdditionalProperties().clear();
+        timings.setInitialDelaySeconds((int) initialDelay.getSeconds());
+        timings.setTimeoutSeconds((int) timeout.getSeconds());
+        timings.setPeriodSeconds((int) period.getSeconds());
+        timings.setFailureThreshold(failureThreshold);
+    }
+
+    private static void setProbeTimingsFromProperties(Probe timings, String initialDelayProperty, String timeoutProperty, String periodProperty, String failureThresholdProperty) {
+        timings.setInitialDelaySeconds(null);
+        timings.setTimeoutSeconds(null);
+        timings.setPeriodSeconds(null);
+        timings.setFailureThreshold(null);
+        timings.setAdditionalProperty("initialDelaySeconds", "${{" + initialDelayProperty + "}}");
+        timings.setAdditionalProperty("timeoutSeconds", "${{" + timeoutProperty + "}}");
+        timings.setAdditionalProperty("periodSeconds", "${{" + periodProperty + "}}");
+        timings.setAdditionalProperty("failureThreshold", "${{" + failureThresholdProperty + "}}");
+    }
+
     public KieServerDeploymentBuilder withImageStreamNamespaceFromProperties() {
         addOrReplaceProperty("ImageStream Namespace", "Namespace in which the ImageStreams for Red Hat Middleware images are" +
                 " installed. These ImageStreams are normally installed in the openshift namespace." +
@@ -429,6 +589,110 @@ public class KieServerDeploymentBuilder extends AbstractDeploymentBuilder<KieSer
         return this;
     }
 
+    public KieServerDeploymentBuilder withReplicasFromProperties() {
+        addOrReplaceProperty("KIE Server Replicas", "Number of KIE server pods.", OpenShiftImageConstants.KIE_SERVER_REPLICAS, "1", false);
+        // Replicas are numeric, non-string template parameter reference is stored in place of the typed value
+        DeploymentConfigSpec deploymentConfigSpec = getDeployment().getDeploymentConfig().getSpec();
+        deploymentConfigSpec.setReplicas(null);
+        deploymentConfigSpec.setAdditionalProperty("replicas", "${{" + OpenShiftImageConstants.KIE_SERVER_REPLICAS + "}}");
+        return this;
+    }
+
+    public KieServerDeploymentBuilder withReplicas(int replicas) {
+        if (replicas < 0) {
+            throw new IllegalArgumentException("Number of replicas cannot be negative, was " + replicas + ".");
+        }
+        DeploymentConfigSpec deploymentConfigSpec = getDeployment().getDeploymentConfig().getSpec();
+        deploymentConfigSpec.getAdditionalProperties().remove("replicas");
+        deploymentConfigSpec.setReplicas(replicas);
+        return this;
+    }
+
+    public KieServerDeploymentBuilder withAutoscalingFromProperties() {
+        addOrReplaceProperty("KIE Server Autoscaling Minimum Replicas", "Lower limit for the number of KIE server pods set by autoscaler.", OpenShiftImageConstants.KIE_SERVER_AUTOSCALING_MIN_REPLICAS, "1", true);
+        addOrReplaceProperty("KIE Server Autoscaling Maximum Replicas", "Upper limit for the number of KIE server pods set by autoscaler.", OpenShiftImageConstants.KIE_SERVER_AUTOSCALING_MAX_REPLICAS, "3", true);
+        addOrReplaceProperty("KIE Server Autoscaling CPU Utilization", "Target average CPU utilization of KIE server pods, in percent of requested CPU.", OpenShiftImageConstants.KIE_SERVER_AUTOSCALING_CPU_UTILIZATION, "75", true);
+        addOrReplaceProperty("KIE Server Autoscaling Memory Utilization", "Target average memory utilization of KIE server pods, in percent of requested memory.", OpenShiftImageConstants.KIE_SERVER_AUTOSCALING_MEMORY_UTILIZATION, "80", true);
+
+        HorizontalPodAutoscaler horizontalPodAutoscaler = getOrCreateHorizontalPodAutoscaler();
+        HorizontalPodAutoscalerSpec horizontalPodAutoscalerSpec = horizontalPodAutoscaler.getSpec();
+        horizontalPodAutoscalerSpec.setMinReplicas(null);
+        horizontalPodAutoscalerSpec.setMaxReplicas(null);
+        horizontalPodAutoscalerSpec.setTargetCPUUtilizationPercentage(null);
+        horizontalPodAutoscalerSpec.setAdditionalProperty("minReplicas", "${{" + OpenShiftImageConstants.KIE_SERVER_AUTOSCALING_MIN_REPLICAS + "}}");
+        horizontalPodAutoscalerSpec.setAdditionalProperty("maxReplicas", "${{" + OpenShiftImageConstants.KIE_SERVER_AUTOSCALING_MAX_REPLICAS + "}}");
+        horizontalPodAutoscalerSpec.setAdditionalProperty("targetCPUUtilizationPercentage", "${{" + OpenShiftImageConstants.KIE_SERVER_AUTOSCALING_CPU_UTILIZATION + "}}");
+        setMemoryUtilizationMetric(horizontalPodAutoscaler, "${" + OpenShiftImageConstants.KIE_SERVER_AUTOSCALING_MEMORY_UTILIZATION + "}");
+        return this;
+    }
+
+    /**
+     * Attach horizontal pod autoscaler to KIE server deployment config.
+     *
+     * Utilization is computed from container resource requests, so autoscaler takes effect only if requests are defined.
+     * Memory target isn't part of autoscaling/v1 API, it is passed using "autoscaling.alpha.kubernetes.io/metrics" annotation.
+     *
+     * @param minReplicas Lower limit for the number of pods.
+     * @param maxReplicas Upper limit for the number of pods.
+     * @param targetCpuUtilization Target average CPU utilization in percent, null if CPU shouldn't be considered.
+     * @param targetMemoryUtilization Target average memory utilization in percent, null if memory shouldn't be considered.
+     * @return Builder
+     */
+    public KieServerDeploymentBuilder withAutoscaling(int minReplicas, int maxReplicas, Integer targetCpuUtilization, Integer targetMemoryUtilization) {
+        if (minReplicas < 1 || maxReplicas < minReplicas) {
+            throw new IllegalArgumentException("Invalid autoscaling replicas range " + minReplicas + "-" + maxReplicas + ".");
+        }
+        if (targetCpuUtilization == null && targetMemoryUtilization == null) {
+            throw new IllegalArgumentException("At least one of CPU or memory utilization targets must be defined.");
+        }
+
+        HorizontalPodAutoscaler horizontalPodAutoscaler = getOrCreateHorizontalPodAutoscaler();
+        HorizontalPodAutoscalerSpec horizontalPodAutoscalerSpec = horizontalPodAutoscaler.getSpec();
+        horizontalPodAutoscalerSpec.getAdditionalProperties().clear();
+        horizontalPodAutoscalerSpec.setMinReplicas(minReplicas);
+        horizontalPodAutoscalerSpec.setMaxReplicas(maxReplicas);
+        horizontalPodAutoscalerSpec.setTargetCPUUtilizationPercentage(targetCpuUtilization);
+        setMemoryUtilizationMetric(horizontalPodAutoscaler, targetMemoryUtilization == null ? null : targetMemoryUtilization.toString());
+        return this;
+    }
+
+    private HorizontalPodAutoscaler getOrCreateHorizontalPodAutoscaler() {
+        Optional<HorizontalPodAutoscaler> existingHorizontalPodAutoscaler = getDeployment().getHorizontalPodAutoscaler();
+        if (existingHorizontalPodAutoscaler.isPresent()) {
+            return existingHorizontalPodAutoscaler.get();
+        }
+
+        DeploymentConfig deploymentConfig = getDeployment().getDeploymentConfig();
+        HorizontalPodAutoscaler horizontalPodAutoscaler = new HorizontalPodAutoscalerBuilder().withApiVersion("autoscaling/v1")
+                                                                                              .withNewMetadata()
+                                                                                                  .withName(getDeployment().getDeploymentName())
+                                                                                                  .addToLabels("service", getDeployment().getDeploymentName())
+                                                                                              .endMetadata()
+                                                                                              .withNewSpec()
+                                                                                                  .withNewScaleTargetRef()
+                                                                                                      .withApiVersion(deploymentConfig.getApiVersion())
+                                                                                                      .withKind(deploymentConfig.getKind())
+                                                                                                      .withName(deploymentConfig.getMetadata().getName())
+                                                                                                  .endScaleTargetRef()
+                                                                                              .endSpec()
+                                                                                              .build();
+        getDeployment().getObjects().add(horizontalPodAutoscaler);
+        return horizontalPodAutoscaler;
+    }
+
+    private void setMemoryUtilizationMetric(HorizontalPodAutoscaler horizontalPodAutoscaler, String targetMemoryUtilization) {
+        Map<String, String> annotations = horizontalPodAutoscaler.getMetadata().getAnnotations();
+        if (annotations == null) {
+            annotations = new HashMap<>();
+            horizontalPodAutoscaler.getMetadata().setAnnotations(annotations);
+        }
+        if (targetMemoryUtilization == null) {
+            annotations.remove(HPA_METRICS_ANNOTATION);
+        } else {
+            annotations.put(HPA_METRICS_ANNOTATION, "[{\"type\":\"Resource\",\"resource\":{\"name\":\"memory\",\"targetAverageUtilization\":" + targetMemoryUtilization + "}}]");
+        }
+    }
+
     public KieServerDeploymentBuilder withKieMbeansFromProperties() {
         addOrReplaceProperty("KIE MBeans", "KIE server mbeans enabled/disabled (Sets the kie.mbeans and kie.scanner.mbeans system properties)", OpenShiftImageConstants.KIE_MBEANS, "enabled", false);
         withKieMbeans("${" + OpenShiftImageConstants.KIE_MBEANS + "}");
@@ -527,6 +791,166 @@ public class KieServerDeploymentBuilder extends AbstractDeploymentBuilder<KieSer
         }
     }
 
+    /**
+     * Resolve all artifacts through Maven mirror deployed in the project, mirror is rolled out before KIE server.
+     *
+     * @param mavenMirrorDeployment Maven mirror deployment.
+     * @return Builder
+     */
+    public KieServerDeploymentBuilder withMavenMirror(MavenMirrorDeployment mavenMirrorDeployment) {
+        withMavenMirrorUrl(mavenMirrorDeployment.getMirrorUrl());
+        addDependency(mavenMirrorDeployment);
+        return this;
+    }
+
+    public KieServerDeploymentBuilder withMavenMirrorUrl(String mavenMirrorUrl) {
+        addOrReplaceEnvVar(OpenShiftImageConstants.MAVEN_MIRROR_URL, mavenMirrorUrl);
+        return this;
+    }
+
+    public KieServerDeploymentBuilder withPersistentMavenRepositoryFromProperties() {
+        addOrReplaceProperty("KIE Server Maven Repository Volume Capacity", "Size of persistent storage for KIE server local Maven repository.", OpenShiftImageConstants.KIE_SERVER_MAVEN_REPO_VOLUME_CAPACITY, "1Gi", true);
+        withPersistentMavenRepository("${" + OpenShiftImageConstants.KIE_SERVER_MAVEN_REPO_VOLUME_CAPACITY + "}");
+        return this;
+    }
+
+    /**
+     * Keep local Maven repository on a persistent volume shared by all KIE server pods, so KJARs and their dependencies
+     * are downloaded once instead of on every pod start.
+     *
+     * @param persistentVolumeStorageSize Size of the volume, e.g. "5Gi".
+     * @return Builder
+     */
+    public KieServerDeploymentBuilder withPersistentMavenRepository(String persistentVolumeStorageSize) {
+        return withPersistentMavenRepository(persistentVolumeStorageSize, "ReadWriteMany");
+    }
+
+    /**
+     * @param persistentVolumeStorageSize Size of the volume, e.g. "5Gi".
+     * @param accessMode Volume access mode, "ReadWriteOnce" restricts KIE server pods to a single node.
+     * @return Builder
+     */
+    public KieServerDeploymentBuilder withPersistentMavenRepository(String persistentVolumeStorageSize, String accessMode) {
+        addPersistence(getDeployment().getDeploymentName() + "-maven-repo", MAVEN_LOCAL_REPO_PATH, accessMode, persistentVolumeStorageSize);
+        // Repository is mounted aside of the image home directory, artifacts installed into the image stay available
+        addOrReplaceEnvVar(OpenShiftImageConstants.MAVEN_LOCAL_REPO, MAVEN_LOCAL_REPO_PATH);
+        return this;
+    }
+
+    /**
+     * Expose JVM tuning options as template parameters, blank parameter values keep the image defaults.
+     *
+     * @return Builder
+     */
+    public KieServerDeploymentBuilder withJvmTuningFromProperties() {
+        addOrReplaceProperty("Java Max Memory Ratio", "Percentage of container memory limit used as maximal heap size (Sets -Xmx). Leave blank for image default.", OpenShiftImageConstants.JAVA_MAX_MEM_RATIO, "", false);
+        addOrReplaceProperty("Java Initial Memory Ratio", "Percentage of maximal heap size used as initial heap size (Sets -Xms). Leave blank for image default.", OpenShiftImageConstants.JAVA_INITIAL_MEM_RATIO, "", false);
+        addOrReplaceProperty("Java Max Initial Memory", "Upper limit of initial heap size in megabytes. Leave blank for image default.", OpenShiftImageConstants.JAVA_MAX_INITIAL_MEM, "", false);
+        addOrReplaceProperty("GC Container Options", "Garbage collector options, e.g. -XX:+UseG1GC. Leave blank for image default.", OpenShiftImageConstants.GC_CONTAINER_OPTIONS, "", false);
+        addOrReplaceProperty("GC Max Metaspace Size", "Maximal metaspace size in megabytes. Leave blank for image default.", OpenShiftImageConstants.GC_MAX_METASPACE_SIZE, "", false);
+        addOrReplaceProperty("Java Diagnostics", "Enable GC logging and other JVM diagnostics output, any non-empty value enables it. Leave blank to disable.", OpenShiftImageConstants.JAVA_DIAGNOSTICS, "", false);
+        addOrReplaceProperty("Container Core Limit", "Number of CPU cores the JVM sizes its thread pools for. Leave blank for image default.", OpenShiftImageConstants.CONTAINER_CORE_LIMIT, "", false);
+        addOrReplaceProperty("Java Options Append", "Additional options appended to JVM command line.", OpenShiftImageConstants.JAVA_OPTS_APPEND, "", false);
+
+        for (String jvmTuningVariable : Arrays.asList(OpenShiftImageConstants.JAVA_MAX_MEM_RATIO, OpenShiftImageConstants.JAVA_INITIAL_MEM_RATIO,
+                                                      OpenShiftImageConstants.JAVA_MAX_INITIAL_MEM, OpenShiftImageConstants.GC_CONTAINER_OPTIONS,
+                                                      OpenShiftImageConstants.GC_MAX_METASPACE_SIZE, OpenShiftImageConstants.JAVA_DIAGNOSTICS,
+                                                      OpenShiftImageConstants.CONTAINER_CORE_LIMIT, OpenShiftImageConstants.JAVA_OPTS_APPEND)) {
+            addOrReplaceEnvVar(jvmTuningVariable, "${" + jvmTuningVariable + "}");
+        }
+        return this;
+    }
+
+    public JvmTuningBuilder withJvmTuning() {
+        return new JvmTuningBuilder();
+    }
+
+    /**
+     * JVM heap and GC options, passed to KIE server image as environment variables.
+     *
+     * Heap is sized relative to container memory limit, so ratios are preferred over fixed sizes.
+     */
+    public class JvmTuningBuilder {
+
+        /**
+         * @param maxMemoryRatio Percentage of container memory limit used as maximal heap size, 0 disables the limit.
+         * @return Builder
+         */
+        public JvmTuningBuilder withMaxMemoryRatio(int maxMemoryRatio) {
+            addOrReplaceEnvVar(OpenShiftImageConstants.JAVA_MAX_MEM_RATIO, Integer.toString(validatePercentage(maxMemoryRatio)));
+            return this;
+        }
+
+        /**
+         * @param initialMemoryRatio Percentage of maximal heap size used as initial heap size.
+         * @return Builder
+         */
+        public JvmTuningBuilder withInitialMemoryRatio(int initialMemoryRatio) {
+            addOrReplaceEnvVar(OpenShiftImageConstants.JAVA_INITIAL_MEM_RATIO, Integer.toString(validatePercentage(initialMemoryRatio)));
+            return this;
+        }
+
+        public JvmTuningBuilder withMaxInitialMemory(int maxInitialMemoryMegabytes) {
+            addOrReplaceEnvVar(OpenShiftImageConstants.JAVA_MAX_INITIAL_MEM, Integer.toString(maxInitialMemoryMegabytes));
+            return this;
+        }
+
+        /**
+         * @param gcOptions Garbage collector options replacing the image defaults, e.g. "-XX:+UseG1GC -XX:MaxGCPauseMillis=200".
+         * @return Builder
+         */
+        public JvmTuningBuilder withGcOptions(String gcOptions) {
+            addOrReplaceEnvVar(OpenShiftImageConstants.GC_CONTAINER_OPTIONS, gcOptions);
+            return this;
+        }
+
+        public JvmTuningBuilder withMaxMetaspaceSize(int maxMetaspaceSizeMegabytes) {
+            addOrReplaceEnvVar(OpenShiftImageConstants.GC_MAX_METASPACE_SIZE, Integer.toString(maxMetaspaceSizeMegabytes));
+            return this;
+        }
+
+        /**
+         * @param gcLogging Enable GC logging and other JVM diagnostics output. Image enables diagnostics for any non-empty value, so the variable is removed to disable it.
+         * @return Builder
+         */
+        public JvmTuningBuilder withGcLogging(boolean gcLogging) {
+            if (gcLogging) {
+                addOrReplaceEnvVar(OpenShiftImageConstants.JAVA_DIAGNOSTICS, "true");
+            } else {
+                removeEnvVar(OpenShiftImageConstants.JAVA_DIAGNOSTICS);
+            }
+            return this;
+        }
+
+        /**
+         * @param coreLimit Number of CPU cores used to size GC and compiler thread pools, should match container CPU limit.
+         * @return Builder
+         */
+        public JvmTuningBuilder withCoreLimit(int coreLimit) {
+            if (coreLimit < 1) {
+                throw new IllegalArgumentException("Core limit must be positive, was " + coreLimit + ".");
+            }
+            addOrReplaceEnvVar(OpenShiftImageConstants.CONTAINER_CORE_LIMIT, Integer.toString(coreLimit));
+            return this;
+        }
+
+        public JvmTuningBuilder withJavaOptionsAppend(String javaOptions) {
+            addOrReplaceEnvVar(OpenShiftImageConstants.JAVA_OPTS_APPEND, javaOptions);
+            return this;
+        }
+
+        public KieServerDeploymentBuilder endJvmTuning() {
+            return KieServerDeploymentBuilder.this;
+        }
+
+        private int validatePercentage(int percentage) {
+            if (percentage < 0 || percentage > 100) {
+                throw new IllegalArgumentException("Memory ratio must be between 0 and 100, was " + percentage + ".");
+            }
+            return percentage;
+        }
+    }
+
     public KieServerDeploymentBuilder connectToDatabase(MySqlDeployment mySqlDeployment) {
         String datasourcePrefix = ConfigurationLoader.getKieServerDatasourcePrefix();
         addOrReplaceEnvVar(OpenShiftImageConstants.KIE_SERVER_PERSISTENCE_DIALECT, "org.hibernate.dialect.MySQL5Dialect");
@@ -545,6 +969,7 @@ public class KieServerDeploymentBuilder extends AbstractDeploymentBuilder<KieSer
         addOrReplaceEnvVar(OpenShiftImageConstants.TIMER_SERVICE_DATA_STORE, mySqlDeployment.getServices().get(0).getMetadata().getName());
         // TODO override if exists?
         addOrReplaceEnvVar(OpenShiftImageConstants.TIMER_SERVICE_DATA_STORE_REFRESH_INTERVAL, "30000");
+        addDependency(mySqlDeployment);
         return this;
     }
 
@@ -566,6 +991,118 @@ public class KieServerDeploymentBuilder extends AbstractDeploymentBuilder<KieSer
         addOrReplaceEnvVar(OpenShiftImageConstants.TIMER_SERVICE_DATA_STORE, postgreSqlDeployment.getServices().get(0).getMetadata().getName());
         // TODO override if exists?
         addOrReplaceEnvVar(OpenShiftImageConstants.TIMER_SERVICE_DATA_STORE_REFRESH_INTERVAL, "30000");
+        addDependency(postgreSqlDeployment);
         return this;
     }
+
+    /**
+     * Expose datasource pool size and validation settings as template parameters, blank parameter values keep the image defaults.
+     * Has to be called after the KIE server is connected to a database.
+     *
+     * @return Builder
+     */
+    public KieServerDeploymentBuilder withDatasourceTuningFromProperties() {
+        DatasourceTuningBuilder datasourceTuningBuilder = new DatasourceTuningBuilder();
+        addOrReplaceProperty("Database Min Pool Size", "Minimal number of connections in KIE server datasource pool. Leave blank for image default.", OpenShiftImageConstants.DB_MIN_POOL_SIZE, "", false);
+        addOrReplaceProperty("Database Max Pool Size", "Maximal number of connections in KIE server datasource pool, database has to accept at least this number of connections per KIE server pod. Leave blank for image default.", OpenShiftImageConstants.DB_MAX_POOL_SIZE, "", false);
+        addOrReplaceProperty("Database Background Validation", "Validate idle datasource connections in background instead of before every use.", OpenShiftImageConstants.DB_BACKGROUND_VALIDATION, "false", false);
+        addOrReplaceProperty("Database Background Validation Interval", "Interval of datasource connection background validation in milliseconds. Leave blank for image default.", OpenShiftImageConstants.DB_BACKGROUND_VALIDATION_MILLIS, "", false);
+
+        datasourceTuningBuilder.addOrReplaceDatasourceEnvVar(OpenShiftImageConstants.MIN_POOL_SIZE, "${" + OpenShiftImageConstants.DB_MIN_POOL_SIZE + "}");
+        datasourceTuningBuilder.addOrReplaceDatasourceEnvVar(OpenShiftImageConstants.MAX_POOL_SIZE, "${" + OpenShiftImageConstants.DB_MAX_POOL_SIZE + "}");
+        datasourceTuningBuilder.addOrReplaceDatasourceEnvVar(OpenShiftImageConstants.BACKGROUND_VALIDATION, "${" + OpenShiftImageConstants.DB_BACKGROUND_VALIDATION + "}");
+        datasourceTuningBuilder.addOrReplaceDatasourceEnvVar(OpenShiftImageConstants.BACKGROUND_VALIDATION_MILLIS, "${" + OpenShiftImageConstants.DB_BACKGROUND_VALIDATION_MILLIS + "}");
+        datasourceTuningBuilder.withDefaultValidation();
+        return this;
+    }
+
+    /**
+     * Has to be called after the KIE server is connected to a database.
+     *
+     * @return Datasource tuning builder
+     */
+    public DatasourceTuningBuilder withDatasourceTuning() {
+        return new DatasourceTuningBuilder();
+    }
+
+    /**
+     * Connection pool and validation settings of KIE server datasource.
+     */
+    public class DatasourceTuningBuilder {
+
+        private String datasourcePrefix;
+        private String driver;
+
+        public DatasourceTuningBuilder() {
+            datasourcePrefix = ConfigurationLoader.getKieServerDatasourcePrefix();
+            driver = getDeployment().getOptionalEnvironmentVariableValue(datasourcePrefix + "_" + OpenShiftImageConstants.DRIVER)
+                                    .orElseThrow(() -> new RuntimeException("KIE server isn't connected to any database, cannot tune datasource."));
+        }
+
+        /**
+         * @param minPoolSize Minimal number of pooled connections.
+         * @param maxPoolSize Maximal number of pooled connections, database has to accept at least this number of connections per KIE server pod.
+         * @return Builder
+         */
+        public DatasourceTuningBuilder withPoolSize(int minPoolSize, int maxPoolSize) {
+            if (minPoolSize < 0 || maxPoolSize < 1 || maxPoolSize < minPoolSize) {
+                throw new IllegalArgumentException("Invalid datasource pool size range " + minPoolSize + "-" + maxPoolSize + ".");
+            }
+            addOrReplaceDatasourceEnvVar(OpenShiftImageConstants.MIN_POOL_SIZE, Integer.toString(minPoolSize));
+            addOrReplaceDatasourceEnvVar(OpenShiftImageConstants.MAX_POOL_SIZE, Integer.toString(maxPoolSize));
+            return this;
+        }
+
+        /**
+         * Validate idle connections periodically instead of before every use, using connection checker of the connected database.
+         *
+         * @param validationInterval Interval between validations.
+         * @return Builder
+         */
+        public DatasourceTuningBuilder withBackgroundValidation(Duration validationInterval) {
+            addOrReplaceDatasourceEnvVar(OpenShiftImageConstants.BACKGROUND_VALIDATION, "true");
+            addOrReplaceDatasourceEnvVar(OpenShiftImageConstants.BACKGROUND_VALIDATION_MILLIS, Long.toString(validationInterval.toMillis()));
+            return withDefaultValidation();
+        }
+
+        public DatasourceTuningBuilder withConnectionChecker(String connectionCheckerClassName) {
+            addOrReplaceDatasourceEnvVar(OpenShiftImageConstants.CONNECTION_CHECKER, connectionCheckerClassName);
+            return this;
+        }
+
+        public DatasourceTuningBuilder withExceptionSorter(String exceptionSorterClassName) {
+            addOrReplaceDatasourceEnvVar(OpenShiftImageConstants.EXCEPTION_SORTER, exceptionSorterClassName);
+            return this;
+        }
+
+        public KieServerDeploymentBuilder endDatasourceTuning() {
+            return KieServerDeploymentBuilder.this;
+        }
+
+        // Connection checker and exception sorter matching the database driver, unless defined explicitly
+        private DatasourceTuningBuilder withDefaultValidation() {
+            String validationExtensionPackage;
+            String validationExtensionPrefix;
+            if ("mysql".equals(driver)) {
+                validationExtensionPackage = "org.jboss.jca.adapters.jdbc.extensions.mysql.";
+                validationExtensionPrefix = "MySQL";
+            } else if ("postgresql".equals(driver)) {
+                validationExtensionPackage = "org.jboss.jca.adapters.jdbc.extensions.postgres.";
+                validationExtensionPrefix = "PostgreSQL";
+            } else {
+                return this;
+            }
+            if (!getDeployment().getOptionalEnvironmentVariableValue(datasourcePrefix + "_" + OpenShiftImageConstants.CONNECTION_CHECKER).isPresent()) {
+                withConnectionChecker(validationExtensionPackage + validationExtensionPrefix + "ValidConnectionChecker");
+            }
+            if (!getDeployment().getOptionalEnvironmentVariableValue(datasourcePrefix + "_" + OpenShiftImageConstants.EXCEPTION_SORTER).isPresent()) {
+                withExceptionSorter(validationExtensionPackage + validationExtensionPrefix + "ExceptionSorter");
+            }
+            return this;
+        }
+
+        private void addOrReplaceDatasourceEnvVar(String environmentVariableSuffix, String value) {
+            addOrReplaceEnvVar(datasourcePrefix + "_" + environmentVariableSuffix, value);
+        }
+    }
 }
@@ -0,0 +1,138 @@
+package org.kie.cloud.openshift.settings.builder;
+
+import java.util.HashMap;
+
+import io.fabric8.kubernetes.api.model.Container;
+import io.fabric8.kubernetes.api.model.ContainerPort;
+import io.fabric8.kubernetes.api.model.ContainerPortBuilder;
+import io.fabric8.kubernetes.api.model.IntOrString;
+import io.fabric8.kubernetes.api.model.Probe;
+import io.fabric8.kubernetes.api.model.ProbeBuilder;
+import io.fabric8.kubernetes.api.model.Service;
+import io.fabric8.kubernetes.api.model.ServicePort;
+import io.fabric8.kubernetes.api.model.ServicePortBuilder;
+import org.kie.cloud.openshift.OpenShiftImageConstants;
+import org.kie.cloud.openshift.configuration.ConfigurationLoader;
+import org.kie.cloud.openshift.deployment.MavenMirrorDeployment;
+import org.kie.cloud.openshift.util.NameGenerator;
+
+/**
+ * Cloud settings builder for caching Maven mirror (Nexus repository manager).
+ *
+ * Mirror proxies Maven Central by default, KIE servers connected to it download each artifact from outside of the
+ * project just once. Other remote repositories can be proxied by configuring Nexus.
+ */
+public class MavenMirrorDeploymentBuilder extends AbstractDeploymentBuilder<MavenMirrorDeploymentBuilder, MavenMirrorDeployment> {
+
+    private static final int HTTP_PORT = 8081;
+
+    public MavenMirrorDeploymentBuilder() {
+        this(NameGenerator.generateDeploymentName("maven-mirror"));
+    }
+
+    public MavenMirrorDeploymentBuilder(String deploymentName) {
+        super(new MavenMirrorDeployment(deploymentName));
+    }
+
+    @Override
+    protected void initDefaultValues() {
+        // Nexus image doesn't require any configuration
+    }
+
+    @Override
+    protected void configureDeploymentConfig() {
+        super.configureDeploymentConfig();
+
+        ContainerPort httpPort = new ContainerPortBuilder().withName("http")
+                                                           .withContainerPort(HTTP_PORT)
+                                                           .withProtocol("TCP")
+                                                           .build();
+        getDeployment().getDeploymentConfig().getSpec().getTemplate().getSpec().getContainers().get(0).getPorts().add(httpPort);
+    }
+
+    @Override
+    protected String getDefaultImageStreamName() {
+        return ConfigurationLoader.getMavenMirrorImageStreamName();
+    }
+
+    @Override
+    protected String getDefaultImageStreamNamespace() {
+        return ConfigurationLoader.getImageStreamNamespaceDefault();
+    }
+
+    @Override
+    protected String getDefaultImageStreamTag() {
+        return ConfigurationLoader.getMavenMirrorImageStreamTag();
+    }
+
+    @Override
+    protected void configureService() {
+        super.configureService();
+
+        ServicePort httpPort = new ServicePortBuilder().withName("http")
+                                                       .withPort(HTTP_PORT)
+                                                       .withNewTargetPortLike(new IntOrString(HTTP_PORT, null, null, new HashMap<String, Object>()))
+                                                       .endTargetPort()
+                                                       .build();
+        Service service = getDeployment().getServices().get(0);
+        service.getMetadata().getAnnotations().put("description", "The Maven mirror's http port.");
+        service.getSpec().getPorts().add(httpPort);
+    }
+
+    @Override
+    protected void configureLivenessProbe() {
+        // Nexus initializes its database and search indexes on the first start
+        Probe livenessProbe = new ProbeBuilder().withNewHttpGet()
+                                                    .withPath("/")
+                                                    .withNewPortLike(new IntOrString(HTTP_PORT, null, null, new HashMap<String, Object>()))
+                                                    .endPort()
+                                                .endHttpGet()
+                                                .withInitialDelaySeconds(240)
+                                                .withTimeoutSeconds(5)
+                                                .withPeriodSeconds(30)
+                                                .withFailureThreshold(3)
+                                                .build();
+        // Just one container should be available
+        Container container = getDeployment().getDeploymentConfig().getSpec().getTemplate().getSpec().getContainers().get(0);
+        container.setLivenessProbe(livenessProbe);
+    }
+
+    @Override
+    protected void configureReadinessProbe() {
+        Probe readinessProbe = new ProbeBuilder().withNewHttpGet()
+                                                     .withPath("/")
+                                                     .withNewPortLike(new IntOrString(HTTP_PORT, null, null, new HashMap<String, Object>()))
+                                                     .endPort()
+                                                 .endHttpGet()
+                                                 .withInitialDelaySeconds(30)
+                                                 .withTimeoutSeconds(5)
+                                                 .withPeriodSeconds(10)
+                                                 .withFailureThreshold(30)
+                                                 .build();
+        // Just one container should be available
+        Container container = getDeployment().getDeploymentConfig().getSpec().getTemplate().getSpec().getContainers().get(0);
+        container.setReadinessProbe(readinessProbe);
+    }
+
+    public MavenMirrorDeploymentBuilder makePersistentFromProperties() {
+        addOrReplaceProperty("Maven Mirror Volume Capacity", "Size of persistent storage for artifacts cached by Maven mirror.", OpenShiftImageConstants.MAVEN_MIRROR_VOLUME_CAPACITY, "10Gi", true);
+        makePersistent("${" + OpenShiftImageConstants.MAVEN_MIRROR_VOLUME_CAPACITY + "}");
+        return this;
+    }
+
+    public MavenMirrorDeploymentBuilder makePersistent() {
+        makePersistent("10Gi");
+        return this;
+    }
+
+    /**
+     * Keep cached artifacts on a persistent volume, so they survive mirror restarts.
+     *
+     * @param persistentVolumeStorageSize Size of the volume, e.g. "10Gi".
+     * @return Builder
+     */
+    public MavenMirrorDeploymentBuilder makePersistent(String persistentVolumeStorageSize) {
+        addPersistence(getDeployment().getDeploymentName(), "/nexus-data", "ReadWriteOnce", persistentVolumeStorageSize);
+        return this;
+    }
+}
@@ -15,7 +15,9 @@
  */
 package org.kie.cloud.openshift.settings.builder;
 
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.Optional;
 
 import io.fabric8.kubernetes.api.model.Container;
 import io.fabric8.kubernetes.api.model.ContainerPort;
@@ -29,6 +31,7 @@ import io.fabric8.kubernetes.api.model.ServicePortBuilder;
 import org.kie.cloud.openshift.OpenShiftImageConstants;
 import org.kie.cloud.openshift.configuration.ConfigurationLoader;
 import org.kie.cloud.openshift.deployment.MySqlDeployment;
+import org.kie.cloud.openshift.util.MemorySize;
 import org.kie.cloud.openshift.util.NameGenerator;
 
 /**
@@ -39,6 +42,10 @@ import org.kie.cloud.openshift.util.NameGenerator;
  */
 public class MySqlDeploymentBuilder extends AbstractDeploymentBuilder<MySqlDeploymentBuilder, MySqlDeployment> {
 
+    // Database pod is dedicated to MySQL, half of the memory is left for connections and OS page cache
+    private static final int INNODB_BUFFER_POOL_MEMORY_PERCENTAGE = 50;
+    private static final int INNODB_LOG_FILE_BUFFER_POOL_PERCENTAGE = 25;
+
     public MySqlDeploymentBuilder() {
         this(NameGenerator.generateDeploymentName("mysql"));
     }
@@ -176,4 +183,106 @@ public class MySqlDeploymentBuilder extends AbstractDeploymentBuilder<MySqlDeplo
         addPersistence(getDeployment().getDeploymentName(), "/var/lib/mysql/data", "ReadWriteOnce", persistentVolumeStorageSize);
         return this;
     }
+
+    /**
+     * Expose MySQL tuning options as template parameters. Default values of InnoDB sizes are derived from container
+     * memory limit if it is set when building, otherwise blank values keep the image defaults.
+     *
+     * @return Builder
+     */
+    public MySqlDeploymentBuilder withMySqlTuningFromProperties() {
+        addOrReplaceProperty("MySQL Max Connections", "Maximal number of client connections, has to cover datasource pools of all connected KIE server pods.", OpenShiftImageConstants.MYSQL_MAX_CONNECTIONS, "", false);
+        addOrReplaceProperty("MySQL Table Open Cache", "Number of open tables for all threads.", OpenShiftImageConstants.MYSQL_TABLE_OPEN_CACHE, "", false);
+        addOrReplaceProperty("MySQL InnoDB Buffer Pool Size", "Size of memory area where InnoDB caches table and index data, e.g. 512M.", OpenShiftImageConstants.MYSQL_INNODB_BUFFER_POOL_SIZE, "", false);
+        addOrReplaceProperty("MySQL InnoDB Log File Size", "Size of each InnoDB redo log file, e.g. 128M.", OpenShiftImageConstants.MYSQL_INNODB_LOG_FILE_SIZE, "", false);
+        addOrReplaceProperty("MySQL InnoDB Log Buffer Size", "Size of buffer InnoDB uses to write to redo log files, e.g. 16M.", OpenShiftImageConstants.MYSQL_INNODB_LOG_BUFFER_SIZE, "", false);
+
+        for (String tuningVariable : Arrays.asList(OpenShiftImageConstants.MYSQL_MAX_CONNECTIONS, OpenShiftImageConstants.MYSQL_TABLE_OPEN_CACHE,
+                                                   OpenShiftImageConstants.MYSQL_INNODB_BUFFER_POOL_SIZE, OpenShiftImageConstants.MYSQL_INNODB_LOG_FILE_SIZE,
+                                                   OpenShiftImageConstants.MYSQL_INNODB_LOG_BUFFER_SIZE)) {
+            addOrReplaceEnvVar(tuningVariable, "${" + tuningVariable + "}");
+        }
+        return this;
+    }
+
+    public MySqlTuningBuilder withMySqlTuning() {
+        return new MySqlTuningBuilder();
+    }
+
+    /**
+     * MySQL server options, passed to MySQL image as environment variables.
+     *
+     * InnoDB buffer pool and log file sizes which aren't set explicitly are derived from container memory limit.
+     */
+    public class MySqlTuningBuilder {
+
+        public MySqlTuningBuilder withMaxConnections(int maxConnections) {
+            if (maxConnections < 1) {
+                throw new IllegalArgumentException("Max connections must be positive, was " + maxConnections + ".");
+            }
+            addOrReplaceEnvVar(OpenShiftImageConstants.MYSQL_MAX_CONNECTIONS, Integer.toString(maxConnections));
+            return this;
+        }
+
+        public MySqlTuningBuilder withTableOpenCache(int tableOpenCache) {
+            addOrReplaceEnvVar(OpenShiftImageConstants.MYSQL_TABLE_OPEN_CACHE, Integer.toString(tableOpenCache));
+            return this;
+        }
+
+        /**
+         * @param innodbBufferPoolSize Size in MySQL format, e.g. "512M".
+         * @return Builder
+         */
+        public MySqlTuningBuilder withInnodbBufferPoolSize(String innodbBufferPoolSize) {
+            addOrReplaceEnvVar(OpenShiftImageConstants.MYSQL_INNODB_BUFFER_POOL_SIZE, innodbBufferPoolSize);
+            return this;
+        }
+
+        /**
+         * @param innodbLogFileSize Size in MySQL format, e.g. "128M".
+         * @return Builder
+         */
+        public MySqlTuningBuilder withInnodbLogFileSize(String innodbLogFileSize) {
+            addOrReplaceEnvVar(OpenShiftImageConstants.MYSQL_INNODB_LOG_FILE_SIZE, innodbLogFileSize);
+            return this;
+        }
+
+        /**
+         * @param innodbLogBufferSize Size in MySQL format, e.g. "16M".
+         * @return Builder
+         */
+        public MySqlTuningBuilder withInnodbLogBufferSize(String innodbLogBufferSize) {
+            addOrReplaceEnvVar(OpenShiftImageConstants.MYSQL_INNODB_LOG_BUFFER_SIZE, innodbLogBufferSize);
+            return this;
+        }
+
+        public MySqlDeploymentBuilder endMySqlTuning() {
+            return MySqlDeploymentBuilder.this;
+        }
+    }
+
+    @Override
+    protected void configureDerivedValues() {
+        Optional<Long> memoryLimit = getContainerMemoryLimit();
+        if (!memoryLimit.isPresent()) {
+            return;
+        }
+        // Memory limit could be set after the template parameters were defined
+        setPropertyValueIfBlank(OpenShiftImageConstants.MYSQL_INNODB_BUFFER_POOL_SIZE, getDefaultInnodbBufferPoolSize(memoryLimit.get()));
+        setPropertyValueIfBlank(OpenShiftImageConstants.MYSQL_INNODB_LOG_FILE_SIZE, getDefaultInnodbLogFileSize(memoryLimit.get()));
+        if (!getDeployment().getOptionalEnvironmentVariableValue(OpenShiftImageConstants.MYSQL_INNODB_BUFFER_POOL_SIZE).isPresent()) {
+            addOrReplaceEnvVar(OpenShiftImageConstants.MYSQL_INNODB_BUFFER_POOL_SIZE, getDefaultInnodbBufferPoolSize(memoryLimit.get()));
+        }
+        if (!getDeployment().getOptionalEnvironmentVariableValue(OpenShiftImageConstants.MYSQL_INNODB_LOG_FILE_SIZE).isPresent()) {
+            addOrReplaceEnvVar(OpenShiftImageConstants.MYSQL_INNODB_LOG_FILE_SIZE, getDefaultInnodbLogFileSize(memoryLimit.get()));
+        }
+    }
+
+    private static String getDefaultInnodbBufferPoolSize(long memoryLimit) {
+        return MemorySize.toMegabytes(memoryLimit * INNODB_BUFFER_POOL_MEMORY_PERCENTAGE / 100);
+    }
+
+    private static String getDefaultInnodbLogFileSize(long memoryLimit) {
+        return MemorySize.toMegabytes(memoryLimit * INNODB_BUFFER_POOL_MEMORY_PERCENTAGE / 100 * INNODB_LOG_FILE_BUFFER_POOL_PERCENTAGE / 100);
+    }
 }
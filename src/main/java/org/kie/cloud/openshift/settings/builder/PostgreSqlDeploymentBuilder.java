@@ -16,6 +16,7 @@
 package org.kie.cloud.openshift.settings.builder;
 
 import java.util.HashMap;
+import java.util.Optional;
 
 import io.fabric8.kubernetes.api.model.Container;
 import io.fabric8.kubernetes.api.model.ContainerPort;
@@ -29,6 +30,7 @@ import io.fabric8.kubernetes.api.model.ServicePortBuilder;
 import org.kie.cloud.openshift.OpenShiftImageConstants;
 import org.kie.cloud.openshift.configuration.ConfigurationLoader;
 import org.kie.cloud.openshift.deployment.PostgreSqlDeployment;
+import org.kie.cloud.openshift.util.MemorySize;
 import org.kie.cloud.openshift.util.NameGenerator;
 
 /**
@@ -39,6 +41,10 @@ import org.kie.cloud.openshift.util.NameGenerator;
  */
 public class PostgreSqlDeploymentBuilder extends AbstractDeploymentBuilder<PostgreSqlDeploymentBuilder, PostgreSqlDeployment> {
 
+    // Usual PostgreSQL sizing for a dedicated database pod
+    private static final int SHARED_BUFFERS_MEMORY_PERCENTAGE = 25;
+    private static final int EFFECTIVE_CACHE_SIZE_MEMORY_PERCENTAGE = 50;
+
     public PostgreSqlDeploymentBuilder() {
         this(NameGenerator.generateDeploymentName("postgresql"));
     }
@@ -172,6 +178,64 @@ public class PostgreSqlDeploymentBuilder extends AbstractDeploymentBuilder<Postg
         return this;
     }
 
+    public PostgreSqlDeploymentBuilder withMaxConnections(int maxConnections) {
+        if (maxConnections < 1) {
+            throw new IllegalArgumentException("Max connections must be positive, was " + maxConnections + ".");
+        }
+        addOrReplaceEnvVar(OpenShiftImageConstants.POSTGRESQL_MAX_CONNECTIONS, Integer.toString(maxConnections));
+        return this;
+    }
+
+    public PostgreSqlDeploymentBuilder withMaxConnectionsFromProperties() {
+        addOrReplaceProperty("PostgreSQL Max Connections", "Maximal number of client connections, has to cover datasource pools of all connected KIE server pods.", OpenShiftImageConstants.POSTGRESQL_MAX_CONNECTIONS, "100", true);
+        addOrReplaceEnvVar(OpenShiftImageConstants.POSTGRESQL_MAX_CONNECTIONS, "${" + OpenShiftImageConstants.POSTGRESQL_MAX_CONNECTIONS + "}");
+        return this;
+    }
+
+    /**
+     * If not set, shared buffers are derived from container memory limit.
+     *
+     * @param sharedBuffers Size of memory used for caching data, in PostgreSQL format, e.g. "256MB".
+     * @return Builder
+     */
+    public PostgreSqlDeploymentBuilder withSharedBuffers(String sharedBuffers) {
+        addOrReplaceEnvVar(OpenShiftImageConstants.POSTGRESQL_SHARED_BUFFERS, sharedBuffers);
+        return this;
+    }
+
+    /**
+     * Default value of the template parameter is derived from container memory limit if it is set when building.
+     *
+     * @return Builder
+     */
+    public PostgreSqlDeploymentBuilder withSharedBuffersFromProperties() {
+        addOrReplaceProperty("PostgreSQL Shared Buffers", "Size of memory used for caching data, e.g. 256MB. Leave blank for image default.", OpenShiftImageConstants.POSTGRESQL_SHARED_BUFFERS, "", false);
+        addOrReplaceEnvVar(OpenShiftImageConstants.POSTGRESQL_SHARED_BUFFERS, "${" + OpenShiftImageConstants.POSTGRESQL_SHARED_BUFFERS + "}");
+        return this;
+    }
+
+    /**
+     * If not set, effective cache size is derived from container memory limit.
+     *
+     * @param effectiveCacheSize Planner estimate of memory available for disk caching, in PostgreSQL format, e.g. "512MB".
+     * @return Builder
+     */
+    public PostgreSqlDeploymentBuilder withEffectiveCacheSize(String effectiveCacheSize) {
+        addOrReplaceEnvVar(OpenShiftImageConstants.POSTGRESQL_EFFECTIVE_CACHE_SIZE, effectiveCacheSize);
+        return this;
+    }
+
+    /**
+     * Default value of the template parameter is derived from container memory limit if it is set when building.
+     *
+     * @return Builder
+     */
+    public PostgreSqlDeploymentBuilder withEffectiveCacheSizeFromProperties() {
+        addOrReplaceProperty("PostgreSQL Effective Cache Size", "Planner estimate of memory available for disk caching, e.g. 512MB. Leave blank for image default.", OpenShiftImageConstants.POSTGRESQL_EFFECTIVE_CACHE_SIZE, "", false);
+        addOrReplaceEnvVar(OpenShiftImageConstants.POSTGRESQL_EFFECTIVE_CACHE_SIZE, "${" + OpenShiftImageConstants.POSTGRESQL_EFFECTIVE_CACHE_SIZE + "}");
+        return this;
+    }
+
     public PostgreSqlDeploymentBuilder makePersistentFromProperties() {
         addOrReplaceProperty("Database Volume Capacity", "Size of persistent storage for the database volume.", OpenShiftImageConstants.DB_VOLUME_CAPACITY, "1Gi", true);
         makePersistent("${" + OpenShiftImageConstants.DB_VOLUME_CAPACITY + "}");
@@ -187,4 +251,29 @@ public class PostgreSqlDeploymentBuilder extends AbstractDeploymentBuilder<Postg
         addPersistence(getDeployment().getDeploymentName(), "/var/lib/pgsql/data", "ReadWriteOnce", persistentVolumeStorageSize);
         return this;
     }
+
+    @Override
+    protected void configureDerivedValues() {
+        Optional<Long> memoryLimit = getContainerMemoryLimit();
+        if (!memoryLimit.isPresent()) {
+            return;
+        }
+        // Memory limit could be set after the template parameters were defined
+        setPropertyValueIfBlank(OpenShiftImageConstants.POSTGRESQL_SHARED_BUFFERS, getDefaultSharedBuffers(memoryLimit.get()));
+        setPropertyValueIfBlank(OpenShiftImageConstants.POSTGRESQL_EFFECTIVE_CACHE_SIZE, getDefaultEffectiveCacheSize(memoryLimit.get()));
+        if (!getDeployment().getOptionalEnvironmentVariableValue(OpenShiftImageConstants.POSTGRESQL_SHARED_BUFFERS).isPresent()) {
+            withSharedBuffers(getDefaultSharedBuffers(memoryLimit.get()));
+        }
+        if (!getDeployment().getOptionalEnvironmentVariableValue(OpenShiftImageConstants.POSTGRESQL_EFFECTIVE_CACHE_SIZE).isPresent()) {
+            withEffectiveCacheSize(getDefaultEffectiveCacheSize(memoryLimit.get()));
+        }
+    }
+
+    private static String getDefaultSharedBuffers(long memoryLimit) {
+        return MemorySize.toMegabytes(memoryLimit * SHARED_BUFFERS_MEMORY_PERCENTAGE / 100) + "B";
+    }
+
+    private static String getDefaultEffectiveCacheSize(long memoryLimit) {
+        return MemorySize.toMegabytes(memoryLimit * EFFECTIVE_CACHE_SIZE_MEMORY_PERCENTAGE / 100) + "B";
+    }
 }
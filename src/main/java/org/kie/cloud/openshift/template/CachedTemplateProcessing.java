@@ -0,0 +1,26 @@
+package org.kie.cloud.openshift.template;
+
+import java.util.Map;
+
+import io.fabric8.kubernetes.api.model.KubernetesList;
+import io.fabric8.openshift.client.OpenShiftClient;
+import org.kie.cloud.openshift.scenario.Scenario;
+
+/**
+ * Reuses objects processed by another strategy for the same scenario and parameters.
+ */
+public class CachedTemplateProcessing implements TemplateProcessingStrategy {
+
+    private TemplateProcessingStrategy delegate;
+    private ProcessedTemplateCache cache;
+
+    public CachedTemplateProcessing(TemplateProcessingStrategy delegate, ProcessedTemplateCache cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public KubernetesList process(OpenShiftClient openShiftClient, String projectName, Scenario scenario, Map<String, String> parameters) {
+        return cache.getOrProcess(scenario, parameters, () -> delegate.process(openShiftClient, projectName, scenario, parameters));
+    }
+}
@@ -0,0 +1,18 @@
+package org.kie.cloud.openshift.template;
+
+import java.util.Map;
+
+import io.fabric8.kubernetes.api.model.KubernetesList;
+import io.fabric8.openshift.client.OpenShiftClient;
+import org.kie.cloud.openshift.scenario.Scenario;
+
+/**
+ * Processes scenario template in memory, no request is sent to the cluster.
+ */
+public class LocalTemplateProcessing implements TemplateProcessingStrategy {
+
+    @Override
+    public KubernetesList process(OpenShiftClient openShiftClient, String projectName, Scenario scenario, Map<String, String> parameters) {
+        return TemplateProcessor.process(scenario, parameters);
+    }
+}
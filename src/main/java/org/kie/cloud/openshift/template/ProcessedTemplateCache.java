@@ -0,0 +1,166 @@
+package org.kie.cloud.openshift.template;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import io.fabric8.kubernetes.api.model.KubernetesList;
+import io.fabric8.kubernetes.client.utils.Serialization;
+import io.fabric8.openshift.api.model.Parameter;
+import org.kie.cloud.openshift.deployment.Deployment;
+import org.kie.cloud.openshift.scenario.Scenario;
+import org.kie.cloud.openshift.scenario.TemplateFormat;
+
+/**
+ * Cache of processed scenario templates, keyed by SHA-256 hash of the scenario template and parameters.
+ *
+ * Processed objects are stored serialized, so every cache hit returns a new copy which can be modified freely. Least
+ * recently used entries are evicted once the total size of stored objects exceeds the limit. Scenarios with generated
+ * parameter values which aren't passed explicitly are not cached, every processing has to generate new values.
+ */
+public class ProcessedTemplateCache {
+
+    private final long maxSizeBytes;
+    private final LinkedHashMap<String, byte[]> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long sizeBytes = 0;
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+
+    /**
+     * @param maxSizeBytes Maximal total size of cached processed objects, 0 disables caching.
+     */
+    public ProcessedTemplateCache(long maxSizeBytes) {
+        if (maxSizeBytes < 0) {
+            throw new IllegalArgumentException("Cache size cannot be negative, was " + maxSizeBytes + ".");
+        }
+        this.maxSizeBytes = maxSizeBytes;
+    }
+
+    /**
+     * @param scenario Scenario to be processed.
+     * @param parameters Template parameter values.
+     * @param processor Processes the scenario with the parameters.
+     * @return Processed objects, either cached or processed by the processor.
+     */
+    public KubernetesList getOrProcess(Scenario scenario, Map<String, String> parameters, Supplier<KubernetesList> processor) {
+        if (maxSizeBytes == 0 || hasGeneratedParameters(scenario, parameters)) {
+            return processor.get();
+        }
+
+        String key = computeKey(scenario, parameters);
+        byte[] cached = get(key);
+        if (cached != null) {
+            hitCount.incrementAndGet();
+            return Serialization.unmarshal(new ByteArrayInputStream(cached), KubernetesList.class);
+        }
+
+        missCount.incrementAndGet();
+        KubernetesList processed = processor.get();
+        try {
+            put(key, Serialization.jsonMapper().writeValueAsBytes(processed));
+        } catch (IOException e) {
+            throw new RuntimeException("Error while caching processed template.", e);
+        }
+        return processed;
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    public synchronized int getEntryCount() {
+        return entries.size();
+    }
+
+    public synchronized long getSizeBytes() {
+        return sizeBytes;
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        sizeBytes = 0;
+    }
+
+    private synchronized byte[] get(String key) {
+        return entries.get(key);
+    }
+
+    private synchronized void put(String key, byte[] processed) {
+        if (processed.length > maxSizeBytes) {
+            return;
+        }
+        byte[] replaced = entries.put(key, processed);
+        sizeBytes += processed.length - (replaced == null ? 0 : replaced.length);
+
+        Iterator<Entry<String, byte[]>> leastRecentlyUsed = entries.entrySet().iterator();
+        while (sizeBytes > maxSizeBytes) {
+            sizeBytes -= leastRecentlyUsed.next().getValue().length;
+            leastRecentlyUsed.remove();
+        }
+    }
+
+    private static boolean hasGeneratedParameters(Scenario scenario, Map<String, String> parameters) {
+        for (Deployment deployment : scenario.getDeployments()) {
+            for (Parameter parameter : deployment.getParameters()) {
+                if (parameter.getGenerate() != null && !parameters.containsKey(parameter.getName())) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static String computeKey(Scenario scenario, Map<String, String> parameters) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("SHA-256 algorithm is not available.", e);
+        }
+        // Template is streamed into the digest, it is never kept in memory as a whole
+        scenario.writeTemplate(new DigestOutputStream(NullOutputStream.INSTANCE, digest), TemplateFormat.JSON);
+        // Parameter separators can't be part of names, values are length prefixed
+        for (Entry<String, String> parameter : new TreeMap<>(parameters).entrySet()) {
+            byte[] value = String.valueOf(parameter.getValue()).getBytes(StandardCharsets.UTF_8);
+            digest.update((parameter.getKey() + "=" + value.length + ":").getBytes(StandardCharsets.UTF_8));
+            digest.update(value);
+        }
+
+        StringBuilder key = new StringBuilder();
+        for (byte b : digest.digest()) {
+            key.append(String.format("%02x", b));
+        }
+        return key.toString();
+    }
+
+    private static class NullOutputStream extends OutputStream {
+
+        private static final NullOutputStream INSTANCE = new NullOutputStream();
+
+        @Override
+        public void write(int b) {
+            // Discard
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            // Discard
+        }
+    }
+}
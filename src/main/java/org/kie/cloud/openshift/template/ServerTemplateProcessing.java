@@ -0,0 +1,82 @@
+package org.kie.cloud.openshift.template;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.KubernetesList;
+import io.fabric8.kubernetes.api.model.KubernetesListBuilder;
+import io.fabric8.kubernetes.client.HttpClientAware;
+import io.fabric8.kubernetes.client.utils.Serialization;
+import io.fabric8.kubernetes.client.utils.URLUtils;
+import io.fabric8.openshift.api.model.Parameter;
+import io.fabric8.openshift.api.model.ParameterBuilder;
+import io.fabric8.openshift.api.model.Template;
+import io.fabric8.openshift.api.model.TemplateBuilder;
+import io.fabric8.openshift.client.OpenShiftClient;
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import org.kie.cloud.openshift.deployment.Deployment;
+import org.kie.cloud.openshift.scenario.Scenario;
+
+/**
+ * Processes scenario template by the cluster, using "processedtemplates" endpoint of the project.
+ *
+ * Template is sent directly from the scenario model. Template operations of the OpenShift client can't be used as they
+ * parse the unprocessed template, which fails for parameterized numeric fields.
+ */
+public class ServerTemplateProcessing implements TemplateProcessingStrategy {
+
+    private static final String TEMPLATE_NAME = "custom-template";
+    private static final MediaType JSON = MediaType.parse("application/json");
+
+    @Override
+    public KubernetesList process(OpenShiftClient openShiftClient, String projectName, Scenario scenario, Map<String, String> parameters) {
+        if (!(openShiftClient instanceof HttpClientAware)) {
+            throw new RuntimeException("OpenShift client " + openShiftClient.getClass().getName() + " doesn't support server side template processing.");
+        }
+        String processUrl = URLUtils.join(openShiftClient.getOpenshiftUrl().toString(), "namespaces", projectName, "processedtemplates");
+        try {
+            Request request = new Request.Builder().post(RequestBody.create(JSON, Serialization.jsonMapper().writeValueAsBytes(getTemplate(scenario, parameters))))
+                                                   .url(processUrl)
+                                                   .build();
+            try (Response response = ((HttpClientAware) openShiftClient).getHttpClient().newCall(request).execute()) {
+                if (!response.isSuccessful()) {
+                    throw new RuntimeException("Error while processing template in project " + projectName + ", server responded with " + response.code() + ": " + response.body().string());
+                }
+                Template processed = Serialization.unmarshal(response.body().byteStream(), Template.class);
+                return new KubernetesListBuilder().withItems(processed.getObjects()).build();
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Error while processing template in project " + projectName + ".", e);
+        }
+    }
+
+    private static Template getTemplate(Scenario scenario, Map<String, String> parameters) {
+        List<HasMetadata> objects = new ArrayList<>();
+        for (Deployment deployment : scenario.getDeployments()) {
+            objects.addAll(deployment.getObjects());
+        }
+        // Passed values replace defaults and generators, same as "oc process"
+        List<Parameter> templateParameters = new ArrayList<>();
+        for (Parameter parameter : scenario.getParameters()) {
+            if (parameters.containsKey(parameter.getName())) {
+                templateParameters.add(new ParameterBuilder(parameter).withValue(parameters.get(parameter.getName()))
+                                                                      .withGenerate(null)
+                                                                      .build());
+            } else {
+                templateParameters.add(parameter);
+            }
+        }
+        return new TemplateBuilder().withNewMetadata()
+                                        .withName(TEMPLATE_NAME)
+                                    .endMetadata()
+                                    .withObjects(objects)
+                                    .withParameters(templateParameters)
+                                    .build();
+    }
+}
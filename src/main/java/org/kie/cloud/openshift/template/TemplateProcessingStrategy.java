@@ -0,0 +1,22 @@
+package org.kie.cloud.openshift.template;
+
+import java.util.Map;
+
+import io.fabric8.kubernetes.api.model.KubernetesList;
+import io.fabric8.openshift.client.OpenShiftClient;
+import org.kie.cloud.openshift.scenario.Scenario;
+
+/**
+ * Processes scenario template with parameters into objects to be created in a project.
+ */
+public interface TemplateProcessingStrategy {
+
+    /**
+     * @param openShiftClient Client connected to the cluster.
+     * @param projectName Project the processed objects are going to be created in.
+     * @param scenario Scenario to be processed.
+     * @param parameters Template parameter values.
+     * @return Processed objects, in the same order as in the scenario.
+     */
+    KubernetesList process(OpenShiftClient openShiftClient, String projectName, Scenario scenario, Map<String, String> parameters);
+}
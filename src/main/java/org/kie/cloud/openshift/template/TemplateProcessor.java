@@ -0,0 +1,158 @@
+package org.kie.cloud.openshift.template;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import com.mifmif.common.regex.Generex;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.KubernetesList;
+import io.fabric8.kubernetes.client.utils.Serialization;
+import io.fabric8.openshift.api.model.Parameter;
+import org.kie.cloud.openshift.deployment.Deployment;
+import org.kie.cloud.openshift.scenario.Scenario;
+
+/**
+ * Processes scenario objects with template parameters in memory, without serializing the template to text and
+ * parsing it back.
+ *
+ * Parameter values are resolved the same way as by local template processing of the OpenShift client: passed value,
+ * parameter default value, generated value ("expression" generator) or empty value for optional parameters.
+ * References "${NAME}" are replaced in all string values and field names, references "${{NAME}}" spanning a whole
+ * string value are replaced by the non-string JSON value if the parameter value is a number or boolean. Strings are
+ * substituted in a single pass, references contained in parameter values are kept as they are.
+ */
+public final class TemplateProcessor {
+
+    private static final Pattern PARAMETER_REFERENCE = Pattern.compile("\\$\\{([a-zA-Z0-9_]+)\\}");
+    private static final Pattern NON_STRING_PARAMETER_REFERENCE = Pattern.compile("\\$\\{\\{([a-zA-Z0-9_]+)\\}\\}");
+    private static final String GENERATE_EXPRESSION = "expression";
+
+    private TemplateProcessor() {
+        // Utility class
+    }
+
+    public static KubernetesList process(Scenario scenario, Map<String, String> parameters) {
+        List<HasMetadata> objects = new ArrayList<>();
+        for (Deployment deployment : scenario.getDeployments()) {
+            objects.addAll(deployment.getObjects());
+        }
+        return process(objects, scenario.getParameters(), parameters);
+    }
+
+    /**
+     * @param objects Template objects, these are not modified.
+     * @param templateParameters Template parameter definitions.
+     * @param parameters Parameter values.
+     * @return New processed objects.
+     */
+    public static KubernetesList process(List<HasMetadata> objects, Collection<Parameter> templateParameters, Map<String, String> parameters) {
+        Map<String, String> values = resolveValues(templateParameters, parameters);
+        ObjectMapper mapper = Serialization.jsonMapper();
+
+        ObjectNode list = mapper.createObjectNode();
+        list.put("apiVersion", "v1");
+        list.put("kind", "List");
+        ArrayNode items = list.putArray("items");
+        for (HasMetadata object : objects) {
+            items.add(substitute(mapper.valueToTree(object), values));
+        }
+        try {
+            return mapper.treeToValue(list, KubernetesList.class);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Error while processing template objects.", e);
+        }
+    }
+
+    private static Map<String, String> resolveValues(Collection<Parameter> templateParameters, Map<String, String> parameters) {
+        Map<String, String> values = new HashMap<>();
+        for (Parameter parameter : templateParameters) {
+            String name = parameter.getName();
+            if (parameters.containsKey(name)) {
+                values.put(name, parameters.get(name));
+            } else if (parameter.getValue() != null && !parameter.getValue().isEmpty()) {
+                values.put(name, parameter.getValue());
+            } else if (GENERATE_EXPRESSION.equals(parameter.getGenerate())) {
+                values.put(name, new Generex(parameter.getFrom()).random());
+            } else if (parameter.getRequired() == null || !parameter.getRequired()) {
+                values.put(name, "");
+            } else {
+                throw new IllegalArgumentException("No value available for parameter name: " + name);
+            }
+        }
+        return values;
+    }
+
+    private static JsonNode substitute(JsonNode node, Map<String, String> values) {
+        if (node.isTextual()) {
+            return substituteText(node.asText(), values);
+        }
+        if (node.isArray()) {
+            ArrayNode array = (ArrayNode) node;
+            for (int i = 0; i < array.size(); i++) {
+                array.set(i, substitute(array.get(i), values));
+            }
+        } else if (node.isObject()) {
+            ObjectNode object = (ObjectNode) node;
+            Map<String, JsonNode> fields = new LinkedHashMap<>();
+            boolean renamed = false;
+            Iterator<Entry<String, JsonNode>> iterator = object.fields();
+            while (iterator.hasNext()) {
+                Entry<String, JsonNode> field = iterator.next();
+                String name = substituteString(field.getKey(), values);
+                renamed |= !name.equals(field.getKey());
+                fields.put(name, substitute(field.getValue(), values));
+            }
+            if (renamed) {
+                object.removeAll();
+            }
+            object.setAll(fields);
+        }
+        return node;
+    }
+
+    private static JsonNode substituteText(String text, Map<String, String> values) {
+        Matcher nonString = NON_STRING_PARAMETER_REFERENCE.matcher(text);
+        if (nonString.matches() && values.containsKey(nonString.group(1))) {
+            String value = values.get(nonString.group(1));
+            try {
+                JsonNode parsed = Serialization.jsonMapper().readTree(value);
+                if (parsed != null && (parsed.isNumber() || parsed.isBoolean())) {
+                    return parsed;
+                }
+            } catch (IOException e) {
+                // Not a JSON scalar, keep the value as string
+            }
+            return TextNode.valueOf(value);
+        }
+        return TextNode.valueOf(substituteString(text, values));
+    }
+
+    private static String substituteString(String text, Map<String, String> values) {
+        if (!text.contains("${")) {
+            return text;
+        }
+        Matcher matcher = PARAMETER_REFERENCE.matcher(text);
+        StringBuffer result = new StringBuffer();
+        while (matcher.find()) {
+            String value = values.get(matcher.group(1));
+            matcher.appendReplacement(result, Matcher.quoteReplacement(value != null ? value : matcher.group()));
+        }
+        matcher.appendTail(result);
+        return result.toString();
+    }
+}
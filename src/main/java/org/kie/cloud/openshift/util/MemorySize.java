@@ -0,0 +1,60 @@
+package org.kie.cloud.openshift.util;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import io.fabric8.kubernetes.api.model.Quantity;
+
+public class MemorySize {
+
+    private static final Pattern MEMORY_QUANTITY_PATTERN = Pattern.compile("([0-9]+(?:\\.[0-9]+)?)(|k|M|G|T|Ki|Mi|Gi|Ti)");
+
+    /**
+     * @param quantity Memory quantity, e.g. "512Mi" or "1G".
+     * @return Number of bytes, empty if the quantity isn't a plain memory amount (e.g. template parameter reference).
+     */
+    public static Optional<Long> toBytes(Quantity quantity) {
+        if (quantity == null || quantity.getAmount() == null) {
+            return Optional.empty();
+        }
+        String value = quantity.getAmount() + (quantity.getFormat() == null ? "" : quantity.getFormat());
+        Matcher matcher = MEMORY_QUANTITY_PATTERN.matcher(value.trim());
+        if (!matcher.matches()) {
+            return Optional.empty();
+        }
+        BigDecimal amount = new BigDecimal(matcher.group(1));
+        return Optional.of(amount.multiply(BigDecimal.valueOf(getMultiplier(matcher.group(2)))).longValue());
+    }
+
+    /**
+     * @return Size in whole megabytes in "&lt;number&gt;M" format used by database images.
+     */
+    public static String toMegabytes(long bytes) {
+        return (bytes / (1024 * 1024)) + "M";
+    }
+
+    private static long getMultiplier(String suffix) {
+        switch (suffix) {
+            case "k":
+                return 1000L;
+            case "M":
+                return 1000L * 1000;
+            case "G":
+                return 1000L * 1000 * 1000;
+            case "T":
+                return 1000L * 1000 * 1000 * 1000;
+            case "Ki":
+                return 1024L;
+            case "Mi":
+                return 1024L * 1024;
+            case "Gi":
+                return 1024L * 1024 * 1024;
+            case "Ti":
+                return 1024L * 1024 * 1024 * 1024;
+            default:
+                return 1L;
+        }
+    }
+}
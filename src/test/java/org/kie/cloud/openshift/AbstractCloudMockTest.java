@@ -0,0 +1,39 @@
+package org.kie.cloud.openshift;
+
+import io.fabric8.openshift.client.DefaultOpenShiftClient;
+import io.fabric8.openshift.client.OpenShiftClient;
+import io.fabric8.openshift.client.OpenShiftConfig;
+import io.fabric8.openshift.client.OpenShiftConfigBuilder;
+import io.fabric8.openshift.client.server.mock.OpenShiftServer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+
+public abstract class AbstractCloudMockTest {
+
+    protected static final String PROJECT_NAME = "test-project";
+
+    @Rule
+    public OpenShiftServer server;
+
+    protected OpenShiftClient openShiftClient;
+
+    protected AbstractCloudMockTest(boolean crudMode) {
+        server = new OpenShiftServer(true, crudMode);
+    }
+
+    // Client provided by mock server enforces TLS 1.0 which is disabled on recent JDKs
+    @Before
+    public void createMockOpenShiftClient() {
+        OpenShiftConfig openShiftConfig = new OpenShiftConfigBuilder().withMasterUrl(server.getMockServer().url("/").toString())
+                                                                      .withTrustCerts(true)
+                                                                      .withDisableApiGroupCheck(true)
+                                                                      .build();
+        openShiftClient = new DefaultOpenShiftClient(openShiftConfig);
+    }
+
+    @After
+    public void closeOpenShiftClient() {
+        openShiftClient.close();
+    }
+}
@@ -3,11 +3,17 @@ package org.kie.cloud.openshift;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import org.junit.Test;
+import org.kie.cloud.openshift.batch.BatchInstaller;
+import org.kie.cloud.openshift.client.ResilientClientBuilder;
 import org.kie.cloud.openshift.scenario.Scenario;
 import org.kie.cloud.openshift.scenario.builder.ScenarioBuilder;
 import org.kie.cloud.openshift.settings.builder.KieServerDeploymentBuilder;
+import org.kie.cloud.openshift.settings.builder.MavenMirrorDeploymentBuilder;
 import org.kie.cloud.openshift.settings.builder.MySqlDeploymentBuilder;
 import org.kie.cloud.openshift.settings.builder.PostgreSqlDeploymentBuilder;
+import org.kie.cloud.openshift.template.CachedTemplateProcessing;
+import org.kie.cloud.openshift.template.ServerTemplateProcessing;
+import org.kie.cloud.openshift.template.TemplateProcessingStrategy;
 
 public class KieOpenShiftProviderTest extends AbstractCloudTest{
 
@@ -50,9 +56,41 @@ public class KieOpenShiftProviderTest extends AbstractCloudTest{
         assertThat(postgreSqlDeploymentBuilder.build().getDeploymentName()).isEqualTo("custom-sql");
     }
 
+    @Test
+    public void testCreateMavenMirrorDeploymentBuilderCustomDeploymentName() {
+        MavenMirrorDeploymentBuilder mavenMirrorDeploymentBuilder = KieOpenShiftProvider.createMavenMirrorDeploymentBuilder("custom-mirror");
+        assertThat(mavenMirrorDeploymentBuilder).isNotNull();
+        assertThat(mavenMirrorDeploymentBuilder.build().getDeploymentName()).isEqualTo("custom-mirror");
+    }
+
     @Test
     public void testCreateScenario() {
         ScenarioBuilder scenarioBuilder = KieOpenShiftProvider.createScenarioBuilder();
         assertThat(scenarioBuilder).isNotNull();
     }
+
+    @Test
+    public void testCreateTemplateProcessing() {
+        TemplateProcessingStrategy localTemplateProcessing = KieOpenShiftProvider.createLocalTemplateProcessing();
+        assertThat(localTemplateProcessing).isInstanceOf(CachedTemplateProcessing.class);
+
+        TemplateProcessingStrategy serverTemplateProcessing = KieOpenShiftProvider.createServerTemplateProcessing();
+        assertThat(serverTemplateProcessing).isInstanceOf(ServerTemplateProcessing.class);
+
+        TemplateProcessingStrategy cachedServerTemplateProcessing = KieOpenShiftProvider.createCachedServerTemplateProcessing();
+        assertThat(cachedServerTemplateProcessing).isInstanceOf(CachedTemplateProcessing.class);
+    }
+
+    @Test
+    public void testCreateBatchInstaller() {
+        BatchInstaller batchInstaller = KieOpenShiftProvider.createBatchInstaller(openShiftClient);
+        assertThat(batchInstaller).isNotNull();
+    }
+
+    @Test
+    public void testCreateResilientClientBuilder() {
+        ResilientClientBuilder resilientClientBuilder = KieOpenShiftProvider.createResilientClientBuilder(openShiftClient);
+        assertThat(resilientClientBuilder).isNotNull();
+        assertThat(resilientClientBuilder.build().getMasterUrl()).isEqualTo(openShiftClient.getMasterUrl());
+    }
 }
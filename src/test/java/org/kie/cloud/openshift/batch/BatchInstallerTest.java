@@ -0,0 +1,156 @@
+package org.kie.cloud.openshift.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.fabric8.openshift.client.OpenShiftClient;
+import org.junit.Test;
+import org.kie.cloud.openshift.AbstractCloudMockTest;
+import org.kie.cloud.openshift.OpenShiftImageConstants;
+import org.kie.cloud.openshift.scenario.Scenario;
+import org.kie.cloud.openshift.scenario.builder.ScenarioBuilder;
+import org.kie.cloud.openshift.settings.builder.KieServerDeploymentBuilder;
+
+public class BatchInstallerTest extends AbstractCloudMockTest {
+
+    private Scenario scenario = new ScenarioBuilder().withDeployment(new KieServerDeploymentBuilder("kieserver").build()).build();
+
+    public BatchInstallerTest() {
+        super(true);
+    }
+
+    @Test
+    public void testInstall() {
+        List<InstallationTarget> targets = Arrays.asList(new InstallationTarget("first-project", Collections.singletonMap(OpenShiftImageConstants.KIE_SERVER_PWD, "first")),
+                                                         new InstallationTarget("second-project", Collections.singletonMap(OpenShiftImageConstants.KIE_SERVER_PWD, "second")));
+
+        BatchInstallationResult result = new BatchInstaller(openShiftClient).install(scenario, targets);
+
+        assertThat(result.isSuccessful()).isTrue();
+        assertThat(result.getResults()).extracting(InstallationResult::getTarget).containsExactlyElementsOf(targets);
+        for (InstallationTarget target : targets) {
+            assertThat(openShiftClient.deploymentConfigs().inNamespace(target.getProjectName()).withName("kieserver").get()).isNotNull();
+        }
+    }
+
+    @Test
+    public void testInstallBoundedParallelism() {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        BatchInstaller batchInstaller = new BatchInstaller(openShiftClient) {
+            @Override
+            protected void install(OpenShiftClient installationClient, Scenario scenario, InstallationTarget target) {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                sleep(100);
+                running.decrementAndGet();
+            }
+        };
+
+        BatchInstallationResult result = batchInstaller.withParallelism(2).install(scenario, getTargets(6));
+
+        assertThat(result.isSuccessful()).isTrue();
+        assertThat(maxRunning.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void testInstallStartInterval() {
+        List<Instant> starts = Collections.synchronizedList(new ArrayList<>());
+        BatchInstaller batchInstaller = new BatchInstaller(openShiftClient) {
+            @Override
+            protected void install(OpenShiftClient installationClient, Scenario scenario, InstallationTarget target) {
+                starts.add(Instant.now());
+            }
+        };
+
+        batchInstaller.withParallelism(3).withStartInterval(Duration.ofMillis(100)).install(scenario, getTargets(3));
+
+        Collections.sort(starts);
+        assertThat(Duration.between(starts.get(0), starts.get(2))).isGreaterThanOrEqualTo(Duration.ofMillis(190));
+    }
+
+    @Test
+    public void testInstallAggregatesFailures() {
+        BatchInstaller batchInstaller = new BatchInstaller(openShiftClient) {
+            @Override
+            protected void install(OpenShiftClient installationClient, Scenario scenario, InstallationTarget target) {
+                if (!target.getProjectName().equals("project-1")) {
+                    throw new RuntimeException("Failure of " + target.getProjectName());
+                }
+            }
+        };
+
+        BatchInstallationResult result = batchInstaller.install(scenario, getTargets(3));
+
+        assertThat(result.isSuccessful()).isFalse();
+        assertThat(result.getResults()).hasSize(3);
+        assertThat(result.getFailedResults()).extracting(r -> r.getTarget().getProjectName()).containsExactly("project-0", "project-2");
+        assertThat(result.getFailedResults().get(0).getFailure()).hasValueSatisfying(f -> assertThat(f).hasMessage("Failure of project-0"));
+        assertThatThrownBy(result::throwIfFailed).isInstanceOf(RuntimeException.class)
+                                                 .hasMessageContaining("2 of 3 projects: project-0, project-2")
+                                                 .satisfies(e -> assertThat(e.getSuppressed()).hasSize(1));
+    }
+
+    @Test
+    public void testTargetsUseOwnClient() {
+        Map<String, OpenShiftClient> clients = new ConcurrentHashMap<>();
+        BatchInstaller batchInstaller = new BatchInstaller(openShiftClient) {
+            @Override
+            protected void install(OpenShiftClient installationClient, Scenario scenario, InstallationTarget target) {
+                clients.put(target.getProjectName(), installationClient);
+            }
+        };
+
+        BatchInstallationResult result = batchInstaller.install(scenario, getTargets(3));
+
+        assertThat(result.isSuccessful()).isTrue();
+        assertThat(clients.values()).doesNotHaveDuplicates()
+                                    .doesNotContain(openShiftClient);
+    }
+
+    @Test
+    public void testTargetsUseOriginalClientIfNotResilient() {
+        Map<String, OpenShiftClient> clients = new ConcurrentHashMap<>();
+        BatchInstaller batchInstaller = new BatchInstaller(openShiftClient) {
+            @Override
+            protected void install(OpenShiftClient installationClient, Scenario scenario, InstallationTarget target) {
+                clients.put(target.getProjectName(), installationClient);
+            }
+        };
+
+        BatchInstallationResult result = batchInstaller.withResilientClient(false).install(scenario, getTargets(3));
+
+        assertThat(result.isSuccessful()).isTrue();
+        assertThat(clients.values()).hasSize(3).containsOnly(openShiftClient);
+    }
+
+    @Test
+    public void testInvalidParallelism() {
+        assertThatThrownBy(() -> new BatchInstaller(openShiftClient).withParallelism(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static List<InstallationTarget> getTargets(int count) {
+        List<InstallationTarget> targets = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            targets.add(new InstallationTarget("project-" + i, Collections.emptyMap()));
+        }
+        return targets;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package org.kie.cloud.openshift.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.api.model.StatusBuilder;
+import io.fabric8.openshift.client.OpenShiftClient;
+import org.junit.Test;
+import org.kie.cloud.openshift.AbstractCloudMockTest;
+
+public class ResilientClientBuilderTest extends AbstractCloudMockTest {
+
+    private static final String CONFIG_MAPS_PATH = "/api/v1/namespaces/" + PROJECT_NAME + "/configmaps";
+
+    public ResilientClientBuilderTest() {
+        super(false);
+    }
+
+    @Test
+    public void testBuildRetriesTransientErrors() {
+        server.expect().get().withPath(CONFIG_MAPS_PATH + "/my-config").andReturn(503, new StatusBuilder().withCode(503).build()).times(2);
+        server.expect().get().withPath(CONFIG_MAPS_PATH + "/my-config").andReturn(200, getConfigMap()).once();
+
+        OpenShiftClient resilientClient = new ResilientClientBuilder(openShiftClient).withRetries(3, Duration.ofMillis(10), Duration.ofMillis(50))
+                                                                                      .build();
+        ConfigMap configMap = resilientClient.configMaps().inNamespace(PROJECT_NAME).withName("my-config").get();
+
+        assertThat(configMap.getMetadata().getName()).isEqualTo("my-config");
+        assertThat(server.getMockServer().getRequestCount()).isEqualTo(3);
+    }
+
+    @Test
+    public void testBuildRecoversCreate() {
+        server.expect().post().withPath(CONFIG_MAPS_PATH).andReturn(503, new StatusBuilder().withCode(503).build()).once();
+        server.expect().post().withPath(CONFIG_MAPS_PATH).andReturn(409, new StatusBuilder().withCode(409).withReason("AlreadyExists").build()).once();
+        server.expect().get().withPath(CONFIG_MAPS_PATH + "/my-config").andReturn(200, getConfigMap()).once();
+
+        OpenShiftClient resilientClient = new ResilientClientBuilder(openShiftClient).withRetries(3, Duration.ofMillis(10), Duration.ofMillis(50))
+                                                                                      .build();
+        ConfigMap configMap = resilientClient.configMaps().inNamespace(PROJECT_NAME).create(getConfigMap());
+
+        assertThat(configMap.getMetadata().getName()).isEqualTo("my-config");
+    }
+
+    @Test
+    public void testInvalidRetries() {
+        assertThatThrownBy(() -> new ResilientClientBuilder(openShiftClient).withRetries(0, Duration.ZERO, Duration.ZERO)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static ConfigMap getConfigMap() {
+        return new ConfigMapBuilder().withNewMetadata().withName("my-config").endMetadata().build();
+    }
+}
@@ -0,0 +1,142 @@
+package org.kie.cloud.openshift.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okhttp3.mockwebserver.SocketPolicy;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class RetryingInterceptorTest {
+
+    private static final String CONFIG_MAP = "{\"kind\":\"ConfigMap\",\"metadata\":{\"name\":\"my-config\"}}";
+
+    private MockWebServer server;
+    private OkHttpClient httpClient;
+
+    @Before
+    public void startServer() throws IOException {
+        server = new MockWebServer();
+        server.start();
+        OkHttpClient retryClient = new OkHttpClient.Builder().retryOnConnectionFailure(false).build();
+        RetryingInterceptor interceptor = new RetryingInterceptor(new TokenBucket(1000, 1000), 3, Duration.ofMillis(10), Duration.ofMillis(50), retryClient);
+        httpClient = retryClient.newBuilder().addNetworkInterceptor(interceptor).build();
+    }
+
+    @After
+    public void stopServer() throws IOException {
+        server.shutdown();
+    }
+
+    @Test
+    public void testGetRetriedOnTransientErrors() throws IOException {
+        server.enqueue(new MockResponse().setResponseCode(503));
+        server.enqueue(new MockResponse().setSocketPolicy(SocketPolicy.DISCONNECT_AFTER_REQUEST));
+        server.enqueue(new MockResponse().setResponseCode(200).setBody(CONFIG_MAP));
+
+        try (Response response = httpClient.newCall(get("/configmaps/my-config")).execute()) {
+            assertThat(response.code()).isEqualTo(200);
+            assertThat(response.body().string()).isEqualTo(CONFIG_MAP);
+        }
+        assertThat(server.getRequestCount()).isEqualTo(3);
+    }
+
+    @Test
+    public void testGetFailsAfterMaxAttempts() throws IOException {
+        for (int i = 0; i < 3; i++) {
+            server.enqueue(new MockResponse().setResponseCode(503));
+        }
+        server.enqueue(new MockResponse().setResponseCode(200));
+
+        try (Response response = httpClient.newCall(get("/configmaps/my-config")).execute()) {
+            assertThat(response.code()).isEqualTo(503);
+        }
+        assertThat(server.getRequestCount()).isEqualTo(3);
+    }
+
+    @Test
+    public void testThrottledRequestRetriedAfterDelay() throws IOException {
+        server.enqueue(new MockResponse().setResponseCode(429).setHeader("Retry-After", "1"));
+        server.enqueue(new MockResponse().setResponseCode(200));
+
+        long start = System.nanoTime();
+        try (Response response = httpClient.newCall(patch("/configmaps/my-config")).execute()) {
+            assertThat(response.code()).isEqualTo(200);
+        }
+        // Retry-After is capped by maximal backoff
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isGreaterThanOrEqualTo(Duration.ofMillis(50))
+                                                                 .isLessThan(Duration.ofSeconds(1));
+        assertThat(server.getRequestCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void testPatchNotRetriedOnServerError() throws IOException {
+        server.enqueue(new MockResponse().setResponseCode(500));
+        server.enqueue(new MockResponse().setResponseCode(200));
+
+        try (Response response = httpClient.newCall(patch("/configmaps/my-config")).execute()) {
+            assertThat(response.code()).isEqualTo(500);
+        }
+        assertThat(server.getRequestCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void testPatchNotRetriedOnConnectionFailure() {
+        server.enqueue(new MockResponse().setSocketPolicy(SocketPolicy.DISCONNECT_AFTER_REQUEST));
+        server.enqueue(new MockResponse().setResponseCode(200));
+
+        assertThatThrownBy(() -> httpClient.newCall(patch("/configmaps/my-config")).execute()).isInstanceOf(IOException.class);
+        assertThat(server.getRequestCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void testCreateRecoveredAfterAmbiguousFailure() throws Exception {
+        server.enqueue(new MockResponse().setResponseCode(504));
+        server.enqueue(new MockResponse().setResponseCode(409).setBody("{\"kind\":\"Status\",\"reason\":\"AlreadyExists\",\"code\":409}"));
+        server.enqueue(new MockResponse().setResponseCode(200).setBody(CONFIG_MAP));
+
+        try (Response response = httpClient.newCall(post("/configmaps", CONFIG_MAP)).execute()) {
+            assertThat(response.code()).isEqualTo(200);
+            assertThat(response.body().string()).isEqualTo(CONFIG_MAP);
+        }
+        assertThat(server.takeRequest().getMethod()).isEqualTo("POST");
+        assertThat(server.takeRequest().getMethod()).isEqualTo("POST");
+        RecordedRequest recoveryRequest = server.takeRequest();
+        assertThat(recoveryRequest.getMethod()).isEqualTo("GET");
+        assertThat(recoveryRequest.getPath()).isEqualTo("/configmaps/my-config");
+    }
+
+    @Test
+    public void testCreateConflictWithoutPreviousAttempt() throws IOException {
+        server.enqueue(new MockResponse().setResponseCode(409));
+
+        try (Response response = httpClient.newCall(post("/configmaps", CONFIG_MAP)).execute()) {
+            assertThat(response.code()).isEqualTo(409);
+        }
+        assertThat(server.getRequestCount()).isEqualTo(1);
+    }
+
+    private Request get(String path) {
+        return new Request.Builder().url(server.url(path)).get().build();
+    }
+
+    private Request post(String path, String body) {
+        return new Request.Builder().url(server.url(path)).post(RequestBody.create(MediaType.parse("application/json"), body)).build();
+    }
+
+    private Request patch(String path) {
+        return new Request.Builder().url(server.url(path)).patch(RequestBody.create(MediaType.parse("application/json-patch+json"), "[]")).build();
+    }
+}
@@ -0,0 +1,42 @@
+package org.kie.cloud.openshift.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+public class TokenBucketTest {
+
+    @Test
+    public void testReserveBurst() {
+        TokenBucket tokenBucket = new TokenBucket(1, 3);
+
+        assertThat(tokenBucket.reserve()).isZero();
+        assertThat(tokenBucket.reserve()).isZero();
+        assertThat(tokenBucket.reserve()).isZero();
+        // Following reservations wait for refill, one token per second
+        assertThat(tokenBucket.reserve()).isGreaterThan(TimeUnit.MILLISECONDS.toNanos(900));
+        assertThat(tokenBucket.reserve()).isGreaterThan(TimeUnit.MILLISECONDS.toNanos(1900));
+    }
+
+    @Test
+    public void testAcquireRate() throws Exception {
+        TokenBucket tokenBucket = new TokenBucket(50, 1);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < 6; i++) {
+            tokenBucket.acquire();
+        }
+
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isGreaterThanOrEqualTo(Duration.ofMillis(90));
+    }
+
+    @Test
+    public void testInvalidRate() {
+        assertThatThrownBy(() -> new TokenBucket(0, 1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new TokenBucket(1, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -1,6 +1,9 @@
 package org.kie.cloud.openshift.configuration;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
 
 import org.junit.Test;
 import org.kie.cloud.openshift.AbstractCloudTest;
@@ -42,6 +45,12 @@ public class ConfigurationLoaderTest extends AbstractCloudTest {
         assertThat(kieServerMemoryLimit).isEqualTo("1Gi");
     }
 
+    @Test
+    public void testGetMavenMirrorImageStream() {
+        assertThat(ConfigurationLoader.getMavenMirrorImageStreamName()).isEqualTo("nexus3");
+        assertThat(ConfigurationLoader.getMavenMirrorImageStreamTag()).isEqualTo("3.15.2");
+    }
+
     @Test
     public void testGetMySqlImageStreamName() {
         String mySqlImageStreamName = ConfigurationLoader.getMySqlImageStreamName();
@@ -77,4 +86,81 @@ public class ConfigurationLoaderTest extends AbstractCloudTest {
         String kieServerDatasourcePrefix = ConfigurationLoader.getKieServerDatasourcePrefix();
         assertThat(kieServerDatasourcePrefix).isNotEmpty();
     }
+
+    @Test
+    public void testGetRolloutParallelism() {
+        int rolloutParallelism = ConfigurationLoader.getRolloutParallelism();
+        assertThat(rolloutParallelism).isEqualTo(4);
+    }
+
+    @Test
+    public void testGetRolloutReadinessTimeout() {
+        Duration rolloutReadinessTimeout = ConfigurationLoader.getRolloutReadinessTimeout();
+        assertThat(rolloutReadinessTimeout).isEqualTo(Duration.ofMinutes(10));
+    }
+
+    @Test
+    public void testGetClientRateLimit() {
+        assertThat(ConfigurationLoader.getClientRateLimit()).isEqualTo(20.0);
+        assertThat(ConfigurationLoader.getClientRateLimitBurst()).isEqualTo(40);
+    }
+
+    @Test
+    public void testGetClientRetry() {
+        assertThat(ConfigurationLoader.getClientRetryMaxAttempts()).isEqualTo(5);
+        assertThat(ConfigurationLoader.getClientRetryInitialBackoff()).isEqualTo(Duration.ofMillis(200));
+        assertThat(ConfigurationLoader.getClientRetryMaxBackoff()).isEqualTo(Duration.ofSeconds(10));
+    }
+
+    @Test
+    public void testGetBatchInstallationParallelism() {
+        int batchInstallationParallelism = ConfigurationLoader.getBatchInstallationParallelism();
+        assertThat(batchInstallationParallelism).isEqualTo(4);
+    }
+
+    @Test
+    public void testGetProjectExistenceCacheTtl() {
+        Duration projectExistenceCacheTtl = ConfigurationLoader.getProjectExistenceCacheTtl();
+        assertThat(projectExistenceCacheTtl).isEqualTo(Duration.ofMinutes(1));
+    }
+
+    @Test
+    public void testGetTemplateProcessingStrategy() {
+        String templateProcessingStrategy = ConfigurationLoader.getTemplateProcessingStrategy();
+        assertThat(templateProcessingStrategy).isEqualTo("local");
+    }
+
+    @Test
+    public void testGetTemplateProcessingCacheSize() {
+        long templateProcessingCacheSize = ConfigurationLoader.getTemplateProcessingCacheSize();
+        assertThat(templateProcessingCacheSize).isEqualTo(16 * 1024 * 1024);
+    }
+
+    @Test
+    public void testGetResourceProfile() {
+        ResourceProfile resourceProfile = ConfigurationLoader.getResourceProfile(ResourceProfile.SMALL);
+        assertThat(resourceProfile.getName()).isEqualTo(ResourceProfile.SMALL);
+        assertThat(resourceProfile.getCpuRequest()).isEqualTo("250m");
+        assertThat(resourceProfile.getMemoryRequest()).isEqualTo("512Mi");
+        assertThat(resourceProfile.getCpuLimit()).isEqualTo("1");
+        assertThat(resourceProfile.getMemoryLimit()).isEqualTo("1Gi");
+    }
+
+    @Test
+    public void testGetResourceProfileFromSystemProperty() {
+        System.setProperty("resource.profile.custom.cpu.request", "100m");
+        try {
+            ResourceProfile resourceProfile = ConfigurationLoader.getResourceProfile("custom");
+            assertThat(resourceProfile.getCpuRequest()).isEqualTo("100m");
+            assertThat(resourceProfile.getMemoryLimit()).isNull();
+        } finally {
+            System.clearProperty("resource.profile.custom.cpu.request");
+        }
+    }
+
+    @Test
+    public void testGetUndefinedResourceProfile() {
+        assertThatThrownBy(() -> ConfigurationLoader.getResourceProfile("undefined")).isInstanceOf(RuntimeException.class)
+                                                                                     .hasMessageContaining("Resource profile undefined is not defined.");
+    }
 }
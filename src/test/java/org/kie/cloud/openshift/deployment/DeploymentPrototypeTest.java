@@ -0,0 +1,120 @@
+package org.kie.cloud.openshift.deployment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+
+import io.fabric8.kubernetes.api.model.Container;
+import io.fabric8.kubernetes.api.model.EnvVar;
+import org.junit.Test;
+import org.kie.cloud.openshift.OpenShiftImageConstants;
+import org.kie.cloud.openshift.settings.builder.KieServerDeploymentBuilder;
+import org.kie.cloud.openshift.settings.builder.MySqlDeploymentBuilder;
+
+public class DeploymentPrototypeTest {
+
+    @Test
+    public void testCreateVariant() {
+        Deployment kieServer = new KieServerDeploymentBuilder("kieserver-base").withHttpsFromProperties().build();
+        DeploymentPrototype<Deployment> prototype = new DeploymentPrototype<>(kieServer);
+
+        Deployment variant = prototype.createVariant("tenant-a");
+
+        assertThat(variant.getDeploymentName()).isEqualTo("tenant-a");
+        assertThat(variant.getObjects()).hasSameSizeAs(kieServer.getObjects());
+        assertThat(variant.getParameters()).hasSameSizeAs(kieServer.getParameters());
+        assertThat(variant.getDeploymentConfig().getMetadata().getName()).isEqualTo("tenant-a");
+        assertThat(variant.getDeploymentConfig().getMetadata().getLabels()).containsEntry("service", "tenant-a");
+        assertThat(variant.getDeploymentConfig().getSpec().getSelector()).containsEntry("deploymentConfig", "tenant-a");
+        assertThat(variant.getServices()).extracting(s -> s.getMetadata().getName()).containsExactly("tenant-a");
+        assertThat(variant.getSecureRoutes()).extracting(r -> r.getMetadata().getName()).containsExactly("secure-tenant-a");
+        assertThat(variant.getEnvironmentVariableValue(OpenShiftImageConstants.KIE_SERVER_ROUTE_NAME)).isEqualTo("tenant-a");
+        for (int i = 0; i < kieServer.getObjects().size(); i++) {
+            assertThat(variant.getObjects().get(i)).isExactlyInstanceOf(kieServer.getObjects().get(i).getClass());
+        }
+    }
+
+    @Test
+    public void testCreateVariantWithEnvironmentVariables() {
+        Deployment kieServer = new KieServerDeploymentBuilder("kieserver-base").build();
+        DeploymentPrototype<Deployment> prototype = new DeploymentPrototype<>(kieServer);
+
+        Deployment variant = prototype.createVariant("tenant-a", Collections.singletonMap(OpenShiftImageConstants.KIE_SERVER_ID, "tenant-a-id"));
+
+        assertThat(variant.getEnvironmentVariableValue(OpenShiftImageConstants.KIE_SERVER_ID)).isEqualTo("tenant-a-id");
+        assertThat(kieServer.getOptionalEnvironmentVariableValue(OpenShiftImageConstants.KIE_SERVER_ID)).isNotEqualTo(Optional.of("tenant-a-id"));
+    }
+
+    @Test
+    public void testCreateVariantRenamesOnlyNamesAndReferences() {
+        Deployment kieServer = new KieServerDeploymentBuilder("kieserver-base").withPersistentMavenRepository("1Gi").build();
+        kieServer.addOrReplaceEnvironmentVariable(new EnvVar("CUSTOM_VALUE", "kieserver-base-value", null));
+        DeploymentPrototype<Deployment> prototype = new DeploymentPrototype<>(kieServer);
+
+        Deployment variant = prototype.createVariant("tenant-a");
+
+        assertThat(variant.getEnvironmentVariableValue("CUSTOM_VALUE")).isEqualTo("kieserver-base-value");
+        assertThat(variant.getUnsecureRoutes()).extracting(r -> r.getSpec().getTo().getName()).containsOnly("tenant-a");
+        assertThat(variant.getPersistentVolumeClaims()).extracting(p -> p.getMetadata().getName()).containsExactly("tenant-a-maven-repo-claim");
+        assertThat(variant.getDeploymentConfig().getSpec().getTemplate().getSpec().getVolumes())
+                        .extracting(v -> v.getPersistentVolumeClaim().getClaimName())
+                        .containsExactly("tenant-a-maven-repo-claim");
+        assertThat(variant.getDeploymentConfig().getSpec().getTemplate().getSpec().getContainers()).extracting(Container::getName).containsExactly("tenant-a");
+    }
+
+    @Test
+    public void testVariantsAreIndependent() {
+        Deployment kieServer = new KieServerDeploymentBuilder("kieserver-base").build();
+        DeploymentPrototype<Deployment> prototype = new DeploymentPrototype<>(kieServer);
+
+        Deployment firstVariant = prototype.createVariant("tenant-a");
+        Deployment secondVariant = prototype.createVariant("tenant-b");
+        firstVariant.getDeploymentConfig().getSpec().setReplicas(5);
+
+        assertThat(secondVariant.getDeploymentConfig().getSpec().getReplicas()).isEqualTo(1);
+        assertThat(kieServer.getDeploymentConfig().getSpec().getReplicas()).isEqualTo(1);
+        assertThat(kieServer.getDeploymentConfig().getMetadata().getName()).isEqualTo("kieserver-base");
+    }
+
+    @Test
+    public void testCreateVariantKeepsDeploymentTypeAndDependencies() {
+        MySqlDeployment mySql = new MySqlDeploymentBuilder("mysql-base").makePersistent().build();
+        Deployment kieServer = new KieServerDeploymentBuilder("kieserver-base").connectToDatabase(mySql).build();
+
+        MySqlDeployment mySqlVariant = new DeploymentPrototype<>(mySql).createVariant("tenant-a-mysql");
+        Deployment kieServerVariant = new DeploymentPrototype<>(kieServer).createVariant("tenant-a");
+
+        assertThat(mySqlVariant).isInstanceOf(MySqlDeployment.class);
+        assertThat(mySqlVariant.getPersistentVolumeClaims()).extracting(p -> p.getMetadata().getName()).containsExactly("tenant-a-mysql-claim");
+        assertThat(kieServerVariant.getDependencies()).containsExactly(mySql);
+
+        kieServerVariant.getDependencies().clear();
+        assertThat(new DeploymentPrototype<>(kieServer).createVariant("tenant-b").getDependencies()).containsExactly(mySql);
+        assertThat(kieServer.getDependencies()).containsExactly(mySql);
+    }
+
+    @Test
+    public void testCreateVariantsInParallel() {
+        Deployment kieServer = new KieServerDeploymentBuilder("kieserver-base").build();
+        DeploymentPrototype<Deployment> prototype = new DeploymentPrototype<>(kieServer);
+        Map<String, Map<String, String>> variants = new LinkedHashMap<>();
+        for (int i = 0; i < 20; i++) {
+            variants.put("tenant-" + i, Collections.singletonMap(OpenShiftImageConstants.KIE_SERVER_ID, "id-" + i));
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            List<Deployment> deployments = prototype.createVariants(variants, pool);
+
+            assertThat(deployments).extracting(Deployment::getDeploymentName).containsExactlyElementsOf(variants.keySet());
+            assertThat(deployments.get(7).getEnvironmentVariableValue(OpenShiftImageConstants.KIE_SERVER_ID)).isEqualTo("id-7");
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
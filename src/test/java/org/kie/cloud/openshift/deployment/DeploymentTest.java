@@ -110,6 +110,65 @@ public class DeploymentTest extends AbstractCloudTest{
         assertThat(persistentVolumeClaims.get(0).getMetadata().getName()).isEqualTo("my-persistent-volume-claim");
     }
 
+    @Test
+    public void testGetObjectsOfType() {
+        Deployment deployment = getDeploymentWithServiceAndRouteCombinations("custom");
+
+        assertThat(deployment.getObjects(Service.class)).extracting(n -> n.getMetadata().getName()).containsExactly("unsecured-service", "secured-service");
+        assertThat(deployment.getObjects(DeploymentConfig.class)).hasSize(1);
+    }
+
+    @Test
+    public void testGetObjectsOfTypeAfterRemoval() {
+        Deployment deployment = getDeploymentWithServiceAndRouteCombinations("custom");
+        deployment.getObjects().removeIf(o -> o.getMetadata().getName().equals("unsecured-service"));
+        deployment.getObjects().add(0, new ServiceBuilder().withNewMetadata().withName("first-service").endMetadata().build());
+
+        assertThat(deployment.getObjects(Service.class)).extracting(n -> n.getMetadata().getName()).containsExactly("first-service", "secured-service");
+        assertThat(deployment.getObjects()).hasSize(6);
+    }
+
+    @Test
+    public void testGetObject() {
+        Deployment deployment = getDeploymentWithServiceAndRouteCombinations("custom");
+
+        assertThat(deployment.getObject(Service.class, "secured-service")).isPresent();
+        assertThat(deployment.getObject(Route.class, "secured-service")).isEmpty();
+    }
+
+    @Test
+    public void testAddOrReplaceEnvironmentVariable() {
+        Deployment deployment = getDeploymentWithServiceAndRouteCombinations("custom");
+        deployment.addOrReplaceEnvironmentVariable(new EnvVar("custom-variable-name", "replaced-value", null));
+        deployment.addOrReplaceEnvironmentVariable(new EnvVar("new-variable-name", "new-value", null));
+
+        assertThat(deployment.getEnvironmentVariableValue("custom-variable-name")).isEqualTo("replaced-value");
+        assertThat(deployment.getEnvironmentVariableValue("new-variable-name")).isEqualTo("new-value");
+        assertThat(deployment.getDeploymentConfig().getSpec().getTemplate().getSpec().getContainers().get(0).getEnv()).hasSize(2);
+    }
+
+    @Test
+    public void testRemoveEnvironmentVariable() {
+        Deployment deployment = getDeploymentWithServiceAndRouteCombinations("custom");
+        deployment.removeEnvironmentVariable("custom-variable-name");
+        deployment.removeEnvironmentVariable("not-existing-variable-name");
+
+        assertThat(deployment.getOptionalEnvironmentVariableValue("custom-variable-name")).isEmpty();
+        assertThat(deployment.getDeploymentConfig().getSpec().getTemplate().getSpec().getContainers().get(0).getEnv()).isEmpty();
+    }
+
+    @Test
+    public void testGetOptionalEnvironmentVariableValueAfterDirectModification() {
+        Deployment deployment = getDeploymentWithServiceAndRouteCombinations("custom");
+        deployment.getOptionalEnvironmentVariableValue("custom-variable-name");
+        List<EnvVar> env = deployment.getDeploymentConfig().getSpec().getTemplate().getSpec().getContainers().get(0).getEnv();
+        env.add(new EnvVar("added-variable-name", "added-value", null));
+        env.removeIf(e -> e.getName().equals("custom-variable-name"));
+
+        assertThat(deployment.getOptionalEnvironmentVariableValue("added-variable-name")).contains("added-value");
+        assertThat(deployment.getOptionalEnvironmentVariableValue("custom-variable-name")).isEmpty();
+    }
+
     private Deployment getDeploymentWithServiceAndRouteCombinations(String deploymentName) {
         Deployment deployment = new Deployment(deploymentName);
 
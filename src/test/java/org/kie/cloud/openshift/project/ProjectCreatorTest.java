@@ -0,0 +1,119 @@
+package org.kie.cloud.openshift.project;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+
+import io.fabric8.kubernetes.api.model.StatusBuilder;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.openshift.api.model.ProjectBuilder;
+import io.fabric8.openshift.api.model.ProjectRequestBuilder;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.Test;
+import org.kie.cloud.openshift.AbstractCloudMockTest;
+
+public class ProjectCreatorTest extends AbstractCloudMockTest {
+
+    private static final String PROJECT_PATH = "/oapi/v1/projects/" + PROJECT_NAME;
+    private static final String PROJECT_REQUESTS_PATH = "/oapi/v1/projectrequests";
+
+    public ProjectCreatorTest() {
+        super(false);
+    }
+
+    @Test
+    public void testCreateProjectIfNotExistsExistingProject() throws Exception {
+        server.expect().get().withPath(PROJECT_PATH).andReturn(200, new ProjectBuilder().withNewMetadata().withName(PROJECT_NAME).endMetadata().build()).always();
+
+        new ProjectCreator(Duration.ofMinutes(1)).createProjectIfNotExists(openShiftClient, PROJECT_NAME);
+
+        assertThat(server.getMockServer().getRequestCount()).isEqualTo(1);
+        assertThat(server.getMockServer().takeRequest().getMethod()).isEqualTo("GET");
+    }
+
+    @Test
+    public void testCreateProjectIfNotExistsMissingProject() throws Exception {
+        server.expect().get().withPath(PROJECT_PATH).andReturn(404, "").always();
+        server.expect().post().withPath(PROJECT_REQUESTS_PATH).andReturn(201, new ProjectRequestBuilder().withNewMetadata().withName(PROJECT_NAME).endMetadata().build()).once();
+
+        new ProjectCreator(Duration.ofMinutes(1)).createProjectIfNotExists(openShiftClient, PROJECT_NAME);
+
+        assertThat(server.getMockServer().getRequestCount()).isEqualTo(2);
+        server.getMockServer().takeRequest();
+        RecordedRequest createRequest = server.getMockServer().takeRequest();
+        assertThat(createRequest.getPath()).isEqualTo(PROJECT_REQUESTS_PATH);
+        assertThat(createRequest.getBody().readUtf8()).contains("\"name\":\"" + PROJECT_NAME + "\"");
+    }
+
+    @Test
+    public void testCreateProjectIfNotExistsForbiddenProject() {
+        server.expect().get().withPath(PROJECT_PATH).andReturn(403, new StatusBuilder().withCode(403).withReason("Forbidden").build()).always();
+        server.expect().post().withPath(PROJECT_REQUESTS_PATH).andReturn(201, new ProjectRequestBuilder().withNewMetadata().withName(PROJECT_NAME).endMetadata().build()).once();
+
+        new ProjectCreator(Duration.ofMinutes(1)).createProjectIfNotExists(openShiftClient, PROJECT_NAME);
+
+        assertThat(server.getMockServer().getRequestCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void testCreateProjectIfNotExistsConcurrentlyCreated() {
+        server.expect().get().withPath(PROJECT_PATH).andReturn(404, "").always();
+        server.expect().post().withPath(PROJECT_REQUESTS_PATH).andReturn(409, new StatusBuilder().withCode(409).withReason("AlreadyExists").build()).once();
+
+        ProjectCreator projectCreator = new ProjectCreator(Duration.ofMinutes(1));
+        projectCreator.createProjectIfNotExists(openShiftClient, PROJECT_NAME);
+        projectCreator.createProjectIfNotExists(openShiftClient, PROJECT_NAME);
+
+        assertThat(server.getMockServer().getRequestCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void testCreateProjectIfNotExistsForbiddenExistingProject() {
+        server.expect().get().withPath(PROJECT_PATH).andReturn(403, new StatusBuilder().withCode(403).withReason("Forbidden").build()).always();
+        server.expect().post().withPath(PROJECT_REQUESTS_PATH).andReturn(409, new StatusBuilder().withCode(409).withReason("AlreadyExists").build()).always();
+
+        ProjectCreator projectCreator = new ProjectCreator(Duration.ofMinutes(1));
+        assertThatThrownBy(() -> projectCreator.createProjectIfNotExists(openShiftClient, PROJECT_NAME)).isInstanceOf(RuntimeException.class)
+                                                                                                       .hasMessage("Project " + PROJECT_NAME + " exists but is not accessible.");
+        // Inaccessible project isn't remembered as existing
+        assertThatThrownBy(() -> projectCreator.createProjectIfNotExists(openShiftClient, PROJECT_NAME)).isInstanceOf(RuntimeException.class);
+        assertThat(server.getMockServer().getRequestCount()).isEqualTo(6);
+    }
+
+    @Test
+    public void testCreateProjectIfNotExistsForbiddenConcurrentlyCreated() {
+        server.expect().get().withPath(PROJECT_PATH).andReturn(403, new StatusBuilder().withCode(403).withReason("Forbidden").build()).once();
+        server.expect().post().withPath(PROJECT_REQUESTS_PATH).andReturn(409, new StatusBuilder().withCode(409).withReason("AlreadyExists").build()).once();
+        server.expect().get().withPath(PROJECT_PATH).andReturn(200, new ProjectBuilder().withNewMetadata().withName(PROJECT_NAME).endMetadata().build()).once();
+
+        new ProjectCreator(Duration.ofMinutes(1)).createProjectIfNotExists(openShiftClient, PROJECT_NAME);
+
+        assertThat(server.getMockServer().getRequestCount()).isEqualTo(3);
+    }
+
+    @Test
+    public void testCreateProjectIfNotExistsCreationError() {
+        server.expect().get().withPath(PROJECT_PATH).andReturn(404, "").always();
+        server.expect().post().withPath(PROJECT_REQUESTS_PATH).andReturn(500, new StatusBuilder().withCode(500).build()).once();
+
+        ProjectCreator projectCreator = new ProjectCreator(Duration.ofMinutes(1));
+        assertThatThrownBy(() -> projectCreator.createProjectIfNotExists(openShiftClient, PROJECT_NAME)).isInstanceOf(KubernetesClientException.class);
+    }
+
+    @Test
+    public void testCreateProjectIfNotExistsCached() {
+        server.expect().get().withPath(PROJECT_PATH).andReturn(200, new ProjectBuilder().withNewMetadata().withName(PROJECT_NAME).endMetadata().build()).always();
+
+        ProjectCreator projectCreator = new ProjectCreator(Duration.ofMinutes(1));
+        projectCreator.createProjectIfNotExists(openShiftClient, PROJECT_NAME);
+        projectCreator.createProjectIfNotExists(openShiftClient, PROJECT_NAME);
+        assertThat(server.getMockServer().getRequestCount()).isEqualTo(1);
+
+        // Expired entries are looked up again
+        ProjectCreator expiringProjectCreator = new ProjectCreator(Duration.ZERO);
+        expiringProjectCreator.createProjectIfNotExists(openShiftClient, PROJECT_NAME);
+        expiringProjectCreator.createProjectIfNotExists(openShiftClient, PROJECT_NAME);
+        assertThat(server.getMockServer().getRequestCount()).isEqualTo(3);
+    }
+}
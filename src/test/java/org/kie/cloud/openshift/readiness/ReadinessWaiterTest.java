@@ -0,0 +1,284 @@
+package org.kie.cloud.openshift.readiness;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import io.fabric8.kubernetes.api.model.Endpoints;
+import io.fabric8.kubernetes.api.model.EndpointsBuilder;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.api.model.PodListBuilder;
+import io.fabric8.kubernetes.api.model.StatusBuilder;
+import io.fabric8.kubernetes.api.model.WatchEvent;
+import io.fabric8.openshift.api.model.DeploymentConfig;
+import io.fabric8.openshift.api.model.DeploymentConfigBuilder;
+import io.fabric8.openshift.api.model.RouteBuilder;
+import io.fabric8.openshift.api.model.RouteListBuilder;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.Test;
+import org.kie.cloud.openshift.AbstractCloudMockTest;
+
+public class ReadinessWaiterTest extends AbstractCloudMockTest {
+
+    private static final String DEPLOYMENT_CONFIG_PATH = "/oapi/v1/namespaces/" + PROJECT_NAME + "/deploymentconfigs";
+    private static final String ENDPOINTS_PATH = "/api/v1/namespaces/" + PROJECT_NAME + "/endpoints";
+    private static final String PODS_PATH = "/api/v1/namespaces/" + PROJECT_NAME + "/pods";
+
+    public ReadinessWaiterTest() {
+        super(false);
+    }
+
+    @Test
+    public void testWaitUntilDeploymentConfigReadyAlreadyReady() {
+        server.expect().withPath(DEPLOYMENT_CONFIG_PATH + "/my-dc").andReturn(200, getReadyDeploymentConfig()).always();
+        server.expect().withPath(DEPLOYMENT_CONFIG_PATH + "?fieldSelector=metadata.name%3Dmy-dc&watch=true")
+                       .andUpgradeToWebSocket()
+                       .open()
+                       .done()
+                       .always();
+
+        new ReadinessWaiter(openShiftClient, PROJECT_NAME).withTimeout(Duration.ofSeconds(5))
+                                                          .waitUntilDeploymentConfigReady("my-dc");
+    }
+
+    @Test
+    public void testWaitUntilDeploymentConfigReadyOnEvent() {
+        server.expect().withPath(DEPLOYMENT_CONFIG_PATH + "/my-dc").andReturn(200, getDeploymentConfig(2, 1, 0, 1)).always();
+        server.expect().withPath(DEPLOYMENT_CONFIG_PATH + "?fieldSelector=metadata.name%3Dmy-dc&watch=true")
+                       .andUpgradeToWebSocket()
+                       .open()
+                           .waitFor(100).andEmit(new WatchEvent(getDeploymentConfig(2, 1, 0, 1), "MODIFIED"))
+                           .waitFor(100).andEmit(new WatchEvent(getReadyDeploymentConfig(), "MODIFIED"))
+                       .done()
+                       .always();
+
+        new ReadinessWaiter(openShiftClient, PROJECT_NAME).withTimeout(Duration.ofSeconds(5))
+                                                          .waitUntilDeploymentConfigReady("my-dc");
+    }
+
+    @Test
+    public void testWaitUntilDeploymentConfigReadyTimeout() {
+        server.expect().withPath(DEPLOYMENT_CONFIG_PATH + "/my-dc").andReturn(200, getDeploymentConfig(2, 1, 0, 1)).always();
+        server.expect().withPath(DEPLOYMENT_CONFIG_PATH + "?fieldSelector=metadata.name%3Dmy-dc&watch=true")
+                       .andUpgradeToWebSocket()
+                       .open()
+                           .waitFor(100).andEmit(new WatchEvent(getDeploymentConfig(2, 1, 0, 1), "MODIFIED"))
+                       .done()
+                       .always();
+
+        ReadinessWaiter readinessWaiter = new ReadinessWaiter(openShiftClient, PROJECT_NAME).withTimeout(Duration.ofMillis(500));
+        assertThatThrownBy(() -> readinessWaiter.waitUntilDeploymentConfigReady("my-dc")).isInstanceOf(RuntimeException.class)
+                                                                                          .hasMessageContaining("Timeout while waiting for deployment config my-dc");
+    }
+
+    @Test
+    public void testWaitUntilDeploymentConfigReadyPreviousRolloutTimeout() {
+        server.expect().withPath(DEPLOYMENT_CONFIG_PATH + "/my-dc").andReturn(200, getDeploymentConfig(2, 2, 1, 1)).always();
+        server.expect().withPath(DEPLOYMENT_CONFIG_PATH + "?fieldSelector=metadata.name%3Dmy-dc&watch=true")
+                       .andUpgradeToWebSocket()
+                       .open()
+                           // Pod of previous rollout is ready, new pod isn't ready yet
+                           .waitFor(100).andEmit(new WatchEvent(getDeploymentConfig(2, 2, 1, 1), "MODIFIED"))
+                           // New pod is ready, pod of previous rollout isn't scaled down yet
+                           .waitFor(100).andEmit(new WatchEvent(getDeploymentConfig(2, 2, 2, 1), "MODIFIED"))
+                       .done()
+                       .always();
+
+        ReadinessWaiter readinessWaiter = new ReadinessWaiter(openShiftClient, PROJECT_NAME).withTimeout(Duration.ofMillis(500));
+        assertThatThrownBy(() -> readinessWaiter.waitUntilDeploymentConfigReady("my-dc")).isInstanceOf(RuntimeException.class)
+                                                                                          .hasMessageContaining("Timeout while waiting for deployment config my-dc");
+    }
+
+    @Test
+    public void testWaitUntilDeploymentConfigReadyNotObservedTimeout() {
+        server.expect().withPath(DEPLOYMENT_CONFIG_PATH + "/my-dc").andReturn(200, getDeploymentConfig(1, 1, 1, 1)).always();
+        server.expect().withPath(DEPLOYMENT_CONFIG_PATH + "?fieldSelector=metadata.name%3Dmy-dc&watch=true")
+                       .andUpgradeToWebSocket()
+                       .open()
+                       .done()
+                       .always();
+
+        ReadinessWaiter readinessWaiter = new ReadinessWaiter(openShiftClient, PROJECT_NAME).withTimeout(Duration.ofMillis(500));
+        assertThatThrownBy(() -> readinessWaiter.waitUntilDeploymentConfigReady("my-dc")).isInstanceOf(RuntimeException.class)
+                                                                                          .hasMessageContaining("Timeout while waiting for deployment config my-dc");
+    }
+
+    @Test
+    public void testWaitUntilDeploymentConfigReadyAfterWatchClosed() {
+        server.expect().withPath(DEPLOYMENT_CONFIG_PATH + "/my-dc").andReturn(200, getDeploymentConfig(2, 1, 0, 1)).always();
+        server.expect().withPath(DEPLOYMENT_CONFIG_PATH + "?fieldSelector=metadata.name%3Dmy-dc&watch=true")
+                       .andUpgradeToWebSocket()
+                       .open()
+                           // Resource version expired, server closes the watch
+                           .waitFor(100).andEmit(new WatchEvent(new StatusBuilder().withCode(410).withMessage("too old resource version").build(), "ERROR"))
+                       .done()
+                       .once();
+        server.expect().withPath(DEPLOYMENT_CONFIG_PATH + "?fieldSelector=metadata.name%3Dmy-dc&watch=true")
+                       .andUpgradeToWebSocket()
+                       .open()
+                           .waitFor(100).andEmit(new WatchEvent(getReadyDeploymentConfig(), "MODIFIED"))
+                       .done()
+                       .always();
+
+        new ReadinessWaiter(openShiftClient, PROJECT_NAME).withTimeout(Duration.ofSeconds(5))
+                                                          .withHttpBackoff(Duration.ofMillis(10), Duration.ofMillis(50))
+                                                          .waitUntilDeploymentConfigReady("my-dc");
+    }
+
+    @Test
+    public void testWaitUntilPodsReadyOnEvent() {
+        server.expect().withPath(PODS_PATH + "?labelSelector=deploymentConfig%3Dmy-dc")
+                       .andReturn(200, new PodListBuilder().addToItems(getPod("my-dc-1-a", true), getPod("my-dc-1-b", false)).build())
+                       .once();
+        server.expect().withPath(PODS_PATH + "?labelSelector=deploymentConfig%3Dmy-dc")
+                       .andReturn(200, new PodListBuilder().addToItems(getPod("my-dc-1-a", true), getPod("my-dc-1-b", true)).build())
+                       .always();
+        server.expect().withPath(PODS_PATH + "?labelSelector=deploymentConfig%3Dmy-dc&watch=true")
+                       .andUpgradeToWebSocket()
+                       .open()
+                           .waitFor(100).andEmit(new WatchEvent(getPod("my-dc-1-b", true), "MODIFIED"))
+                       .done()
+                       .always();
+
+        new ReadinessWaiter(openShiftClient, PROJECT_NAME).withTimeout(Duration.ofSeconds(5))
+                                                          .waitUntilPodsReady("my-dc", 2);
+    }
+
+    @Test
+    public void testWaitUntilPodsReadyTimeout() {
+        server.expect().withPath(PODS_PATH + "?labelSelector=deploymentConfig%3Dmy-dc")
+                       .andReturn(200, new PodListBuilder().addToItems(getPod("my-dc-1-a", true), getPod("my-dc-1-b", false)).build())
+                       .always();
+        server.expect().withPath(PODS_PATH + "?labelSelector=deploymentConfig%3Dmy-dc&watch=true")
+                       .andUpgradeToWebSocket()
+                       .open()
+                           // Pod isn't ready yet
+                           .waitFor(100).andEmit(new WatchEvent(getPod("my-dc-1-b", false), "MODIFIED"))
+                       .done()
+                       .always();
+
+        ReadinessWaiter readinessWaiter = new ReadinessWaiter(openShiftClient, PROJECT_NAME).withTimeout(Duration.ofMillis(500));
+        assertThatThrownBy(() -> readinessWaiter.waitUntilPodsReady("my-dc", 2)).isInstanceOf(RuntimeException.class)
+                                                                                .hasMessageContaining("Timeout while waiting for pods of deployment config my-dc");
+    }
+
+    @Test
+    public void testWaitUntilEndpointsReadyOnEvent() {
+        server.expect().withPath(ENDPOINTS_PATH + "/my-service").andReturn(200, getEndpoints(false)).always();
+        server.expect().withPath(ENDPOINTS_PATH + "?fieldSelector=metadata.name%3Dmy-service&watch=true")
+                       .andUpgradeToWebSocket()
+                       .open()
+                           .waitFor(100).andEmit(new WatchEvent(getEndpoints(true), "MODIFIED"))
+                       .done()
+                       .always();
+
+        new ReadinessWaiter(openShiftClient, PROJECT_NAME).withTimeout(Duration.ofSeconds(5))
+                                                          .waitUntilEndpointsReady("my-service");
+    }
+
+    @Test
+    public void testWaitUntilRoutesAvailable() throws IOException {
+        try (MockWebServer routeServer = new MockWebServer()) {
+            routeServer.enqueue(new MockResponse().setResponseCode(503));
+            routeServer.enqueue(new MockResponse().setResponseCode(503));
+            routeServer.enqueue(new MockResponse().setResponseCode(200));
+            routeServer.start();
+
+            server.expect().withPath("/oapi/v1/namespaces/" + PROJECT_NAME + "/routes")
+                           .andReturn(200, new RouteListBuilder().addToItems(new RouteBuilder().withNewMetadata()
+                                                                                                   .withName("my-route")
+                                                                                               .endMetadata()
+                                                                                               .withNewSpec()
+                                                                                                   .withHost(routeServer.getHostName() + ":" + routeServer.getPort())
+                                                                                               .endSpec()
+                                                                                               .build())
+                                                                 .build())
+                           .once();
+
+            new ReadinessWaiter(openShiftClient, PROJECT_NAME).withTimeout(Duration.ofSeconds(5))
+                                                              .withHttpBackoff(Duration.ofMillis(10), Duration.ofMillis(50))
+                                                              .waitUntilRoutesAvailable();
+
+            assertThat(routeServer.getRequestCount()).isEqualTo(3);
+        }
+    }
+
+    @Test
+    public void testWaitUntilRoutesAvailableTimeout() throws IOException {
+        try (MockWebServer routeServer = new MockWebServer()) {
+            for (int i = 0; i < 100; i++) {
+                routeServer.enqueue(new MockResponse().setResponseCode(503));
+            }
+            routeServer.start();
+
+            server.expect().withPath("/oapi/v1/namespaces/" + PROJECT_NAME + "/routes")
+                           .andReturn(200, new RouteListBuilder().addToItems(new RouteBuilder().withNewMetadata()
+                                                                                                   .withName("my-route")
+                                                                                               .endMetadata()
+                                                                                               .withNewSpec()
+                                                                                                   .withHost(routeServer.getHostName() + ":" + routeServer.getPort())
+                                                                                               .endSpec()
+                                                                                               .build())
+                                                                 .build())
+                           .once();
+
+            ReadinessWaiter readinessWaiter = new ReadinessWaiter(openShiftClient, PROJECT_NAME).withTimeout(Duration.ofMillis(300))
+                                                                                                .withHttpBackoff(Duration.ofMillis(10), Duration.ofMillis(50));
+            assertThatThrownBy(() -> readinessWaiter.waitUntilRoutesAvailable()).isInstanceOf(RuntimeException.class)
+                                                                                .hasMessageContaining("Timeout while waiting for route my-route");
+        }
+    }
+
+    private DeploymentConfig getReadyDeploymentConfig() {
+        return getDeploymentConfig(2, 1, 1, 1);
+    }
+
+    private DeploymentConfig getDeploymentConfig(long observedGeneration, int replicas, int readyReplicas, int updatedReplicas) {
+        return new DeploymentConfigBuilder().withNewMetadata()
+                                                .withName("my-dc")
+                                                .withGeneration(2L)
+                                            .endMetadata()
+                                            .withNewSpec()
+                                                .withReplicas(1)
+                                            .endSpec()
+                                            .withNewStatus()
+                                                .withObservedGeneration(observedGeneration)
+                                                .withReplicas(replicas)
+                                                .withReadyReplicas(readyReplicas)
+                                                .withUpdatedReplicas(updatedReplicas)
+                                            .endStatus()
+                                            .build();
+    }
+
+    private Pod getPod(String name, boolean ready) {
+        return new PodBuilder().withNewMetadata()
+                                   .withName(name)
+                                   .addToLabels("deploymentConfig", "my-dc")
+                               .endMetadata()
+                               .withNewStatus()
+                                   .addNewCondition()
+                                       .withType("Ready")
+                                       .withStatus(ready ? "True" : "False")
+                                   .endCondition()
+                               .endStatus()
+                               .build();
+    }
+
+    private Endpoints getEndpoints(boolean withAddress) {
+        EndpointsBuilder endpointsBuilder = new EndpointsBuilder().withNewMetadata()
+                                                                      .withName("my-service")
+                                                                  .endMetadata();
+        if (withAddress) {
+            endpointsBuilder.addNewSubset()
+                                .addNewAddress()
+                                    .withIp("10.0.0.1")
+                                .endAddress()
+                            .endSubset();
+        }
+        return endpointsBuilder.build();
+    }
+}
@@ -0,0 +1,108 @@
+package org.kie.cloud.openshift.rollout;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.HorizontalPodAutoscaler;
+import io.fabric8.kubernetes.api.model.Service;
+import io.fabric8.openshift.api.model.DeploymentConfig;
+import io.fabric8.openshift.api.model.RoleBinding;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.Test;
+import org.kie.cloud.openshift.AbstractCloudMockTest;
+import org.kie.cloud.openshift.deployment.Deployment;
+import org.kie.cloud.openshift.rollout.ObjectApplier.Result;
+import org.kie.cloud.openshift.scenario.Scenario;
+import org.kie.cloud.openshift.scenario.builder.ScenarioBuilder;
+import org.kie.cloud.openshift.settings.builder.KieServerDeploymentBuilder;
+
+public class ObjectApplierTest extends AbstractCloudMockTest {
+
+    public ObjectApplierTest() {
+        super(true);
+    }
+
+    @Test
+    public void testApplyCreatesMissingObjects() {
+        List<HasMetadata> objects = processDeployment(new KieServerDeploymentBuilder("kieserver").build());
+
+        List<Result> results = new ObjectApplier(openShiftClient, PROJECT_NAME).apply(objects);
+
+        assertThat(results).hasSize(objects.size()).containsOnly(Result.CREATED);
+        assertThat(openShiftClient.deploymentConfigs().inNamespace(PROJECT_NAME).withName("kieserver").get()).isNotNull();
+    }
+
+    @Test
+    public void testApplyUnchangedObjects() {
+        List<HasMetadata> objects = processDeployment(new KieServerDeploymentBuilder("kieserver").build());
+        ObjectApplier objectApplier = new ObjectApplier(openShiftClient, PROJECT_NAME);
+        objectApplier.apply(objects);
+
+        List<Result> results = objectApplier.apply(processDeployment(new KieServerDeploymentBuilder("kieserver").build()));
+
+        assertThat(results).hasSize(objects.size()).containsOnly(Result.UNCHANGED);
+    }
+
+    @Test
+    public void testApplyPatchesChangedDeploymentConfig() throws InterruptedException {
+        ObjectApplier objectApplier = new ObjectApplier(openShiftClient, PROJECT_NAME);
+        objectApplier.apply(processDeployment(new KieServerDeploymentBuilder("kieserver").build()));
+
+        List<HasMetadata> objects = processDeployment(new KieServerDeploymentBuilder("kieserver").withContainerMemoryLimit("2Gi").build());
+        List<Result> results = objectApplier.apply(objects);
+
+        for (int i = 0; i < objects.size(); i++) {
+            assertThat(results.get(i)).isEqualTo(objects.get(i) instanceof DeploymentConfig ? Result.PATCHED : Result.UNCHANGED);
+        }
+
+        List<RecordedRequest> patchRequests = new ArrayList<>();
+        for (int i = server.getMockServer().getRequestCount(); i > 0; i--) {
+            RecordedRequest request = server.getMockServer().takeRequest();
+            if ("PATCH".equals(request.getMethod())) {
+                patchRequests.add(request);
+            }
+        }
+        assertThat(patchRequests).hasSize(1);
+        assertThat(patchRequests.get(0).getPath()).endsWith("/deploymentconfigs/kieserver");
+    }
+
+    @Test
+    public void testApplyKeepsReplicasOfAutoscaledDeploymentConfig() {
+        ObjectApplier objectApplier = new ObjectApplier(openShiftClient, PROJECT_NAME);
+        objectApplier.apply(processDeployment(new KieServerDeploymentBuilder("kieserver").withAutoscaling(1, 5, 75, null).build()));
+        DeploymentConfig scaledDeploymentConfig = getDeploymentConfig("kieserver");
+        scaledDeploymentConfig.getSpec().setReplicas(4);
+        openShiftClient.deploymentConfigs().inNamespace(PROJECT_NAME).withName("kieserver").replace(scaledDeploymentConfig);
+
+        List<HasMetadata> objects = processDeployment(new KieServerDeploymentBuilder("kieserver").withAutoscaling(1, 5, 75, null).build());
+        List<Result> results = objectApplier.apply(objects);
+
+        assertThat(results).hasSize(objects.size()).containsOnly(Result.UNCHANGED);
+        assertThat(getDeploymentConfig("kieserver").getSpec().getReplicas()).isEqualTo(4);
+    }
+
+    // Mock server returns objects of all kinds when getting by name, so deployment config is looked up in the list
+    private DeploymentConfig getDeploymentConfig(String name) {
+        return openShiftClient.deploymentConfigs().inNamespace(PROJECT_NAME).list().getItems()
+                              .stream()
+                              .filter(d -> "DeploymentConfig".equals(d.getKind()) && name.equals(d.getMetadata().getName()))
+                              .findFirst()
+                              .orElseThrow(() -> new AssertionError("Deployment config " + name + " not found."));
+    }
+
+    // Mock server doesn't filter services by labels and doesn't serve role bindings and autoscalers by name, so these are skipped
+    private List<HasMetadata> processDeployment(Deployment deployment) {
+        Scenario scenario = new ScenarioBuilder().withDeployment(deployment).build();
+        String yaml = scenario.getTemplateAsYaml();
+        return openShiftClient.templates().load(new ByteArrayInputStream(yaml.getBytes())).processLocally(Collections.emptyMap()).getItems()
+                              .stream()
+                              .filter(o -> !(o instanceof Service) && !(o instanceof RoleBinding) && !(o instanceof HorizontalPodAutoscaler))
+                              .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,90 @@
+package org.kie.cloud.openshift.rollout;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.util.Optional;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.fabric8.kubernetes.client.utils.Serialization;
+import org.junit.Test;
+
+public class ObjectDiffTest {
+
+    @Test
+    public void testMatchesIgnoresServerPopulatedFields() throws IOException {
+        ObjectNode desired = toNode("{\"metadata\":{\"name\":\"my-dc\"},\"spec\":{\"replicas\":1}}");
+        ObjectNode live = toNode("{\"metadata\":{\"name\":\"my-dc\",\"resourceVersion\":\"5\"},\"spec\":{\"replicas\":1,\"revisionHistoryLimit\":10},\"status\":{\"readyReplicas\":1}}");
+
+        assertThat(ObjectDiff.matches(desired, live)).isTrue();
+        assertThat(ObjectDiff.merge(desired, live)).isEmpty();
+    }
+
+    @Test
+    public void testMatchesEmptyDesiredValueWithMissingLiveValue() throws IOException {
+        ObjectNode desired = toNode("{\"env\":[{\"name\":\"KIE_SERVER_ID\",\"value\":\"\"}],\"annotations\":{}}");
+        ObjectNode live = toNode("{\"env\":[{\"name\":\"KIE_SERVER_ID\"}]}");
+
+        assertThat(ObjectDiff.matches(desired, live)).isTrue();
+    }
+
+    @Test
+    public void testMatchesEmptyDesiredMetadataWithPopulatedLiveValue() throws IOException {
+        ObjectNode desired = toNode("{\"metadata\":{\"name\":\"my-dc\",\"annotations\":{},\"labels\":null}}");
+        ObjectNode live = toNode("{\"metadata\":{\"name\":\"my-dc\",\"annotations\":{\"openshift.io/generated-by\":\"OpenShiftNewApp\"},\"labels\":{\"app\":\"my-app\"}}}");
+
+        assertThat(ObjectDiff.matches(desired, live)).isTrue();
+        assertThat(ObjectDiff.merge(desired, live)).isEmpty();
+    }
+
+    @Test
+    public void testMergeClearedArray() throws IOException {
+        ObjectNode desired = toNode("{\"spec\":{\"triggers\":[]}}");
+        ObjectNode live = toNode("{\"spec\":{\"triggers\":[{\"type\":\"ConfigChange\"}]}}");
+
+        Optional<ObjectNode> merged = ObjectDiff.merge(desired, live);
+
+        assertThat(merged).isPresent();
+        assertThat(merged.get().at("/spec/triggers").size()).isZero();
+    }
+
+    @Test
+    public void testMergeEnvironmentVariableRevertedToEmptyValue() throws IOException {
+        ObjectNode desired = toNode("{\"env\":[{\"name\":\"JAVA_MAX_MEM_RATIO\",\"value\":\"\"}]}");
+        ObjectNode live = toNode("{\"env\":[{\"name\":\"JAVA_MAX_MEM_RATIO\",\"value\":\"75\"}]}");
+
+        Optional<ObjectNode> merged = ObjectDiff.merge(desired, live);
+
+        assertThat(ObjectDiff.matches(desired, live)).isFalse();
+        assertThat(merged).isPresent();
+        assertThat(merged.get().at("/env/0/value").asText()).isEmpty();
+    }
+
+    @Test
+    public void testMergeChangedValue() throws IOException {
+        ObjectNode desired = toNode("{\"spec\":{\"replicas\":2}}");
+        ObjectNode live = toNode("{\"spec\":{\"replicas\":1,\"revisionHistoryLimit\":10}}");
+
+        Optional<ObjectNode> merged = ObjectDiff.merge(desired, live);
+
+        assertThat(merged).isPresent();
+        assertThat(merged.get().at("/spec/replicas").asInt()).isEqualTo(2);
+        assertThat(merged.get().at("/spec/revisionHistoryLimit").asInt()).isEqualTo(10);
+        assertThat(live.at("/spec/replicas").asInt()).isEqualTo(1);
+    }
+
+    @Test
+    public void testMergeReplacesChangedArray() throws IOException {
+        ObjectNode desired = toNode("{\"env\":[{\"name\":\"A\",\"value\":\"1\"},{\"name\":\"B\",\"value\":\"2\"}]}");
+        ObjectNode live = toNode("{\"env\":[{\"name\":\"A\",\"value\":\"1\"}]}");
+
+        Optional<ObjectNode> merged = ObjectDiff.merge(desired, live);
+
+        assertThat(merged).isPresent();
+        assertThat(merged.get().get("env")).isEqualTo(desired.get("env"));
+    }
+
+    private static ObjectNode toNode(String json) throws IOException {
+        return (ObjectNode) Serialization.jsonMapper().readTree(json);
+    }
+}
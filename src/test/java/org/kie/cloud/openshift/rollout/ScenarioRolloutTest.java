@@ -0,0 +1,110 @@
+package org.kie.cloud.openshift.rollout;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.KubernetesList;
+import io.fabric8.kubernetes.api.model.KubernetesListBuilder;
+import org.junit.Test;
+import org.kie.cloud.openshift.AbstractCloudMockTest;
+import org.kie.cloud.openshift.deployment.Deployment;
+import org.kie.cloud.openshift.deployment.MySqlDeployment;
+import org.kie.cloud.openshift.deployment.PostgreSqlDeployment;
+import org.kie.cloud.openshift.scenario.Scenario;
+import org.kie.cloud.openshift.scenario.builder.ScenarioBuilder;
+import org.kie.cloud.openshift.settings.builder.KieServerDeploymentBuilder;
+import org.kie.cloud.openshift.settings.builder.MySqlDeploymentBuilder;
+import org.kie.cloud.openshift.settings.builder.PostgreSqlDeploymentBuilder;
+
+public class ScenarioRolloutTest extends AbstractCloudMockTest {
+
+    public ScenarioRolloutTest() {
+        super(true);
+    }
+
+    @Test
+    public void testOrderByDependencies() {
+        MySqlDeployment mySql = new MySqlDeploymentBuilder().build();
+        Deployment kieServer = new KieServerDeploymentBuilder().connectToDatabase(mySql).build();
+
+        List<Deployment> orderedDeployments = ScenarioRollout.orderByDependencies(Arrays.asList(kieServer, mySql));
+
+        assertThat(orderedDeployments).containsExactly(mySql, kieServer);
+    }
+
+    @Test
+    public void testOrderByDependenciesIgnoresDeploymentsOutsideOfScenario() {
+        MySqlDeployment mySql = new MySqlDeploymentBuilder().build();
+        Deployment kieServer = new KieServerDeploymentBuilder().connectToDatabase(mySql).build();
+
+        List<Deployment> orderedDeployments = ScenarioRollout.orderByDependencies(Collections.singletonList(kieServer));
+
+        assertThat(orderedDeployments).containsExactly(kieServer);
+    }
+
+    @Test
+    public void testOrderByDependenciesCyclicDependency() {
+        Deployment first = new Deployment("first");
+        Deployment second = new Deployment("second");
+        first.getDependencies().add(second);
+        second.getDependencies().add(first);
+
+        assertThatThrownBy(() -> ScenarioRollout.orderByDependencies(Arrays.asList(first, second))).isInstanceOf(RuntimeException.class)
+                                                                                                   .hasMessageContaining("Cyclic dependency detected");
+    }
+
+    @Test
+    public void testRolloutDependentsAfterDependenciesAreReady() {
+        MySqlDeployment mySql = new MySqlDeploymentBuilder("mysql").build();
+        PostgreSqlDeployment postgreSql = new PostgreSqlDeploymentBuilder("postgresql").build();
+        Deployment kieServerMySql = new KieServerDeploymentBuilder("kieserver-mysql").connectToDatabase(mySql).build();
+        Deployment kieServerPostgreSql = new KieServerDeploymentBuilder("kieserver-postgresql").connectToDatabase(postgreSql).build();
+        Scenario scenario = new ScenarioBuilder().withDeployment(kieServerMySql)
+                                                 .withDeployment(kieServerPostgreSql)
+                                                 .withDeployment(mySql)
+                                                 .withDeployment(postgreSql)
+                                                 .build();
+
+        List<String> events = Collections.synchronizedList(new ArrayList<>());
+        ScenarioRollout scenarioRollout = new ScenarioRollout(openShiftClient, PROJECT_NAME) {
+            @Override
+            protected void createObjects(Deployment deployment, List<HasMetadata> objects) {
+                super.createObjects(deployment, objects);
+                events.add("created " + deployment.getDeploymentName());
+            }
+
+            @Override
+            protected void waitUntilReady(Deployment deployment, List<HasMetadata> objects) {
+                events.add("ready " + deployment.getDeploymentName());
+            }
+        };
+        scenarioRollout.withParallelism(2).rollout(scenario, processScenario(scenario));
+
+        assertThat(events).hasSize(6);
+        assertThat(events).doesNotContain("ready kieserver-mysql", "ready kieserver-postgresql");
+        assertThat(events.indexOf("ready mysql")).isLessThan(events.indexOf("created kieserver-mysql"));
+        assertThat(events.indexOf("ready postgresql")).isLessThan(events.indexOf("created kieserver-postgresql"));
+        assertThat(openShiftClient.deploymentConfigs().inNamespace(PROJECT_NAME).list().getItems()).extracting(d -> d.getMetadata().getName())
+                                                                                                   .contains("mysql", "postgresql", "kieserver-mysql", "kieserver-postgresql");
+    }
+
+    @Test
+    public void testRolloutProcessedObjectsMismatch() {
+        Scenario scenario = new ScenarioBuilder().withDeployment(new MySqlDeploymentBuilder().build()).build();
+
+        assertThatThrownBy(() -> new ScenarioRollout(openShiftClient, PROJECT_NAME).rollout(scenario, new KubernetesListBuilder().build())).isInstanceOf(RuntimeException.class)
+                                                                                                                                           .hasMessageContaining("Processed template contains 0 objects");
+    }
+
+    private KubernetesList processScenario(Scenario scenario) {
+        String yaml = scenario.getTemplateAsYaml();
+        return openShiftClient.templates().load(new ByteArrayInputStream(yaml.getBytes())).processLocally(Collections.emptyMap());
+    }
+}
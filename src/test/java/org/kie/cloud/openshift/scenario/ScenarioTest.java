@@ -3,6 +3,9 @@ package org.kie.cloud.openshift.scenario;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -65,4 +68,45 @@ public class ScenarioTest extends AbstractCloudTest{
         assertThat(template.getParameters().get(0).getName()).isEqualTo("custom-name");
         assertThat(template.getParameters().get(0).getValue()).isEqualTo("custom-value");
     }
+
+    @Test
+    public void testWriteTemplateAsJson() {
+        Deployment kieServerDeployment = new KieServerDeploymentBuilder().build();
+        Scenario scenario = new Scenario();
+        scenario.addDeployment(kieServerDeployment);
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        scenario.writeTemplate(outputStream, TemplateFormat.JSON);
+
+        assertThat(new String(outputStream.toByteArray(), StandardCharsets.UTF_8)).startsWith("{");
+        Template template = openShiftClient.templates().load(new ByteArrayInputStream(outputStream.toByteArray())).get();
+        assertThat(template.getMetadata().getName()).isEqualTo("custom-template");
+        assertThat(template.getObjects()).hasSameSizeAs(kieServerDeployment.getObjects());
+        assertThat(template.getParameters()).hasSameSizeAs(kieServerDeployment.getParameters());
+    }
+
+    @Test
+    public void testWriteTemplateAsYaml() {
+        Scenario scenario = new Scenario();
+        scenario.addDeployment(new KieServerDeploymentBuilder().build());
+
+        StringWriter writer = new StringWriter();
+        scenario.writeTemplate(writer, TemplateFormat.YAML);
+
+        assertThat(writer.toString()).isEqualTo(scenario.getTemplateAsYaml());
+    }
+
+    @Test
+    public void testGetTemplateAsInputStream() {
+        Deployment kieServerDeployment = new KieServerDeploymentBuilder().build();
+        Scenario scenario = new Scenario();
+        scenario.addDeployment(kieServerDeployment);
+
+        Template template = openShiftClient.templates().load(scenario.getTemplateAsInputStream()).get();
+
+        assertThat(template.getObjects()).hasSameSizeAs(kieServerDeployment.getObjects());
+        assertThat(template.getObjects()).filteredOn(o -> o instanceof DeploymentConfig)
+                                         .extracting(o -> o.getMetadata().getName())
+                                         .containsExactly(kieServerDeployment.getDeploymentName());
+    }
 }
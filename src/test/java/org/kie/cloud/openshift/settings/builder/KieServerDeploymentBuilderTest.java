@@ -1,25 +1,45 @@
 package org.kie.cloud.openshift.settings.builder;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import io.fabric8.kubernetes.api.model.Container;
 import io.fabric8.kubernetes.api.model.EnvVar;
+import io.fabric8.kubernetes.api.model.HTTPHeader;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.HorizontalPodAutoscaler;
+import io.fabric8.kubernetes.api.model.KubernetesList;
+import io.fabric8.kubernetes.api.model.PodAntiAffinity;
 import io.fabric8.kubernetes.api.model.Probe;
 import io.fabric8.kubernetes.api.model.Quantity;
+import io.fabric8.kubernetes.api.model.ResourceRequirements;
 import io.fabric8.kubernetes.api.model.ServiceAccount;
 import io.fabric8.kubernetes.api.model.Volume;
 import io.fabric8.kubernetes.api.model.VolumeMount;
+import io.fabric8.kubernetes.client.utils.Serialization;
+import io.fabric8.openshift.api.model.DeploymentConfig;
+import io.fabric8.openshift.api.model.DeploymentStrategy;
 import io.fabric8.openshift.api.model.RoleBinding;
 import org.junit.Test;
 import org.kie.cloud.openshift.AbstractCloudTest;
 import org.kie.cloud.openshift.OpenShiftImageConstants;
 import org.kie.cloud.openshift.configuration.ConfigurationLoader;
+import org.kie.cloud.openshift.configuration.ResourceProfile;
 import org.kie.cloud.openshift.deployment.Deployment;
+import org.kie.cloud.openshift.deployment.MavenMirrorDeployment;
 import org.kie.cloud.openshift.deployment.MySqlDeployment;
 import org.kie.cloud.openshift.deployment.PostgreSqlDeployment;
+import org.kie.cloud.openshift.template.TemplateProcessor;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
 
 public class KieServerDeploymentBuilderTest extends AbstractCloudTest{
 
@@ -176,7 +196,13 @@ public class KieServerDeploymentBuilderTest extends AbstractCloudTest{
         Probe livenessProbe = builtKieServerDeployment.getDeploymentConfig().getSpec().getTemplate().getSpec().getContainers().get(0).getLivenessProbe();
 
         assertThat(livenessProbe).isNotNull();
-        assertThat(livenessProbe.getExec().getCommand()).containsExactly("/bin/bash", "-c", "curl --fail --silent -u 'kieServerName:kieServerPassword' http://localhost:8080/services/rest/server/healthcheck");
+        assertThat(livenessProbe.getExec()).isNull();
+        assertThat(livenessProbe.getHttpGet().getPath()).isEqualTo("/services/rest/server/healthcheck");
+        assertThat(livenessProbe.getHttpGet().getPort().getIntVal()).isEqualTo(8080);
+        assertThat(livenessProbe.getHttpGet().getHttpHeaders()).hasOnlyOneElementSatisfying(h -> {
+            assertThat(h.getName()).isEqualTo("Authorization");
+            assertThat(h.getValue()).isEqualTo("Basic " + Base64.getEncoder().encodeToString("kieServerName:kieServerPassword".getBytes(StandardCharsets.UTF_8)));
+        });
         assertThat(livenessProbe.getInitialDelaySeconds()).isEqualTo(180);
         assertThat(livenessProbe.getTimeoutSeconds()).isEqualTo(2);
         assertThat(livenessProbe.getPeriodSeconds()).isEqualTo(15);
@@ -190,13 +216,279 @@ public class KieServerDeploymentBuilderTest extends AbstractCloudTest{
         Probe readinessProbe = builtKieServerDeployment.getDeploymentConfig().getSpec().getTemplate().getSpec().getContainers().get(0).getReadinessProbe();
 
         assertThat(readinessProbe).isNotNull();
-        assertThat(readinessProbe.getExec().getCommand()).containsExactly("/bin/bash", "-c", "curl --fail --silent -u 'kieServerName:kieServerPassword' http://localhost:8080/services/rest/server/readycheck");
+        assertThat(readinessProbe.getExec()).isNull();
+        assertThat(readinessProbe.getHttpGet().getPath()).isEqualTo("/services/rest/server/readycheck");
+        assertThat(readinessProbe.getHttpGet().getPort().getIntVal()).isEqualTo(8080);
+        assertThat(readinessProbe.getHttpGet().getHttpHeaders()).extracting(HTTPHeader::getName).containsExactly("Authorization");
         assertThat(readinessProbe.getInitialDelaySeconds()).isEqualTo(60);
         assertThat(readinessProbe.getTimeoutSeconds()).isEqualTo(2);
         assertThat(readinessProbe.getPeriodSeconds()).isEqualTo(30);
         assertThat(readinessProbe.getFailureThreshold()).isEqualTo(6);
     }
 
+    @Test
+    public void testBuildKieServerDeploymentProbesWithCredentialsFromProperties() {
+        KieServerDeploymentBuilder settingsBuilder = new KieServerDeploymentBuilder();
+        Deployment builtKieServerDeployment = settingsBuilder.withKieServerUserFromProperties().build();
+        Probe livenessProbe = builtKieServerDeployment.getDeploymentConfig().getSpec().getTemplate().getSpec().getContainers().get(0).getLivenessProbe();
+
+        // Template parameters can't be encoded into authorization header
+        assertThat(livenessProbe.getExec()).isNull();
+        assertThat(livenessProbe.getHttpGet().getPath()).isEqualTo("/services/rest/server/healthcheck");
+        assertThat(livenessProbe.getHttpGet().getHttpHeaders()).isEmpty();
+        assertThat(livenessProbe.getInitialDelaySeconds()).isEqualTo(180);
+    }
+
+    @Test
+    public void testBuildKieServerDeploymentWithExecProbes() {
+        KieServerDeploymentBuilder settingsBuilder = new KieServerDeploymentBuilder();
+        Deployment builtKieServerDeployment = settingsBuilder.withKieServerUserFromProperties()
+                                                             .withExecProbes()
+                                                             .build();
+        Probe livenessProbe = builtKieServerDeployment.getDeploymentConfig().getSpec().getTemplate().getSpec().getContainers().get(0).getLivenessProbe();
+
+        assertThat(livenessProbe.getHttpGet()).isNull();
+        assertThat(livenessProbe.getExec().getCommand()).containsExactly("/bin/bash", "-c", "curl --fail --silent -u \"$KIE_SERVER_USER:$KIE_SERVER_PWD\" http://localhost:8080/services/rest/server/healthcheck");
+        assertThat(livenessProbe.getInitialDelaySeconds()).isEqualTo(180);
+    }
+
+    @Test
+    public void testBuildKieServerDeploymentWithUnauthenticatedProbes() {
+        KieServerDeploymentBuilder settingsBuilder = new KieServerDeploymentBuilder();
+        Deployment builtKieServerDeployment = settingsBuilder.withKieServerUserFromProperties()
+                                                             .withUnauthenticatedProbes()
+                                                             .build();
+        Container container = builtKieServerDeployment.getDeploymentConfig().getSpec().getTemplate().getSpec().getContainers().get(0);
+
+        assertThat(container.getLivenessProbe().getExec()).isNull();
+        assertThat(container.getLivenessProbe().getHttpGet().getPath()).isEqualTo("/services/rest/server/healthcheck");
+        assertThat(container.getLivenessProbe().getHttpGet().getHttpHeaders()).isEmpty();
+        assertThat(container.getReadinessProbe().getHttpGet().getPath()).isEqualTo("/services/rest/server/readycheck");
+        assertThat(container.getReadinessProbe().getHttpGet().getHttpHeaders()).isEmpty();
+    }
+
+    @Test
+    public void testBuildKieServerDeploymentWithStartupProbe() throws Exception {
+        KieServerDeploymentBuilder settingsBuilder = new KieServerDeploymentBuilder();
+        Deployment builtKieServerDeployment = settingsBuilder.withKieServerUser("kieServerName", "kieServerPassword")
+                                                             .withStartupProbe(Duration.ofSeconds(5), 60)
+                                                             .build();
+        Container container = builtKieServerDeployment.getDeploymentConfig().getSpec().getTemplate().getSpec().getContainers().get(0);
+
+        assertThat(container.getAdditionalProperties()).containsKey("startupProbe");
+        Probe startupProbe = (Probe) container.getAdditionalProperties().get("startupProbe");
+        assertThat(startupProbe.getHttpGet()).isEqualTo(container.getLivenessProbe().getHttpGet());
+        assertThat(startupProbe.getPeriodSeconds()).isEqualTo(5);
+        assertThat(startupProbe.getFailureThreshold()).isEqualTo(60);
+        assertThat(startupProbe.getTimeoutSeconds()).isEqualTo(2);
+        assertThat(container.getLivenessProbe().getInitialDelaySeconds()).isEqualTo(0);
+        assertThat(container.getReadinessProbe().getInitialDelaySeconds()).isEqualTo(0);
+
+        String serializedContainer = Serialization.jsonMapper().writeValueAsString(container);
+        assertThat(serializedContainer).contains("\"startupProbe\":{");
+
+        // Startup probe handler is a copy
+        container.getLivenessProbe().getHttpGet().setPath("/changed");
+        assertThat(startupProbe.getHttpGet().getPath()).isEqualTo("/services/rest/server/healthcheck");
+    }
+
+    @Test
+    public void testBuildKieServerDeploymentWithStartupProbeAndProbeTimingsFromProperties() {
+        KieServerDeploymentBuilder settingsBuilder = new KieServerDeploymentBuilder();
+        Deployment builtKieServerDeployment = settingsBuilder.withProbeTimingsFromProperties()
+                                                             .withStartupProbe(Duration.ofSeconds(5), 60)
+                                                             .build();
+        Container container = builtKieServerDeployment.getDeploymentConfig().getSpec().getTemplate().getSpec().getContainers().get(0);
+
+        Probe startupProbe = (Probe) container.getAdditionalProperties().get("startupProbe");
+        assertThat(startupProbe.getAdditionalProperties()).containsEntry("timeoutSeconds", "${{KIE_SERVER_LIVENESS_PROBE_TIMEOUT}}");
+        assertThat(container.getLivenessProbe().getAdditionalProperties()).doesNotContainKey("initialDelaySeconds")
+                                                                           .containsEntry("timeoutSeconds", "${{KIE_SERVER_LIVENESS_PROBE_TIMEOUT}}");
+        assertThat(container.getLivenessProbe().getInitialDelaySeconds()).isEqualTo(0);
+        // Initial delay parameters aren't referenced anymore
+        assertThat(builtKieServerDeployment.getParameters()).extracting(p -> p.getName())
+                                                            .doesNotContain(OpenShiftImageConstants.KIE_SERVER_LIVENESS_PROBE_INITIAL_DELAY,
+                                                                            OpenShiftImageConstants.KIE_SERVER_READINESS_PROBE_INITIAL_DELAY)
+                                                            .contains(OpenShiftImageConstants.KIE_SERVER_LIVENESS_PROBE_TIMEOUT);
+    }
+
+    @Test
+    public void testBuildKieServerDeploymentWithoutStartupProbe() {
+        KieServerDeploymentBuilder settingsBuilder = new KieServerDeploymentBuilder();
+        Deployment builtKieServerDeployment = settingsBuilder.withStartupProbe(Duration.ofSeconds(5), 60)
+                                                             .withoutStartupProbe()
+                                                             .build();
+        Container container = builtKieServerDeployment.getDeploymentConfig().getSpec().getTemplate().getSpec().getContainers().get(0);
+
+        assertThat(container.getAdditionalProperties()).doesNotContainKey("startupProbe");
+        assertThat(container.getLivenessProbe().getInitialDelaySeconds()).isEqualTo(180);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBuildKieServerDeploymentWithInvalidStartupProbe() {
+        new KieServerDeploymentBuilder().withStartupProbe(Duration.ofSeconds(5), 0);
+    }
+
+    @Test
+    public void testBuildKieServerDeploymentWithMavenMirror() {
+        MavenMirrorDeployment builtMavenMirrorDeployment = new MavenMirrorDeploymentBuilder("maven-mirror").build();
+        KieServerDeploymentBuilder settingsBuilder = new KieServerDeploymentBuilder();
+        Deployment builtKieServerDeployment = settingsBuilder.withMavenMirror(builtMavenMirrorDeployment)
+                                                             .build();
+
+        assertThat(builtKieServerDeployment.getDeploymentConfig().getSpec().getTemplate().getSpec().getContainers().get(0).getEnv())
+                        .filteredOn(e -> OpenShiftImageConstants.MAVEN_MIRROR_URL.equals(e.getName()))
+                        .hasOnlyOneElementSatisfying(e -> assertThat(e.getValue()).isEqualTo("http://maven-mirror:8081/repository/maven-public/"));
+        assertThat(builtKieServerDeployment.getDependencies()).containsExactly(builtMavenMirrorDeployment);
+    }
+
+    @Test
+    public void testBuildKieServerDeploymentWithPersistentMavenRepository() {
+        KieServerDeploymentBuilder settingsBuilder = new KieServerDeploymentBuilder();
+        Deployment builtKieServerDeployment = settingsBuilder.withPersistentMavenRepository("5Gi")
+                                                             .build();
+
+        String claimName = builtKieServerDeployment.getDeploymentName() + "-maven-repo-claim";
+        Container container = builtKieServerDeployment.getDeploymentConfig().getSpec().getTemplate().getSpec().getContainers().get(0);
+        assertThat(container.getVolumeMounts())
+                        .hasOnlyOneElementSatisfying(m -> {
+                            assertThat(m.getName()).isEqualTo(builtKieServerDeployment.getDeploymentName() + "-maven-repo-pvol");
+                            assertThat(m.getMountPath()).isEqualTo("/opt/kie/maven-repository");
+                        });
+        assertThat(builtKieServerDeployment.getDeploymentConfig().getSpec().getTemplate().getSpec().getVolumes())
+                        .hasOnlyOneElementSatisfying(v -> assertThat(v.getPersistentVolumeClaim().getClaimName()).isEqualTo(claimName));
+        assertThat(builtKieServerDeployment.getPersistentVolumeClaims())
+                        .hasOnlyOneElementSatisfying(p -> {
+                            assertThat(p.getMetadata().getName()).isEqualTo(claimName);
+                            assertThat(p.getSpec().getAccessModes()).containsOnlyOnce("ReadWriteMany");
+                            assertThat(p.getSpec().getResources().getRequests().get("storage")).isEqualTo(new Quantity("5Gi"));
+                        });
+        assertThat(container.getEnv())
+                        .filteredOn(e -> OpenShiftImageConstants.MAVEN_LOCAL_REPO.equals(e.getName()))
+                        .hasOnlyOneElementSatisfying(e -> assertThat(e.getValue()).isEqualTo("/opt/kie/maven-repository"));
+    }
+
+    @Test
+    public void testBuildKieServerDeploymentWithPersistentMavenRepositoryFromProperties() {
+        KieServerDeploymentBuilder settingsBuilder = new KieServerDeploymentBuilder();
+        Deployment builtKieServerDeployment = settingsBuilder.withPersistentMavenRepositoryFromProperties()
+                                                             .build();
+
+        assertThat(builtKieServerDeployment.getPersistentVolumeClaims())
+                        .hasOnlyOneElementSatisfying(p -> assertThat(p.getSpec().getResources().getRequests().get("storage").getAmount()).isEqualTo("${KIE_SERVER_MAVEN_REPO_VOLUME_CAPACITY}"));
+        assertThat(builtKieServerDeployment.getParameters())
+        .filteredOn(p -> OpenShiftImageConstants.KIE_SERVER_MAVEN_REPO_VOLUME_CAPACITY.equals(p.getName()))
+        .hasOnlyOneElementSatisfying(p -> {
+            assertThat(p.getValue()).isEqualTo("1Gi");
+            assertThat(p.getRequired()).isEqualTo(Boolean.TRUE);
+        });
+    }
+
+    @Test
+    public void testBuildKieServerDeploymentWithPodAntiAffinity() {
+        KieServerDeploymentBuilder settingsBuilder = new KieServerDeploymentBuilder();
+        Deployment builtKieServerDeployment = settingsBuilder.withClustering()
+                                                             .withRequiredPodAntiAffinity("kubernetes.io/hostname")
+                                                             .withPreferredPodAntiAffinity("topology.kubernetes.io/zone")
+                                                             .build();
+        PodAntiAffinity podAntiAffinity = builtKieServerDeployment.getDeploymentConfig().getSpec().getTemplate().getSpec().getAffinity().getPodAntiAffinity();
+
+        assertThat(podAntiAffinity.getRequiredDuringSchedulingIgnoredDuringExecution()).hasOnlyOneElementSatisfying(t -> {
+            assertThat(t.getTopologyKey()).isEqualTo("kubernetes.io/hostname");
+            assertThat(t.getLabelSelector().getMatchLabels()).containsExactly(entry("deploymentConfig", builtKieServerDeployment.getDeploymentName()));
+        });
+        assertThat(podAntiAffinity.getPreferredDuringSchedulingIgnoredDuringExecution()).hasOnlyOneElementSatisfying(t -> {
+            assertThat(t.getWeight()).isEqualTo(100);
+            assertThat(t.getPodAffinityTerm().getTopologyKey()).isEqualTo("topology.kubernetes.io/zone");
+            assertThat(t.getPodAffinityTerm().getLabelSelector().getMatchLabels()).containsExactly(entry("deploymentConfig", builtKieServerDeployment.getDeploymentName()));
+        });
+    }
+
+    @Test
+    public void testBuildKieServerDeploymentWithTopologySpreadConstraint() throws Exception {
+        KieServerDeploymentBuilder settingsBuilder = new KieServerDeploymentBuilder("kie-server");
+        Deployment builtKieServerDeployment = settingsBuilder.withTopologySpreadConstraint("topology.kubernetes.io/zone", 1, "ScheduleAnyway")
+                                                             .build();
+
+        String serializedPodSpec = Serialization.jsonMapper().writeValueAsString(builtKieServerDeployment.getDeploymentConfig().getSpec().getTemplate().getSpec());
+        assertThat(serializedPodSpec).contains("\"topologySpreadConstraints\":[{\"maxSkew\":1,\"topologyKey\":\"topology.kubernetes.io/zone\",\"whenUnsatisfiable\":\"ScheduleAnyway\",\"labelSelector\":{")
+                                     .contains("\"matchLabels\":{\"deploymentConfig\":\"kie-server\"}");
+    }
+
+    @Test
+    public void testBuildKieServerDeploymentWithInvalidTopologySpreadConstraint() {
+        KieServerDeploymentBuilder settingsBuilder = new KieServerDeploymentBuilder();
+        assertThatThrownBy(() -> settingsBuilder.withTopologySpreadConstraint("kubernetes.io/hostname", 1, "Ignore")).isInstanceOf(IllegalArgumentException.class)
+                                                                                                                   .hasMessageContaining("Unsupported value Ignore");
+        assertThatThrownBy(() -> settingsBuilder.withTopologySpreadConstraint("kubernetes.io/hostname", 0, "DoNotSchedule")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testBuildKieServerDeploymentWithNodeSelector() {
+        KieServerDeploymentBuilder settingsBuilder = new KieServerDeploymentBuilder();
+        Deployment builtKieServerDeployment = settingsBuilder.withNodeSelector("node-role.kubernetes.io/worker", "")
+                                                             .withNodeSelector("disktype", "ssd")
+                                                             .build();
+
+        assertThat(builtKieServerDeployment.getDeploymentConfig().getSpec().getTemplate().getSpec().getNodeSelector()).containsOnly(entry("node-role.kubernetes.io/worker", ""),
+                                                                                                                                  entry("disktype", "ssd"));
+    }
+
+    @Test
+    public void testBuildKieServerDeploymentWithProbeTimings() {
+        KieServerDeploymentBuilder settingsBuilder = new KieServerDeploymentBuilder();
+        Deployment builtKieServerDeployment = settingsBuilder.withLivenessProbeTimings(Duration.ofSeconds(120), Duration.ofSeconds(5), Duration.ofSeconds(20), 4)
+                                                             .withReadinessProbeTimings(Duration.ofSeconds(30), Duration.ofSeconds(3), Duration.ofSeconds(10), 12)
+                                                             .build();
+        Container container = builtKieServerDeployment.getDeploymentConfig().getSpec().getTemplate().getSpec().getContainers().get(0);
+
+        assertThat(container.getLivenessProbe().getInitialDelaySeconds()).isEqualTo(120);
+        assertThat(container.getLivenessProbe().getTimeoutSeconds()).isEqualTo(5);
+        assertThat(container.getLivenessProbe().getPeriodSeconds()).isEqualTo(20);
+        assertThat(container.getLivenessProbe().getFailureThreshold()).isEqualTo(4);
+        assertThat(container.getReadinessProbe().getInitialDelaySeconds()).isEqualTo(30);
+        assertThat(container.getReadinessProbe().getTimeoutSeconds()).isEqualTo(3);
+        assertThat(container.getReadinessProbe().getPeriodSeconds()).isEqualTo(10);
+        assertThat(container.getReadinessProbe().getFailureThreshold()).isEqualTo(12);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBuildKieServerDeploymentWithInvalidProbeTimings() {
+        new KieServerDeploymentBuilder().withLivenessProbeTimings(Duration.ofSeconds(120), Duration.ofMillis(500), Duration.ofSeconds(20), 4);
+    }
+
+    @Test
+    public void testBuildKieServerDeploymentWithProbeTimingsFromProperties() throws Exception {
+        KieServerDeploymentBuilder settingsBuilder = new KieServerDeploymentBuilder();
+        Deployment builtKieServerDeployment = settingsBuilder.withProbeTimingsFromProperties()
+                                                             .build();
+        Probe livenessProbe = builtKieServerDeployment.getDeploymentConfig().getSpec().getTemplate().getSpec().getContainers().get(0).getLivenessProbe();
+
+        assertThat(livenessProbe.getTimeoutSeconds()).isNull();
+        assertThat(livenessProbe.getAdditionalProperties()).containsEntry("initialDelaySeconds", "${{KIE_SERVER_LIVENESS_PROBE_INITIAL_DELAY}}")
+                                                           .containsEntry("timeoutSeconds", "${{KIE_SERVER_LIVENESS_PROBE_TIMEOUT}}")
+                                                           .containsEntry("periodSeconds", "${{KIE_SERVER_LIVENESS_PROBE_PERIOD}}")
+                                                           .containsEntry("failureThreshold", "${{KIE_SERVER_LIVENESS_PROBE_FAILURE_THRESHOLD}}");
+        assertThat(builtKieServerDeployment.getParameters())
+        .filteredOn(p -> OpenShiftImageConstants.KIE_SERVER_READINESS_PROBE_TIMEOUT.equals(p.getName()))
+        .hasOnlyOneElementSatisfying(p -> {
+            assertThat(p.getValue()).isEqualTo("2");
+            assertThat(p.getRequired()).isEqualTo(Boolean.FALSE);
+        });
+
+        // Processed template values are numbers
+        KubernetesList processed = TemplateProcessor.process(builtKieServerDeployment.getObjects(), builtKieServerDeployment.getParameters(),
+                                                             Collections.singletonMap(OpenShiftImageConstants.KIE_SERVER_LIVENESS_PROBE_TIMEOUT, "10"));
+        Container processedContainer = getProcessedObject(processed, DeploymentConfig.class).getSpec().getTemplate().getSpec().getContainers().get(0);
+        assertThat(processedContainer.getLivenessProbe().getTimeoutSeconds()).isEqualTo(10);
+        assertThat(processedContainer.getReadinessProbe().getTimeoutSeconds()).isEqualTo(2);
+        JsonNode processedLivenessProbe = Serialization.jsonMapper().valueToTree(processedContainer.getLivenessProbe());
+        assertThat(processedLivenessProbe.get("initialDelaySeconds").isNumber()).isTrue();
+        assertThat(processedLivenessProbe.get("timeoutSeconds").isNumber()).isTrue();
+        assertThat(processedLivenessProbe.get("periodSeconds").isNumber()).isTrue();
+        assertThat(processedLivenessProbe.get("failureThreshold").isNumber()).isTrue();
+    }
+
     @Test
     public void testBuildKieServerDeploymentWithKieServerId() {
         KieServerDeploymentBuilder settingsBuilder = new KieServerDeploymentBuilder();
@@ -693,6 +985,222 @@ public class KieServerDeploymentBuilderTest extends AbstractCloudTest{
         assertThat(builtKieServerDeployment.getDeploymentConfig().getSpec().getTemplate().getSpec().getContainers().get(0).getResources().getLimits()).containsEntry("memory", new Quantity("64Mi"));
     }
 
+    @Test
+    public void testBuildKieServerDeploymentWithResourceRequests() {
+        KieServerDeploymentBuilder settingsBuilder = new KieServerDeploymentBuilder();
+        Deployment builtKieServerDeployment = settingsBuilder.withResourceRequests("750m", "768Mi")
+                                                             .withResourceLimits("2", null)
+                                                             .build();
+
+        ResourceRequirements resources = builtKieServerDeployment.getDeploymentConfig().getSpec().getTemplate().getSpec().getContainers().get(0).getResources();
+        assertThat(resources.getRequests()).containsEntry("cpu", new Quantity("750m"))
+                                           .containsEntry("memory", new Quantity("768Mi"));
+        assertThat(resources.getLimits()).containsEntry("cpu", new Quantity("2"))
+                                         .containsEntry("memory", new Quantity(ConfigurationLoader.getKieServerMemoryLimit()));
+    }
+
+    @Test
+    public void testBuildKieServerDeploymentWithResourceProfile() {
+        KieServerDeploymentBuilder settingsBuilder = new KieServerDeploymentBuilder();
+        Deployment builtKieServerDeployment = settingsBuilder.withResourceProfile(ResourceProfile.LARGE)
+                                                             .build();
+
+        ResourceRequirements resources = builtKieServerDeployment.getDeploymentConfig().getSpec().getTemplate().getSpec().getContainers().get(0).getResources();
+        assertThat(resources.getRequests()).containsEntry("cpu", new Quantity("1"))
+                                           .containsEntry("memory", new Quantity("2Gi"));
+        assertThat(resources.getLimits()).containsEntry("cpu", new Quantity("4"))
+                                         .containsEntry("memory", new Quantity("4Gi"));
+    }
+
+    @Test
+    public void testBuildKieServerDeploymentWithRollingStrategy() {
+        KieServerDeploymentBuilder settingsBuilder = new KieServerDeploymentBuilder();
+        Deployment builtKieServerDeployment = settingsBuilder.withRollingStrategy()
+                                                                 .withMaxSurge("1")
+                                                                 .withMaxUnavailable("0%")
+                                                                 .withTimeout(Duration.ofMinutes(10))
+                                                                 .withUpdatePeriod(Duration.ofSeconds(1))
+                                                                 .withPreHook("Abort", "/bin/sh", "-c", "echo pre")
+                                                                 .withPostHook("Ignore", "/bin/sh", "-c", "echo post")
+                                                             .endRollingStrategy()
+                                                             .build();
+
+        DeploymentStrategy strategy = builtKieServerDeployment.getDeploymentConfig().getSpec().getStrategy();
+        assertThat(strategy.getType()).isEqualTo("Rolling");
+        assertThat(strategy.getRecreateParams()).isNull();
+        assertThat(strategy.getRollingParams().getMaxSurge().getIntVal()).isEqualTo(1);
+        assertThat(strategy.getRollingParams().getMaxUnavailable().getStrVal()).isEqualTo("0%");
+        assertThat(strategy.getRollingParams().getTimeoutSeconds()).isEqualTo(600L);
+        assertThat(strategy.getRollingParams().getUpdatePeriodSeconds()).isEqualTo(1L);
+        assertThat(strategy.getRollingParams().getPre().getFailurePolicy()).isEqualTo("Abort");
+        assertThat(strategy.getRollingParams().getPre().getExecNewPod().getContainerName()).isEqualTo(builtKieServerDeployment.getDeploymentName());
+        assertThat(strategy.getRollingParams().getPre().getExecNewPod().getCommand()).containsExactly("/bin/sh", "-c", "echo pre");
+        assertThat(strategy.getRollingParams().getPost().getFailurePolicy()).isEqualTo("Ignore");
+        assertThat(strategy.getRollingParams().getPost().getExecNewPod().getCommand()).containsExactly("/bin/sh", "-c", "echo post");
+    }
+
+    @Test
+    public void testBuildKieServerDeploymentWithRollingStrategyWithoutProgress() {
+        KieServerDeploymentBuilder settingsBuilder = new KieServerDeploymentBuilder();
+
+        assertThatThrownBy(() -> settingsBuilder.withRollingStrategy()
+                                                    .withMaxSurge("0")
+                                                    .withMaxUnavailable("0%")
+                                                .endRollingStrategy()).isInstanceOf(RuntimeException.class)
+                                                                      .hasMessageContaining("cannot be both zero");
+    }
+
+    @Test
+    public void testBuildKieServerDeploymentWithRecreateStrategy() {
+        KieServerDeploymentBuilder settingsBuilder = new KieServerDeploymentBuilder();
+        Deployment builtKieServerDeployment = settingsBuilder.withRollingStrategy()
+                                                             .endRollingStrategy()
+                                                             .withRecreateStrategy()
+                                                             .build();
+
+        DeploymentStrategy strategy = builtKieServerDeployment.getDeploymentConfig().getSpec().getStrategy();
+        assertThat(strategy.getType()).isEqualTo("Recreate");
+        assertThat(strategy.getRollingParams()).isNull();
+    }
+
+    @Test
+    public void testBuildKieServerDeploymentWithReplicasFromProperties() throws Exception {
+        KieServerDeploymentBuilder settingsBuilder = new KieServerDeploymentBuilder();
+        Deployment builtKieServerDeployment = settingsBuilder.withReplicasFromProperties()
+                                                             .build();
+
+        assertThat(builtKieServerDeployment).isNotNull();
+        assertThat(builtKieServerDeployment.getDeploymentConfig().getSpec().getReplicas()).isNull();
+        assertThat(builtKieServerDeployment.getDeploymentConfig().getSpec().getAdditionalProperties()).containsEntry("replicas", "${{KIE_SERVER_REPLICAS}}");
+        assertThat(builtKieServerDeployment.getParameters())
+        .filteredOn(p -> OpenShiftImageConstants.KIE_SERVER_REPLICAS.equals(p.getName()))
+        .hasOnlyOneElementSatisfying(p -> {
+            assertThat(p.getDisplayName()).isEqualTo("KIE Server Replicas");
+            assertThat(p.getValue()).isEqualTo("1");
+            assertThat(p.getRequired()).isEqualTo(Boolean.FALSE);
+        });
+
+        // Processed template value is a number
+        KubernetesList processed = TemplateProcessor.process(builtKieServerDeployment.getObjects(), builtKieServerDeployment.getParameters(),
+                                                             Collections.singletonMap(OpenShiftImageConstants.KIE_SERVER_REPLICAS, "3"));
+        DeploymentConfig processedDeploymentConfig = getProcessedObject(processed, DeploymentConfig.class);
+        assertThat(processedDeploymentConfig.getSpec().getReplicas()).isEqualTo(3);
+        assertThat(Serialization.jsonMapper().valueToTree(processedDeploymentConfig).at("/spec/replicas").isNumber()).isTrue();
+    }
+
+    @Test
+    public void testBuildKieServerDeploymentWithReplicas() {
+        KieServerDeploymentBuilder settingsBuilder = new KieServerDeploymentBuilder();
+        Deployment builtKieServerDeployment = settingsBuilder.withReplicasFromProperties()
+                                                             .withReplicas(2)
+                                                             .build();
+
+        assertThat(builtKieServerDeployment).isNotNull();
+        assertThat(builtKieServerDeployment.getDeploymentConfig().getSpec().getReplicas()).isEqualTo(2);
+        assertThat(builtKieServerDeployment.getDeploymentConfig().getSpec().getAdditionalProperties()).doesNotContainKey("replicas");
+        assertThatThrownBy(() -> settingsBuilder.withReplicas(-1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testBuildKieServerDeploymentWithAutoscaling() {
+        KieServerDeploymentBuilder settingsBuilder = new KieServerDeploymentBuilder();
+        Deployment builtKieServerDeployment = settingsBuilder.withAutoscaling(2, 5, 60, 70)
+                                                             .build();
+
+        assertThat(builtKieServerDeployment).isNotNull();
+        assertThat(builtKieServerDeployment.getObjects(HorizontalPodAutoscaler.class)).hasOnlyOneElementSatisfying(h -> {
+            assertThat(h.getApiVersion()).isEqualTo("autoscaling/v1");
+            assertThat(h.getMetadata().getName()).isEqualTo(builtKieServerDeployment.getDeploymentName());
+            assertThat(h.getMetadata().getLabels()).containsEntry("service", builtKieServerDeployment.getDeploymentName());
+            assertThat(h.getMetadata().getAnnotations()).containsEntry("autoscaling.alpha.kubernetes.io/metrics", "[{\"type\":\"Resource\",\"resource\":{\"name\":\"memory\",\"targetAverageUtilization\":70}}]");
+            assertThat(h.getSpec().getScaleTargetRef().getKind()).isEqualTo("DeploymentConfig");
+            assertThat(h.getSpec().getScaleTargetRef().getName()).isEqualTo(builtKieServerDeployment.getDeploymentName());
+            assertThat(h.getSpec().getMinReplicas()).isEqualTo(2);
+            assertThat(h.getSpec().getMaxReplicas()).isEqualTo(5);
+            assertThat(h.getSpec().getTargetCPUUtilizationPercentage()).isEqualTo(60);
+        });
+    }
+
+    @Test
+    public void testBuildKieServerDeploymentWithReplicasAndAutoscaling() {
+        KieServerDeploymentBuilder settingsBuilder = new KieServerDeploymentBuilder();
+        Deployment builtKieServerDeployment = settingsBuilder.withReplicasFromProperties()
+                                                             .withAutoscaling(2, 5, 60, null)
+                                                             .build();
+
+        // Replicas are left to autoscaler
+        assertThat(builtKieServerDeployment.getDeploymentConfig().getSpec().getReplicas()).isNull();
+        assertThat(builtKieServerDeployment.getDeploymentConfig().getSpec().getAdditionalProperties()).doesNotContainKey("replicas");
+        assertThat(builtKieServerDeployment.getParameters()).extracting(p -> p.getName()).doesNotContain(OpenShiftImageConstants.KIE_SERVER_REPLICAS);
+    }
+
+    @Test
+    public void testBuildKieServerDeploymentWithAutoscalingReplaced() {
+        KieServerDeploymentBuilder settingsBuilder = new KieServerDeploymentBuilder();
+        Deployment builtKieServerDeployment = settingsBuilder.withAutoscaling(2, 5, 60, 70)
+                                                             .withAutoscaling(1, 3, 80, null)
+                                                             .build();
+
+        assertThat(builtKieServerDeployment).isNotNull();
+        assertThat(builtKieServerDeployment.getHorizontalPodAutoscaler()).hasValueSatisfying(h -> {
+            assertThat(h.getMetadata().getAnnotations()).doesNotContainKey("autoscaling.alpha.kubernetes.io/metrics");
+            assertThat(h.getSpec().getMinReplicas()).isEqualTo(1);
+            assertThat(h.getSpec().getMaxReplicas()).isEqualTo(3);
+            assertThat(h.getSpec().getTargetCPUUtilizationPercentage()).isEqualTo(80);
+        });
+        assertThat(builtKieServerDeployment.getObjects(HorizontalPodAutoscaler.class)).hasSize(1);
+    }
+
+    @Test
+    public void testBuildKieServerDeploymentWithInvalidAutoscaling() {
+        KieServerDeploymentBuilder settingsBuilder = new KieServerDeploymentBuilder();
+
+        assertThatThrownBy(() -> settingsBuilder.withAutoscaling(3, 2, 60, null)).isInstanceOf(IllegalArgumentException.class)
+                                                                                .hasMessageContaining("Invalid autoscaling replicas range");
+        assertThatThrownBy(() -> settingsBuilder.withAutoscaling(1, 2, null, null)).isInstanceOf(IllegalArgumentException.class)
+                                                                                   .hasMessageContaining("utilization targets");
+    }
+
+    @Test
+    public void testBuildKieServerDeploymentWithAutoscalingFromProperties() throws Exception {
+        KieServerDeploymentBuilder settingsBuilder = new KieServerDeploymentBuilder();
+        Deployment builtKieServerDeployment = settingsBuilder.withAutoscalingFromProperties()
+                                                             .build();
+
+        assertThat(builtKieServerDeployment).isNotNull();
+        HorizontalPodAutoscaler horizontalPodAutoscaler = builtKieServerDeployment.getHorizontalPodAutoscaler().get();
+        assertThat(horizontalPodAutoscaler.getSpec().getAdditionalProperties()).containsEntry("minReplicas", "${{KIE_SERVER_AUTOSCALING_MIN_REPLICAS}}")
+                                                                                .containsEntry("maxReplicas", "${{KIE_SERVER_AUTOSCALING_MAX_REPLICAS}}")
+                                                                                .containsEntry("targetCPUUtilizationPercentage", "${{KIE_SERVER_AUTOSCALING_CPU_UTILIZATION}}");
+        assertThat(horizontalPodAutoscaler.getMetadata().getAnnotations().get("autoscaling.alpha.kubernetes.io/metrics")).contains("\"targetAverageUtilization\":${KIE_SERVER_AUTOSCALING_MEMORY_UTILIZATION}");
+        assertThat(builtKieServerDeployment.getParameters())
+        .filteredOn(p -> OpenShiftImageConstants.KIE_SERVER_AUTOSCALING_MAX_REPLICAS.equals(p.getName()))
+        .hasOnlyOneElementSatisfying(p -> {
+            assertThat(p.getDisplayName()).isEqualTo("KIE Server Autoscaling Maximum Replicas");
+            assertThat(p.getValue()).isEqualTo("3");
+            assertThat(p.getRequired()).isEqualTo(Boolean.TRUE);
+        });
+        assertThat(builtKieServerDeployment.getParameters()).extracting(p -> p.getName())
+                                                            .contains(OpenShiftImageConstants.KIE_SERVER_AUTOSCALING_MIN_REPLICAS,
+                                                                      OpenShiftImageConstants.KIE_SERVER_AUTOSCALING_CPU_UTILIZATION,
+                                                                      OpenShiftImageConstants.KIE_SERVER_AUTOSCALING_MEMORY_UTILIZATION);
+
+        // Processed template values are numbers
+        Map<String, String> parameters = new HashMap<>();
+        parameters.put(OpenShiftImageConstants.KIE_SERVER_AUTOSCALING_MAX_REPLICAS, "4");
+        parameters.put(OpenShiftImageConstants.KIE_SERVER_AUTOSCALING_MEMORY_UTILIZATION, "85");
+        KubernetesList processed = TemplateProcessor.process(builtKieServerDeployment.getObjects(), builtKieServerDeployment.getParameters(), parameters);
+        HorizontalPodAutoscaler processedHorizontalPodAutoscaler = getProcessedObject(processed, HorizontalPodAutoscaler.class);
+        assertThat(processedHorizontalPodAutoscaler.getSpec().getMinReplicas()).isEqualTo(1);
+        assertThat(processedHorizontalPodAutoscaler.getSpec().getMaxReplicas()).isEqualTo(4);
+        assertThat(processedHorizontalPodAutoscaler.getSpec().getTargetCPUUtilizationPercentage()).isEqualTo(75);
+        JsonNode processedSpec = Serialization.jsonMapper().valueToTree(processedHorizontalPodAutoscaler).get("spec");
+        assertThat(processedSpec.get("minReplicas").isNumber()).isTrue();
+        assertThat(processedSpec.get("maxReplicas").isNumber()).isTrue();
+        assertThat(processedSpec.get("targetCPUUtilizationPercentage").isNumber()).isTrue();
+        assertThat(processedHorizontalPodAutoscaler.getMetadata().getAnnotations().get("autoscaling.alpha.kubernetes.io/metrics")).contains("\"targetAverageUtilization\":85");
+    }
+
     @Test
     public void testBuildKieServerDeploymentWithKieMbeansFromProperties() {
         KieServerDeploymentBuilder settingsBuilder = new KieServerDeploymentBuilder();
@@ -1006,6 +1514,85 @@ public class KieServerDeploymentBuilderTest extends AbstractCloudTest{
                        .build();
     }
 
+    @Test
+    public void testBuildKieServerDeploymentWithJvmTuning() {
+        KieServerDeploymentBuilder settingsBuilder = new KieServerDeploymentBuilder();
+        Deployment builtKieServerDeployment = settingsBuilder.withJvmTuning()
+                                                                 .withMaxMemoryRatio(75)
+                                                                 .withInitialMemoryRatio(100)
+                                                                 .withMaxInitialMemory(512)
+                                                                 .withGcOptions("-XX:+UseG1GC")
+                                                                 .withMaxMetaspaceSize(256)
+                                                                 .withGcLogging(true)
+                                                                 .withCoreLimit(2)
+                                                                 .withJavaOptionsAppend("-Dfoo=bar")
+                                                             .endJvmTuning()
+                                                             .build();
+
+        assertThat(builtKieServerDeployment.getEnvironmentVariableValue(OpenShiftImageConstants.JAVA_MAX_MEM_RATIO)).isEqualTo("75");
+        assertThat(builtKieServerDeployment.getEnvironmentVariableValue(OpenShiftImageConstants.JAVA_INITIAL_MEM_RATIO)).isEqualTo("100");
+        assertThat(builtKieServerDeployment.getEnvironmentVariableValue(OpenShiftImageConstants.JAVA_MAX_INITIAL_MEM)).isEqualTo("512");
+        assertThat(builtKieServerDeployment.getEnvironmentVariableValue(OpenShiftImageConstants.GC_CONTAINER_OPTIONS)).isEqualTo("-XX:+UseG1GC");
+        assertThat(builtKieServerDeployment.getEnvironmentVariableValue(OpenShiftImageConstants.GC_MAX_METASPACE_SIZE)).isEqualTo("256");
+        assertThat(builtKieServerDeployment.getEnvironmentVariableValue(OpenShiftImageConstants.JAVA_DIAGNOSTICS)).isEqualTo("true");
+        assertThat(builtKieServerDeployment.getEnvironmentVariableValue(OpenShiftImageConstants.CONTAINER_CORE_LIMIT)).isEqualTo("2");
+        assertThat(builtKieServerDeployment.getEnvironmentVariableValue(OpenShiftImageConstants.JAVA_OPTS_APPEND)).isEqualTo("-Dfoo=bar");
+    }
+
+    @Test
+    public void testBuildKieServerDeploymentWithGcLoggingDisabled() {
+        KieServerDeploymentBuilder settingsBuilder = new KieServerDeploymentBuilder();
+        Deployment builtKieServerDeployment = settingsBuilder.withJvmTuning()
+                                                                 .withGcLogging(true)
+                                                                 .withGcLogging(false)
+                                                             .endJvmTuning()
+                                                             .build();
+
+        assertThat(builtKieServerDeployment.getOptionalEnvironmentVariableValue(OpenShiftImageConstants.JAVA_DIAGNOSTICS)).isEmpty();
+    }
+
+    @Test
+    public void testBuildKieServerDeploymentWithInvalidJvmTuning() {
+        KieServerDeploymentBuilder settingsBuilder = new KieServerDeploymentBuilder();
+
+        assertThatThrownBy(() -> settingsBuilder.withJvmTuning().withMaxMemoryRatio(120)).isInstanceOf(IllegalArgumentException.class)
+                                                                                          .hasMessageContaining("Memory ratio must be between 0 and 100");
+        assertThatThrownBy(() -> settingsBuilder.withJvmTuning().withCoreLimit(0)).isInstanceOf(IllegalArgumentException.class)
+                                                                                   .hasMessageContaining("Core limit must be positive");
+    }
+
+    @Test
+    public void testBuildKieServerDeploymentWithJvmTuningFromProperties() {
+        KieServerDeploymentBuilder settingsBuilder = new KieServerDeploymentBuilder();
+        Deployment builtKieServerDeployment = settingsBuilder.withJvmTuningFromProperties()
+                                                             .build();
+
+        assertThat(builtKieServerDeployment.getEnvironmentVariableValue(OpenShiftImageConstants.JAVA_MAX_MEM_RATIO)).isEqualTo("${JAVA_MAX_MEM_RATIO}");
+        assertThat(builtKieServerDeployment.getEnvironmentVariableValue(OpenShiftImageConstants.GC_CONTAINER_OPTIONS)).isEqualTo("${GC_CONTAINER_OPTIONS}");
+        assertThat(builtKieServerDeployment.getEnvironmentVariableValue(OpenShiftImageConstants.JAVA_DIAGNOSTICS)).isEqualTo("${JAVA_DIAGNOSTICS}");
+        assertThat(builtKieServerDeployment.getParameters())
+        .filteredOn(p -> OpenShiftImageConstants.JAVA_MAX_MEM_RATIO.equals(p.getName()))
+        .hasOnlyOneElementSatisfying(p -> {
+            assertThat(p.getDisplayName()).isEqualTo("Java Max Memory Ratio");
+            assertThat(p.getValue()).isEmpty();
+            assertThat(p.getRequired()).isEqualTo(Boolean.FALSE);
+        });
+        assertThat(builtKieServerDeployment.getParameters())
+        .filteredOn(p -> OpenShiftImageConstants.JAVA_DIAGNOSTICS.equals(p.getName()))
+        .hasOnlyOneElementSatisfying(p -> {
+            assertThat(p.getValue()).isEmpty();
+            assertThat(p.getRequired()).isEqualTo(Boolean.FALSE);
+        });
+        assertThat(builtKieServerDeployment.getParameters()).extracting(p -> p.getName())
+                                                            .contains(OpenShiftImageConstants.JAVA_INITIAL_MEM_RATIO,
+                                                                      OpenShiftImageConstants.JAVA_MAX_INITIAL_MEM,
+                                                                      OpenShiftImageConstants.GC_CONTAINER_OPTIONS,
+                                                                      OpenShiftImageConstants.GC_MAX_METASPACE_SIZE,
+                                                                      OpenShiftImageConstants.JAVA_DIAGNOSTICS,
+                                                                      OpenShiftImageConstants.CONTAINER_CORE_LIMIT,
+                                                                      OpenShiftImageConstants.JAVA_OPTS_APPEND);
+    }
+
     @Test
     public void testBuildKieServerDeploymentWithMySqlDatabase() {
         String datasourcePrefix = ConfigurationLoader.getKieServerDatasourcePrefix();
@@ -1058,6 +1645,8 @@ public class KieServerDeploymentBuilderTest extends AbstractCloudTest{
         assertThat(builtKieServerDeployment.getDeploymentConfig().getSpec().getTemplate().getSpec().getContainers().get(0).getEnv())
                         .filteredOn(e -> OpenShiftImageConstants.KIE_SERVER_PERSISTENCE_DS.equals(e.getName()))
                         .hasOnlyOneElementSatisfying(e -> assertThat(e.getValue()).startsWith("java:/jboss/datasources/"));
+
+        assertThat(builtKieServerDeployment.getDependencies()).containsExactly(builtMySqlDeployment);
     }
 
     @Test
@@ -1112,5 +1701,95 @@ public class KieServerDeploymentBuilderTest extends AbstractCloudTest{
         assertThat(builtKieServerDeployment.getDeploymentConfig().getSpec().getTemplate().getSpec().getContainers().get(0).getEnv())
                         .filteredOn(e -> OpenShiftImageConstants.KIE_SERVER_PERSISTENCE_DS.equals(e.getName()))
                         .hasOnlyOneElementSatisfying(e -> assertThat(e.getValue()).startsWith("java:/jboss/datasources/"));
+
+        assertThat(builtKieServerDeployment.getDependencies()).containsExactly(builtPostgreSqlDeployment);
+    }
+
+    @Test
+    public void testBuildKieServerDeploymentWithDatasourceTuning() {
+        String datasourcePrefix = ConfigurationLoader.getKieServerDatasourcePrefix();
+        MySqlDeployment builtMySqlDeployment = new MySqlDeploymentBuilder().build();
+
+        KieServerDeploymentBuilder kieServerSettingsBuilder = new KieServerDeploymentBuilder();
+        Deployment builtKieServerDeployment = kieServerSettingsBuilder.connectToDatabase(builtMySqlDeployment)
+                                                                      .withDatasourceTuning()
+                                                                          .withPoolSize(10, 50)
+                                                                          .withBackgroundValidation(Duration.ofSeconds(30))
+                                                                      .endDatasourceTuning()
+                                                                      .build();
+
+        assertThat(builtKieServerDeployment.getEnvironmentVariableValue(datasourcePrefix + "_" + OpenShiftImageConstants.MIN_POOL_SIZE)).isEqualTo("10");
+        assertThat(builtKieServerDeployment.getEnvironmentVariableValue(datasourcePrefix + "_" + OpenShiftImageConstants.MAX_POOL_SIZE)).isEqualTo("50");
+        assertThat(builtKieServerDeployment.getEnvironmentVariableValue(datasourcePrefix + "_" + OpenShiftImageConstants.BACKGROUND_VALIDATION)).isEqualTo("true");
+        assertThat(builtKieServerDeployment.getEnvironmentVariableValue(datasourcePrefix + "_" + OpenShiftImageConstants.BACKGROUND_VALIDATION_MILLIS)).isEqualTo("30000");
+        assertThat(builtKieServerDeployment.getEnvironmentVariableValue(datasourcePrefix + "_" + OpenShiftImageConstants.CONNECTION_CHECKER)).isEqualTo("org.jboss.jca.adapters.jdbc.extensions.mysql.MySQLValidConnectionChecker");
+        assertThat(builtKieServerDeployment.getEnvironmentVariableValue(datasourcePrefix + "_" + OpenShiftImageConstants.EXCEPTION_SORTER)).isEqualTo("org.jboss.jca.adapters.jdbc.extensions.mysql.MySQLExceptionSorter");
+    }
+
+    @Test
+    public void testBuildKieServerDeploymentWithDatasourceTuningCustomValidation() {
+        String datasourcePrefix = ConfigurationLoader.getKieServerDatasourcePrefix();
+        PostgreSqlDeployment builtPostgreSqlDeployment = new PostgreSqlDeploymentBuilder().build();
+
+        KieServerDeploymentBuilder kieServerSettingsBuilder = new KieServerDeploymentBuilder();
+        Deployment builtKieServerDeployment = kieServerSettingsBuilder.connectToDatabase(builtPostgreSqlDeployment)
+                                                                      .withDatasourceTuning()
+                                                                          .withConnectionChecker("org.example.CustomChecker")
+                                                                          .withBackgroundValidation(Duration.ofMinutes(1))
+                                                                      .endDatasourceTuning()
+                                                                      .build();
+
+        assertThat(builtKieServerDeployment.getEnvironmentVariableValue(datasourcePrefix + "_" + OpenShiftImageConstants.CONNECTION_CHECKER)).isEqualTo("org.example.CustomChecker");
+        assertThat(builtKieServerDeployment.getEnvironmentVariableValue(datasourcePrefix + "_" + OpenShiftImageConstants.EXCEPTION_SORTER)).isEqualTo("org.jboss.jca.adapters.jdbc.extensions.postgres.PostgreSQLExceptionSorter");
+    }
+
+    @Test
+    public void testBuildKieServerDeploymentWithDatasourceTuningWithoutDatabase() {
+        KieServerDeploymentBuilder kieServerSettingsBuilder = new KieServerDeploymentBuilder();
+
+        assertThatThrownBy(() -> kieServerSettingsBuilder.withDatasourceTuning()).isInstanceOf(RuntimeException.class)
+                                                                                 .hasMessageContaining("isn't connected to any database");
+    }
+
+    @Test
+    public void testBuildKieServerDeploymentWithInvalidDatasourcePoolSize() {
+        KieServerDeploymentBuilder kieServerSettingsBuilder = new KieServerDeploymentBuilder().connectToDatabase(new MySqlDeploymentBuilder().build());
+
+        assertThatThrownBy(() -> kieServerSettingsBuilder.withDatasourceTuning().withPoolSize(20, 10)).isInstanceOf(IllegalArgumentException.class)
+                                                                                                      .hasMessageContaining("Invalid datasource pool size range 20-10");
+    }
+
+    @Test
+    public void testBuildKieServerDeploymentWithDatasourceTuningFromProperties() {
+        String datasourcePrefix = ConfigurationLoader.getKieServerDatasourcePrefix();
+        KieServerDeploymentBuilder kieServerSettingsBuilder = new KieServerDeploymentBuilder();
+        Deployment builtKieServerDeployment = kieServerSettingsBuilder.connectToDatabase(new MySqlDeploymentBuilder().build())
+                                                                      .withDatasourceTuningFromProperties()
+                                                                      .build();
+
+        assertThat(builtKieServerDeployment.getEnvironmentVariableValue(datasourcePrefix + "_" + OpenShiftImageConstants.MIN_POOL_SIZE)).isEqualTo("${DB_MIN_POOL_SIZE}");
+        assertThat(builtKieServerDeployment.getEnvironmentVariableValue(datasourcePrefix + "_" + OpenShiftImageConstants.MAX_POOL_SIZE)).isEqualTo("${DB_MAX_POOL_SIZE}");
+        assertThat(builtKieServerDeployment.getEnvironmentVariableValue(datasourcePrefix + "_" + OpenShiftImageConstants.BACKGROUND_VALIDATION)).isEqualTo("${DB_BACKGROUND_VALIDATION}");
+        assertThat(builtKieServerDeployment.getEnvironmentVariableValue(datasourcePrefix + "_" + OpenShiftImageConstants.BACKGROUND_VALIDATION_MILLIS)).isEqualTo("${DB_BACKGROUND_VALIDATION_MILLIS}");
+        assertThat(builtKieServerDeployment.getEnvironmentVariableValue(datasourcePrefix + "_" + OpenShiftImageConstants.CONNECTION_CHECKER)).endsWith("MySQLValidConnectionChecker");
+        assertThat(builtKieServerDeployment.getParameters())
+        .filteredOn(p -> OpenShiftImageConstants.DB_MAX_POOL_SIZE.equals(p.getName()))
+        .hasOnlyOneElementSatisfying(p -> {
+            assertThat(p.getDisplayName()).isEqualTo("Database Max Pool Size");
+            assertThat(p.getValue()).isEmpty();
+            assertThat(p.getRequired()).isEqualTo(Boolean.FALSE);
+        });
+        assertThat(builtKieServerDeployment.getParameters()).extracting(p -> p.getName())
+                                                            .contains(OpenShiftImageConstants.DB_MIN_POOL_SIZE,
+                                                                      OpenShiftImageConstants.DB_BACKGROUND_VALIDATION,
+                                                                      OpenShiftImageConstants.DB_BACKGROUND_VALIDATION_MILLIS);
+    }
+
+    private static <T extends HasMetadata> T getProcessedObject(KubernetesList processed, Class<T> objectType) {
+        return processed.getItems().stream()
+                                   .filter(objectType::isInstance)
+                                   .map(objectType::cast)
+                                   .findFirst()
+                                   .orElseThrow(() -> new AssertionError("Processed objects don't contain " + objectType.getSimpleName()));
     }
 }
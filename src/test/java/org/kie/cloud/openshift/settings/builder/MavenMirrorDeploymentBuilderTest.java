@@ -0,0 +1,59 @@
+package org.kie.cloud.openshift.settings.builder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.fabric8.kubernetes.api.model.Container;
+import io.fabric8.kubernetes.api.model.Quantity;
+import org.junit.Test;
+import org.kie.cloud.openshift.AbstractCloudTest;
+import org.kie.cloud.openshift.OpenShiftImageConstants;
+import org.kie.cloud.openshift.deployment.MavenMirrorDeployment;
+
+public class MavenMirrorDeploymentBuilderTest extends AbstractCloudTest{
+
+    @Test
+    public void testBuildMavenMirrorDeployment() {
+        MavenMirrorDeploymentBuilder settingsBuilder = new MavenMirrorDeploymentBuilder("maven-mirror");
+        MavenMirrorDeployment builtMavenMirrorDeployment = settingsBuilder.build();
+
+        assertThat(builtMavenMirrorDeployment.getDeploymentConfig().getMetadata().getName()).isEqualTo("maven-mirror");
+        assertThat(builtMavenMirrorDeployment.getDeploymentConfig().getSpec().getTriggers())
+                    .filteredOn(t -> t.getType().equals("ImageChange"))
+                    .hasOnlyOneElementSatisfying(e -> {
+                        assertThat(e.getImageChangeParams().getFrom().getNamespace()).isEqualTo("openshift");
+                        assertThat(e.getImageChangeParams().getFrom().getName()).isEqualTo("nexus3:3.15.2");
+                    });
+        assertThat(builtMavenMirrorDeployment.getServices())
+                    .hasOnlyOneElementSatisfying(s -> assertThat(s.getSpec().getPorts().get(0).getPort()).isEqualTo(8081));
+        assertThat(builtMavenMirrorDeployment.getMirrorUrl()).isEqualTo("http://maven-mirror:8081/repository/maven-public/");
+    }
+
+    @Test
+    public void testBuildMavenMirrorDeploymentProbes() {
+        MavenMirrorDeploymentBuilder settingsBuilder = new MavenMirrorDeploymentBuilder();
+        MavenMirrorDeployment builtMavenMirrorDeployment = settingsBuilder.build();
+        Container container = builtMavenMirrorDeployment.getDeploymentConfig().getSpec().getTemplate().getSpec().getContainers().get(0);
+
+        assertThat(container.getLivenessProbe().getHttpGet().getPort().getIntVal()).isEqualTo(8081);
+        assertThat(container.getLivenessProbe().getInitialDelaySeconds()).isEqualTo(240);
+        assertThat(container.getReadinessProbe().getHttpGet().getPort().getIntVal()).isEqualTo(8081);
+    }
+
+    @Test
+    public void testBuildMavenMirrorDeploymentWithPersistenceFromProperties() {
+        MavenMirrorDeploymentBuilder settingsBuilder = new MavenMirrorDeploymentBuilder();
+        MavenMirrorDeployment builtMavenMirrorDeployment = settingsBuilder.makePersistentFromProperties()
+                                                                          .build();
+
+        assertThat(builtMavenMirrorDeployment.getDeploymentConfig().getSpec().getTemplate().getSpec().getContainers().get(0).getVolumeMounts())
+                        .hasOnlyOneElementSatisfying(m -> assertThat(m.getMountPath()).isEqualTo("/nexus-data"));
+        assertThat(builtMavenMirrorDeployment.getPersistentVolumeClaims())
+                        .hasOnlyOneElementSatisfying(p -> {
+                            assertThat(p.getSpec().getAccessModes()).containsOnlyOnce("ReadWriteOnce");
+                            assertThat(p.getSpec().getResources().getRequests().get("storage")).isEqualTo(new Quantity("${MAVEN_MIRROR_VOLUME_CAPACITY}"));
+                        });
+        assertThat(builtMavenMirrorDeployment.getParameters())
+                        .filteredOn(p -> OpenShiftImageConstants.MAVEN_MIRROR_VOLUME_CAPACITY.equals(p.getName()))
+                        .hasOnlyOneElementSatisfying(p -> assertThat(p.getValue()).isEqualTo("10Gi"));
+    }
+}
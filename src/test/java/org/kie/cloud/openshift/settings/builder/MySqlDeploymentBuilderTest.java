@@ -1,16 +1,22 @@
 package org.kie.cloud.openshift.settings.builder;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.time.Duration;
 import java.util.List;
 
+import io.fabric8.kubernetes.api.model.Container;
+import io.fabric8.kubernetes.api.model.PodSpec;
 import io.fabric8.kubernetes.api.model.Probe;
 import io.fabric8.kubernetes.api.model.Quantity;
+import io.fabric8.kubernetes.api.model.ResourceRequirements;
 import io.fabric8.kubernetes.api.model.Volume;
 import io.fabric8.kubernetes.api.model.VolumeMount;
 import org.junit.Test;
 import org.kie.cloud.openshift.AbstractCloudTest;
 import org.kie.cloud.openshift.OpenShiftImageConstants;
+import org.kie.cloud.openshift.configuration.ResourceProfile;
 import org.kie.cloud.openshift.deployment.Deployment;
 
 public class MySqlDeploymentBuilderTest extends AbstractCloudTest{
@@ -120,6 +126,34 @@ public class MySqlDeploymentBuilderTest extends AbstractCloudTest{
         assertThat(livenessProbe.getTimeoutSeconds()).isEqualTo(1);
     }
 
+    @Test
+    public void testBuildMySqlDeploymentWithStartupProbe() {
+        MySqlDeploymentBuilder settingsBuilder = new MySqlDeploymentBuilder();
+        Deployment builtMySqlDeployment = settingsBuilder.withStartupProbe(Duration.ofSeconds(2), 30)
+                                                         .build();
+        Container container = builtMySqlDeployment.getDeploymentConfig().getSpec().getTemplate().getSpec().getContainers().get(0);
+
+        Probe startupProbe = (Probe) container.getAdditionalProperties().get("startupProbe");
+        assertThat(startupProbe.getTcpSocket().getPort().getIntVal()).isEqualTo(3306);
+        assertThat(startupProbe.getPeriodSeconds()).isEqualTo(2);
+        assertThat(startupProbe.getFailureThreshold()).isEqualTo(30);
+        assertThat(container.getLivenessProbe().getInitialDelaySeconds()).isEqualTo(0);
+        assertThat(container.getReadinessProbe().getInitialDelaySeconds()).isEqualTo(0);
+    }
+
+    @Test
+    public void testBuildMySqlDeploymentWithPodPlacement() {
+        MySqlDeploymentBuilder settingsBuilder = new MySqlDeploymentBuilder();
+        Deployment builtMySqlDeployment = settingsBuilder.withPreferredPodAntiAffinity("kubernetes.io/hostname")
+                                                         .withNodeSelector("disktype", "ssd")
+                                                         .build();
+        PodSpec podSpec = builtMySqlDeployment.getDeploymentConfig().getSpec().getTemplate().getSpec();
+
+        assertThat(podSpec.getAffinity().getPodAntiAffinity().getPreferredDuringSchedulingIgnoredDuringExecution())
+                        .hasOnlyOneElementSatisfying(t -> assertThat(t.getPodAffinityTerm().getTopologyKey()).isEqualTo("kubernetes.io/hostname"));
+        assertThat(podSpec.getNodeSelector()).containsEntry("disktype", "ssd");
+    }
+
     @Test
     public void testBuildMySqlDeploymentReadinessProbe() {
         MySqlDeploymentBuilder settingsBuilder = new MySqlDeploymentBuilder();
@@ -363,4 +397,120 @@ public class MySqlDeploymentBuilderTest extends AbstractCloudTest{
                             assertThat(p.getRequired()).isEqualTo(Boolean.TRUE);
                         });
     }
+
+    @Test
+    public void testBuildMySqlDeploymentWithResourceProfile() {
+        MySqlDeploymentBuilder settingsBuilder = new MySqlDeploymentBuilder();
+        Deployment builtMySqlDeployment = settingsBuilder.withResourceProfile(ResourceProfile.MEDIUM)
+                                                         .build();
+
+        ResourceRequirements resources = builtMySqlDeployment.getDeploymentConfig().getSpec().getTemplate().getSpec().getContainers().get(0).getResources();
+        assertThat(resources.getRequests()).containsEntry("cpu", new Quantity("500m"))
+                                           .containsEntry("memory", new Quantity("1Gi"));
+        assertThat(resources.getLimits()).containsEntry("cpu", new Quantity("2"))
+                                         .containsEntry("memory", new Quantity("2Gi"));
+    }
+
+    @Test
+    public void testBuildMySqlDeploymentWithUndefinedResourceProfile() {
+        MySqlDeploymentBuilder settingsBuilder = new MySqlDeploymentBuilder();
+
+        assertThatThrownBy(() -> settingsBuilder.withResourceProfile("huge")).isInstanceOf(RuntimeException.class)
+                                                                             .hasMessageContaining("Resource profile huge is not defined.");
+    }
+
+    @Test
+    public void testBuildMySqlDeploymentWithMySqlTuning() {
+        MySqlDeploymentBuilder settingsBuilder = new MySqlDeploymentBuilder();
+        Deployment builtMySqlDeployment = settingsBuilder.withMySqlTuning()
+                                                             .withMaxConnections(300)
+                                                             .withTableOpenCache(1000)
+                                                             .withInnodbBufferPoolSize("768M")
+                                                             .withInnodbLogFileSize("192M")
+                                                             .withInnodbLogBufferSize("16M")
+                                                         .endMySqlTuning()
+                                                         .build();
+
+        assertThat(builtMySqlDeployment.getEnvironmentVariableValue(OpenShiftImageConstants.MYSQL_MAX_CONNECTIONS)).isEqualTo("300");
+        assertThat(builtMySqlDeployment.getEnvironmentVariableValue(OpenShiftImageConstants.MYSQL_TABLE_OPEN_CACHE)).isEqualTo("1000");
+        assertThat(builtMySqlDeployment.getEnvironmentVariableValue(OpenShiftImageConstants.MYSQL_INNODB_BUFFER_POOL_SIZE)).isEqualTo("768M");
+        assertThat(builtMySqlDeployment.getEnvironmentVariableValue(OpenShiftImageConstants.MYSQL_INNODB_LOG_FILE_SIZE)).isEqualTo("192M");
+        assertThat(builtMySqlDeployment.getEnvironmentVariableValue(OpenShiftImageConstants.MYSQL_INNODB_LOG_BUFFER_SIZE)).isEqualTo("16M");
+    }
+
+    @Test
+    public void testBuildMySqlDeploymentWithMySqlTuningDerivedFromMemoryLimit() {
+        MySqlDeploymentBuilder settingsBuilder = new MySqlDeploymentBuilder();
+        Deployment builtMySqlDeployment = settingsBuilder.withResourceLimits(null, "2Gi")
+                                                         .withMySqlTuning()
+                                                         .endMySqlTuning()
+                                                         .build();
+
+        assertThat(builtMySqlDeployment.getEnvironmentVariableValue(OpenShiftImageConstants.MYSQL_INNODB_BUFFER_POOL_SIZE)).isEqualTo("1024M");
+        assertThat(builtMySqlDeployment.getEnvironmentVariableValue(OpenShiftImageConstants.MYSQL_INNODB_LOG_FILE_SIZE)).isEqualTo("256M");
+        assertThat(builtMySqlDeployment.getOptionalEnvironmentVariableValue(OpenShiftImageConstants.MYSQL_MAX_CONNECTIONS)).isEmpty();
+    }
+
+    @Test
+    public void testBuildMySqlDeploymentWithMemoryLimitAfterMySqlTuning() {
+        MySqlDeploymentBuilder settingsBuilder = new MySqlDeploymentBuilder();
+        Deployment builtMySqlDeployment = settingsBuilder.withMySqlTuning()
+                                                             .withInnodbLogFileSize("64M")
+                                                         .endMySqlTuning()
+                                                         .withResourceLimits(null, "1Gi")
+                                                         .build();
+
+        assertThat(builtMySqlDeployment.getEnvironmentVariableValue(OpenShiftImageConstants.MYSQL_INNODB_BUFFER_POOL_SIZE)).isEqualTo("512M");
+        assertThat(builtMySqlDeployment.getEnvironmentVariableValue(OpenShiftImageConstants.MYSQL_INNODB_LOG_FILE_SIZE)).isEqualTo("64M");
+    }
+
+    @Test
+    public void testBuildMySqlDeploymentWithMySqlTuningWithoutMemoryLimit() {
+        MySqlDeploymentBuilder settingsBuilder = new MySqlDeploymentBuilder();
+        Deployment builtMySqlDeployment = settingsBuilder.withMySqlTuning()
+                                                         .endMySqlTuning()
+                                                         .build();
+
+        assertThat(builtMySqlDeployment.getOptionalEnvironmentVariableValue(OpenShiftImageConstants.MYSQL_INNODB_BUFFER_POOL_SIZE)).isEmpty();
+        assertThat(builtMySqlDeployment.getOptionalEnvironmentVariableValue(OpenShiftImageConstants.MYSQL_INNODB_LOG_FILE_SIZE)).isEmpty();
+    }
+
+    @Test
+    public void testBuildMySqlDeploymentWithMySqlTuningFromProperties() {
+        MySqlDeploymentBuilder settingsBuilder = new MySqlDeploymentBuilder();
+        Deployment builtMySqlDeployment = settingsBuilder.withResourceProfile(ResourceProfile.SMALL)
+                                                         .withMySqlTuningFromProperties()
+                                                         .build();
+
+        assertThat(builtMySqlDeployment.getEnvironmentVariableValue(OpenShiftImageConstants.MYSQL_MAX_CONNECTIONS)).isEqualTo("${MYSQL_MAX_CONNECTIONS}");
+        assertThat(builtMySqlDeployment.getEnvironmentVariableValue(OpenShiftImageConstants.MYSQL_INNODB_BUFFER_POOL_SIZE)).isEqualTo("${MYSQL_INNODB_BUFFER_POOL_SIZE}");
+        assertThat(builtMySqlDeployment.getParameters())
+                        .filteredOn(p -> OpenShiftImageConstants.MYSQL_INNODB_BUFFER_POOL_SIZE.equals(p.getName()))
+                        .hasOnlyOneElementSatisfying(p -> {
+                            assertThat(p.getDisplayName()).isEqualTo("MySQL InnoDB Buffer Pool Size");
+                            assertThat(p.getValue()).isEqualTo("512M");
+                            assertThat(p.getRequired()).isEqualTo(Boolean.FALSE);
+                        });
+        assertThat(builtMySqlDeployment.getParameters())
+                        .filteredOn(p -> OpenShiftImageConstants.MYSQL_INNODB_LOG_FILE_SIZE.equals(p.getName()))
+                        .hasOnlyOneElementSatisfying(p -> assertThat(p.getValue()).isEqualTo("128M"));
+        assertThat(builtMySqlDeployment.getParameters())
+                        .filteredOn(p -> OpenShiftImageConstants.MYSQL_MAX_CONNECTIONS.equals(p.getName()))
+                        .hasOnlyOneElementSatisfying(p -> assertThat(p.getValue()).isEmpty());
+    }
+
+    @Test
+    public void testBuildMySqlDeploymentWithMemoryLimitAfterMySqlTuningFromProperties() {
+        MySqlDeploymentBuilder settingsBuilder = new MySqlDeploymentBuilder();
+        Deployment builtMySqlDeployment = settingsBuilder.withMySqlTuningFromProperties()
+                                                         .withResourceProfile(ResourceProfile.SMALL)
+                                                         .build();
+
+        assertThat(builtMySqlDeployment.getParameters())
+                        .filteredOn(p -> OpenShiftImageConstants.MYSQL_INNODB_BUFFER_POOL_SIZE.equals(p.getName()))
+                        .hasOnlyOneElementSatisfying(p -> assertThat(p.getValue()).isEqualTo("512M"));
+        assertThat(builtMySqlDeployment.getParameters())
+                        .filteredOn(p -> OpenShiftImageConstants.MYSQL_INNODB_LOG_FILE_SIZE.equals(p.getName()))
+                        .hasOnlyOneElementSatisfying(p -> assertThat(p.getValue()).isEqualTo("128M"));
+    }
 }
@@ -6,6 +6,7 @@ import java.util.List;
 
 import io.fabric8.kubernetes.api.model.Probe;
 import io.fabric8.kubernetes.api.model.Quantity;
+import io.fabric8.kubernetes.api.model.ResourceRequirements;
 import io.fabric8.kubernetes.api.model.Volume;
 import io.fabric8.kubernetes.api.model.VolumeMount;
 import org.junit.Test;
@@ -391,4 +392,105 @@ public class PostgreSqlDeploymentBuilderTest extends AbstractCloudTest{
                             assertThat(p.getRequired()).isEqualTo(Boolean.TRUE);
                         });
     }
+
+    @Test
+    public void testBuildPostgreSqlDeploymentWithResourceRequestsAndLimits() {
+        PostgreSqlDeploymentBuilder settingsBuilder = new PostgreSqlDeploymentBuilder();
+        Deployment builtPostgreSqlDeployment = settingsBuilder.withResourceRequests("200m", null)
+                                                              .withResourceLimits(null, "768Mi")
+                                                              .build();
+
+        ResourceRequirements resources = builtPostgreSqlDeployment.getDeploymentConfig().getSpec().getTemplate().getSpec().getContainers().get(0).getResources();
+        assertThat(resources.getRequests()).containsOnlyKeys("cpu")
+                                           .containsEntry("cpu", new Quantity("200m"));
+        assertThat(resources.getLimits()).containsOnlyKeys("memory")
+                                         .containsEntry("memory", new Quantity("768Mi"));
+    }
+
+    @Test
+    public void testBuildPostgreSqlDeploymentWithMemoryTuning() {
+        PostgreSqlDeploymentBuilder settingsBuilder = new PostgreSqlDeploymentBuilder();
+        Deployment builtPostgreSqlDeployment = settingsBuilder.withMaxConnections(200)
+                                                              .withSharedBuffers("300MB")
+                                                              .withEffectiveCacheSize("700MB")
+                                                              .build();
+
+        assertThat(builtPostgreSqlDeployment.getEnvironmentVariableValue(OpenShiftImageConstants.POSTGRESQL_MAX_CONNECTIONS)).isEqualTo("200");
+        assertThat(builtPostgreSqlDeployment.getEnvironmentVariableValue(OpenShiftImageConstants.POSTGRESQL_SHARED_BUFFERS)).isEqualTo("300MB");
+        assertThat(builtPostgreSqlDeployment.getEnvironmentVariableValue(OpenShiftImageConstants.POSTGRESQL_EFFECTIVE_CACHE_SIZE)).isEqualTo("700MB");
+    }
+
+    @Test
+    public void testBuildPostgreSqlDeploymentWithMemoryTuningDerivedFromMemoryLimit() {
+        PostgreSqlDeploymentBuilder settingsBuilder = new PostgreSqlDeploymentBuilder();
+        Deployment builtPostgreSqlDeployment = settingsBuilder.withResourceLimits(null, "2Gi")
+                                                              .withSharedBuffers("256MB")
+                                                              .build();
+
+        assertThat(builtPostgreSqlDeployment.getEnvironmentVariableValue(OpenShiftImageConstants.POSTGRESQL_SHARED_BUFFERS)).isEqualTo("256MB");
+        assertThat(builtPostgreSqlDeployment.getEnvironmentVariableValue(OpenShiftImageConstants.POSTGRESQL_EFFECTIVE_CACHE_SIZE)).isEqualTo("1024MB");
+    }
+
+    @Test
+    public void testBuildPostgreSqlDeploymentWithoutMemoryLimit() {
+        PostgreSqlDeploymentBuilder settingsBuilder = new PostgreSqlDeploymentBuilder();
+        Deployment builtPostgreSqlDeployment = settingsBuilder.build();
+
+        assertThat(builtPostgreSqlDeployment.getOptionalEnvironmentVariableValue(OpenShiftImageConstants.POSTGRESQL_SHARED_BUFFERS)).isEmpty();
+        assertThat(builtPostgreSqlDeployment.getOptionalEnvironmentVariableValue(OpenShiftImageConstants.POSTGRESQL_EFFECTIVE_CACHE_SIZE)).isEmpty();
+    }
+
+    @Test
+    public void testBuildPostgreSqlDeploymentWithMemoryTuningFromProperties() {
+        PostgreSqlDeploymentBuilder settingsBuilder = new PostgreSqlDeploymentBuilder();
+        Deployment builtPostgreSqlDeployment = settingsBuilder.withResourceLimits(null, "1Gi")
+                                                              .withMaxConnectionsFromProperties()
+                                                              .withSharedBuffersFromProperties()
+                                                              .withEffectiveCacheSizeFromProperties()
+                                                              .build();
+
+        assertThat(builtPostgreSqlDeployment.getEnvironmentVariableValue(OpenShiftImageConstants.POSTGRESQL_MAX_CONNECTIONS)).isEqualTo("${POSTGRESQL_MAX_CONNECTIONS}");
+        assertThat(builtPostgreSqlDeployment.getEnvironmentVariableValue(OpenShiftImageConstants.POSTGRESQL_SHARED_BUFFERS)).isEqualTo("${POSTGRESQL_SHARED_BUFFERS}");
+        assertThat(builtPostgreSqlDeployment.getEnvironmentVariableValue(OpenShiftImageConstants.POSTGRESQL_EFFECTIVE_CACHE_SIZE)).isEqualTo("${POSTGRESQL_EFFECTIVE_CACHE_SIZE}");
+        assertThat(builtPostgreSqlDeployment.getParameters())
+                        .filteredOn(p -> OpenShiftImageConstants.POSTGRESQL_MAX_CONNECTIONS.equals(p.getName()))
+                        .hasOnlyOneElementSatisfying(p -> {
+                            assertThat(p.getDisplayName()).isEqualTo("PostgreSQL Max Connections");
+                            assertThat(p.getValue()).isEqualTo("100");
+                            assertThat(p.getRequired()).isEqualTo(Boolean.TRUE);
+                        });
+        assertThat(builtPostgreSqlDeployment.getParameters())
+                        .filteredOn(p -> OpenShiftImageConstants.POSTGRESQL_SHARED_BUFFERS.equals(p.getName()))
+                        .hasOnlyOneElementSatisfying(p -> assertThat(p.getValue()).isEqualTo("256MB"));
+        assertThat(builtPostgreSqlDeployment.getParameters())
+                        .filteredOn(p -> OpenShiftImageConstants.POSTGRESQL_EFFECTIVE_CACHE_SIZE.equals(p.getName()))
+                        .hasOnlyOneElementSatisfying(p -> assertThat(p.getValue()).isEqualTo("512MB"));
+    }
+
+    @Test
+    public void testBuildPostgreSqlDeploymentWithMemoryLimitAfterMemoryTuningFromProperties() {
+        PostgreSqlDeploymentBuilder settingsBuilder = new PostgreSqlDeploymentBuilder();
+        Deployment builtPostgreSqlDeployment = settingsBuilder.withSharedBuffersFromProperties()
+                                                              .withEffectiveCacheSizeFromProperties()
+                                                              .withResourceLimits(null, "1Gi")
+                                                              .build();
+
+        assertThat(builtPostgreSqlDeployment.getParameters())
+                        .filteredOn(p -> OpenShiftImageConstants.POSTGRESQL_SHARED_BUFFERS.equals(p.getName()))
+                        .hasOnlyOneElementSatisfying(p -> assertThat(p.getValue()).isEqualTo("256MB"));
+        assertThat(builtPostgreSqlDeployment.getParameters())
+                        .filteredOn(p -> OpenShiftImageConstants.POSTGRESQL_EFFECTIVE_CACHE_SIZE.equals(p.getName()))
+                        .hasOnlyOneElementSatisfying(p -> assertThat(p.getValue()).isEqualTo("512MB"));
+    }
+
+    @Test
+    public void testBuildPostgreSqlDeploymentWithMemoryTuningFromPropertiesWithoutMemoryLimit() {
+        PostgreSqlDeploymentBuilder settingsBuilder = new PostgreSqlDeploymentBuilder();
+        Deployment builtPostgreSqlDeployment = settingsBuilder.withSharedBuffersFromProperties()
+                                                              .build();
+
+        assertThat(builtPostgreSqlDeployment.getParameters())
+                        .filteredOn(p -> OpenShiftImageConstants.POSTGRESQL_SHARED_BUFFERS.equals(p.getName()))
+                        .hasOnlyOneElementSatisfying(p -> assertThat(p.getValue()).isEmpty());
+    }
 }
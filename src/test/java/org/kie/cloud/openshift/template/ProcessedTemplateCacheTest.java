@@ -0,0 +1,146 @@
+package org.kie.cloud.openshift.template;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import io.fabric8.kubernetes.api.model.KubernetesList;
+import io.fabric8.kubernetes.api.model.KubernetesListBuilder;
+import io.fabric8.kubernetes.client.utils.Serialization;
+import io.fabric8.openshift.api.model.DeploymentConfig;
+import io.fabric8.openshift.api.model.ParameterBuilder;
+import io.fabric8.openshift.api.model.Template;
+import org.junit.Test;
+import org.kie.cloud.openshift.deployment.Deployment;
+import org.kie.cloud.openshift.scenario.Scenario;
+import org.kie.cloud.openshift.scenario.builder.ScenarioBuilder;
+import org.kie.cloud.openshift.settings.builder.KieServerDeploymentBuilder;
+
+public class ProcessedTemplateCacheTest {
+
+    private static final long CACHE_SIZE = 1024 * 1024;
+
+    private AtomicInteger processingCount = new AtomicInteger();
+
+    // Returns template objects without processing, so the result reflects scenario content
+    private Function<Scenario, KubernetesList> processor = scenario -> {
+        processingCount.incrementAndGet();
+        return new KubernetesListBuilder().withItems(Serialization.unmarshal(scenario.getTemplateAsInputStream(), Template.class).getObjects()).build();
+    };
+
+    @Test
+    public void testGetOrProcessCacheHit() {
+        ProcessedTemplateCache cache = new ProcessedTemplateCache(CACHE_SIZE);
+        Scenario scenario = new ScenarioBuilder().withDeployment(new KieServerDeploymentBuilder("kieserver").build()).build();
+
+        KubernetesList first = cache.getOrProcess(scenario, Collections.singletonMap("KIE_ADMIN_PWD", "pwd"), () -> processor.apply(scenario));
+        KubernetesList second = cache.getOrProcess(scenario, Collections.singletonMap("KIE_ADMIN_PWD", "pwd"), () -> processor.apply(scenario));
+
+        assertThat(processingCount.get()).isEqualTo(1);
+        assertThat(cache.getHitCount()).isEqualTo(1);
+        assertThat(cache.getMissCount()).isEqualTo(1);
+        assertThat(second.getItems()).hasSameSizeAs(first.getItems());
+        assertThat(second.getItems()).isNotSameAs(first.getItems());
+        assertThat(second.getItems()).filteredOn(o -> o instanceof DeploymentConfig)
+                                     .extracting(o -> o.getMetadata().getName())
+                                     .containsExactly("kieserver");
+    }
+
+    @Test
+    public void testGetOrProcessReturnsCopies() {
+        ProcessedTemplateCache cache = new ProcessedTemplateCache(CACHE_SIZE);
+        Scenario scenario = new ScenarioBuilder().withDeployment(new KieServerDeploymentBuilder("kieserver").build()).build();
+
+        cache.getOrProcess(scenario, Collections.emptyMap(), () -> processor.apply(scenario)).getItems().get(0).getMetadata().setName("modified");
+        KubernetesList cached = cache.getOrProcess(scenario, Collections.emptyMap(), () -> processor.apply(scenario));
+        cached.getItems().get(0).getMetadata().setName("modified");
+        KubernetesList cachedAgain = cache.getOrProcess(scenario, Collections.emptyMap(), () -> processor.apply(scenario));
+
+        assertThat(cachedAgain.getItems().get(0).getMetadata().getName()).isNotEqualTo("modified");
+    }
+
+    @Test
+    public void testGetOrProcessCacheMissForDifferentParametersAndScenario() {
+        ProcessedTemplateCache cache = new ProcessedTemplateCache(CACHE_SIZE);
+        Scenario scenario = new ScenarioBuilder().withDeployment(new KieServerDeploymentBuilder("kieserver").build()).build();
+        Scenario otherScenario = new ScenarioBuilder().withDeployment(new KieServerDeploymentBuilder("other-kieserver").build()).build();
+
+        Map<String, String> parameters = new HashMap<>();
+        parameters.put("KIE_ADMIN_USER", "admin");
+        cache.getOrProcess(scenario, parameters, () -> processor.apply(scenario));
+        parameters.put("KIE_ADMIN_PWD", "pwd");
+        cache.getOrProcess(scenario, parameters, () -> processor.apply(scenario));
+        cache.getOrProcess(otherScenario, parameters, () -> processor.apply(otherScenario));
+
+        assertThat(processingCount.get()).isEqualTo(3);
+        assertThat(cache.getHitCount()).isEqualTo(0);
+        assertThat(cache.getEntryCount()).isEqualTo(3);
+    }
+
+    @Test
+    public void testGetOrProcessEvictsLeastRecentlyUsed() {
+        Scenario first = new ScenarioBuilder().withDeployment(new KieServerDeploymentBuilder("first").build()).build();
+        Scenario second = new ScenarioBuilder().withDeployment(new KieServerDeploymentBuilder("second").build()).build();
+        Scenario third = new ScenarioBuilder().withDeployment(new KieServerDeploymentBuilder("third").build()).build();
+        ProcessedTemplateCache sizingCache = new ProcessedTemplateCache(CACHE_SIZE);
+        sizingCache.getOrProcess(first, Collections.emptyMap(), () -> processor.apply(first));
+        long entrySize = sizingCache.getSizeBytes();
+
+        // Fits two entries only
+        ProcessedTemplateCache cache = new ProcessedTemplateCache(entrySize * 2 + entrySize / 2);
+        cache.getOrProcess(first, Collections.emptyMap(), () -> processor.apply(first));
+        cache.getOrProcess(second, Collections.emptyMap(), () -> processor.apply(second));
+        cache.getOrProcess(first, Collections.emptyMap(), () -> processor.apply(first));
+        cache.getOrProcess(third, Collections.emptyMap(), () -> processor.apply(third));
+        processingCount.set(0);
+        cache.getOrProcess(first, Collections.emptyMap(), () -> processor.apply(first));
+        cache.getOrProcess(third, Collections.emptyMap(), () -> processor.apply(third));
+        cache.getOrProcess(second, Collections.emptyMap(), () -> processor.apply(second));
+
+        assertThat(processingCount.get()).isEqualTo(1);
+        assertThat(cache.getEntryCount()).isEqualTo(2);
+        assertThat(cache.getSizeBytes()).isLessThanOrEqualTo(entrySize * 2 + entrySize / 2);
+    }
+
+    @Test
+    public void testGetOrProcessSkipsGeneratedParameters() {
+        ProcessedTemplateCache cache = new ProcessedTemplateCache(CACHE_SIZE);
+        Deployment kieServer = new KieServerDeploymentBuilder("kieserver").build();
+        kieServer.getParameters().add(new ParameterBuilder().withName("GENERATED_SECRET")
+                                                            .withGenerate("expression")
+                                                            .withFrom("[a-zA-Z0-9]{8}")
+                                                            .build());
+        Scenario scenario = new ScenarioBuilder().withDeployment(kieServer).build();
+
+        cache.getOrProcess(scenario, Collections.emptyMap(), () -> processor.apply(scenario));
+        cache.getOrProcess(scenario, Collections.emptyMap(), () -> processor.apply(scenario));
+        assertThat(processingCount.get()).isEqualTo(2);
+        assertThat(cache.getEntryCount()).isEqualTo(0);
+
+        cache.getOrProcess(scenario, Collections.singletonMap("GENERATED_SECRET", "secret"), () -> processor.apply(scenario));
+        cache.getOrProcess(scenario, Collections.singletonMap("GENERATED_SECRET", "secret"), () -> processor.apply(scenario));
+        assertThat(processingCount.get()).isEqualTo(3);
+    }
+
+    @Test
+    public void testDisabledCache() {
+        ProcessedTemplateCache cache = new ProcessedTemplateCache(0);
+        Scenario scenario = new ScenarioBuilder().withDeployment(new KieServerDeploymentBuilder("kieserver").build()).build();
+
+        cache.getOrProcess(scenario, Collections.emptyMap(), () -> processor.apply(scenario));
+        cache.getOrProcess(scenario, Collections.emptyMap(), () -> processor.apply(scenario));
+
+        assertThat(processingCount.get()).isEqualTo(2);
+        assertThat(cache.getEntryCount()).isEqualTo(0);
+    }
+
+    @Test
+    public void testNegativeCacheSize() {
+        assertThatThrownBy(() -> new ProcessedTemplateCache(-1)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
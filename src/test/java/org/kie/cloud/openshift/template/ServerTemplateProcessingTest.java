@@ -0,0 +1,88 @@
+package org.kie.cloud.openshift.template;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Collections;
+import java.util.Map;
+
+import io.fabric8.kubernetes.api.model.KubernetesList;
+import io.fabric8.kubernetes.client.utils.Serialization;
+import io.fabric8.openshift.api.model.Parameter;
+import io.fabric8.openshift.api.model.Template;
+import io.fabric8.openshift.api.model.TemplateBuilder;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.Test;
+import org.kie.cloud.openshift.AbstractCloudMockTest;
+import org.kie.cloud.openshift.OpenShiftImageConstants;
+import org.kie.cloud.openshift.scenario.Scenario;
+import org.kie.cloud.openshift.scenario.builder.ScenarioBuilder;
+import org.kie.cloud.openshift.settings.builder.KieServerDeploymentBuilder;
+
+public class ServerTemplateProcessingTest extends AbstractCloudMockTest {
+
+    private static final String PROCESSED_TEMPLATES_PATH = "/oapi/v1/namespaces/" + PROJECT_NAME + "/processedtemplates";
+
+    private Scenario scenario = new ScenarioBuilder().withDeployment(new KieServerDeploymentBuilder("kieserver").withKieServerUserFromProperties().build())
+                                                     .build();
+    private Map<String, String> parameters = Collections.singletonMap(OpenShiftImageConstants.KIE_SERVER_PWD, "pwd");
+
+    public ServerTemplateProcessingTest() {
+        super(false);
+    }
+
+    @Test
+    public void testProcess() throws Exception {
+        KubernetesList expected = TemplateProcessor.process(scenario, parameters);
+        server.expect().post().withPath(PROCESSED_TEMPLATES_PATH)
+                       .andReturn(201, new TemplateBuilder().withNewMetadata().withName("custom-template").endMetadata()
+                                                            .withObjects(expected.getItems())
+                                                            .build())
+                       .once();
+
+        KubernetesList processed = new ServerTemplateProcessing().process(openShiftClient, PROJECT_NAME, scenario, parameters);
+
+        assertThat(processed.getItems()).extracting(o -> o.getKind() + "/" + o.getMetadata().getName())
+                                        .containsExactly(expected.getItems().stream().map(o -> o.getKind() + "/" + o.getMetadata().getName()).toArray(String[]::new));
+
+        RecordedRequest request = server.getMockServer().takeRequest();
+        Template sentTemplate = Serialization.unmarshal(request.getBody().inputStream(), Template.class);
+        assertThat(sentTemplate.getObjects()).hasSameSizeAs(expected.getItems());
+        assertThat(sentTemplate.getParameters()).filteredOn(p -> OpenShiftImageConstants.KIE_SERVER_PWD.equals(p.getName()))
+                                                .hasOnlyOneElementSatisfying(p -> {
+                                                    assertThat(p.getValue()).isEqualTo("pwd");
+                                                    assertThat(p.getGenerate()).isNull();
+                                                });
+        // Scenario parameters are kept untouched
+        assertThat(scenario.getParameters()).filteredOn(p -> OpenShiftImageConstants.KIE_SERVER_PWD.equals(p.getName()))
+                                            .extracting(Parameter::getValue)
+                                            .doesNotContain("pwd");
+    }
+
+    @Test
+    public void testProcessServerError() {
+        server.expect().post().withPath(PROCESSED_TEMPLATES_PATH).andReturn(422, "invalid template").once();
+
+        assertThatThrownBy(() -> new ServerTemplateProcessing().process(openShiftClient, PROJECT_NAME, scenario, parameters))
+                   .isInstanceOf(RuntimeException.class)
+                   .hasMessageContaining("422")
+                   .hasMessageContaining("invalid template");
+    }
+
+    @Test
+    public void testProcessCached() {
+        KubernetesList expected = TemplateProcessor.process(scenario, parameters);
+        server.expect().post().withPath(PROCESSED_TEMPLATES_PATH)
+                       .andReturn(201, new TemplateBuilder().withNewMetadata().withName("custom-template").endMetadata()
+                                                            .withObjects(expected.getItems())
+                                                            .build())
+                       .always();
+        TemplateProcessingStrategy templateProcessing = new CachedTemplateProcessing(new ServerTemplateProcessing(), new ProcessedTemplateCache(1024 * 1024));
+
+        KubernetesList first = templateProcessing.process(openShiftClient, PROJECT_NAME, scenario, parameters);
+        KubernetesList second = templateProcessing.process(openShiftClient, "other-project", scenario, parameters);
+
+        assertThat(second.getItems()).hasSameSizeAs(first.getItems());
+        assertThat(server.getMockServer().getRequestCount()).isEqualTo(1);
+    }
+}
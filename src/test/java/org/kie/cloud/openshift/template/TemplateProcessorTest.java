@@ -0,0 +1,155 @@
+package org.kie.cloud.openshift.template;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.KubernetesList;
+import io.fabric8.kubernetes.client.utils.Serialization;
+import io.fabric8.openshift.api.model.DeploymentConfig;
+import io.fabric8.openshift.api.model.Parameter;
+import io.fabric8.openshift.api.model.ParameterBuilder;
+import org.junit.Test;
+import org.kie.cloud.openshift.AbstractCloudTest;
+import org.kie.cloud.openshift.OpenShiftImageConstants;
+import org.kie.cloud.openshift.deployment.Deployment;
+import org.kie.cloud.openshift.deployment.MySqlDeployment;
+import org.kie.cloud.openshift.scenario.Scenario;
+import org.kie.cloud.openshift.scenario.builder.ScenarioBuilder;
+import org.kie.cloud.openshift.settings.builder.KieServerDeploymentBuilder;
+import org.kie.cloud.openshift.settings.builder.MySqlDeploymentBuilder;
+
+public class TemplateProcessorTest extends AbstractCloudTest {
+
+    @Test
+    public void testProcessScenarioSameAsLocalProcessing() {
+        MySqlDeployment mySql = new MySqlDeploymentBuilder("mysql").withDatabaseUserFromProperties()
+                                                              .withDatabaseNameFromProperties()
+                                                              .build();
+        Deployment kieServer = new KieServerDeploymentBuilder("kieserver").withKieServerUserFromProperties()
+                                                                         .connectToDatabase(mySql)
+                                                                         .build();
+        Scenario scenario = new ScenarioBuilder().withDeployment(kieServer)
+                                                 .withDeployment(mySql)
+                                                 .build();
+        Map<String, String> parameters = new HashMap<>();
+        // Generated values differ between processings
+        scenario.getParameters().stream().filter(p -> p.getGenerate() != null).forEach(p -> parameters.put(p.getName(), "generated"));
+        parameters.put(OpenShiftImageConstants.KIE_SERVER_USER, "user");
+        parameters.put(OpenShiftImageConstants.KIE_SERVER_PWD, "pwd\"with$special\\characters");
+
+        KubernetesList processed = TemplateProcessor.process(scenario, parameters);
+        KubernetesList locallyProcessed = openShiftClient.templates().load(scenario.getTemplateAsInputStream()).processLocally(withoutQuotes(parameters));
+
+        assertThat(processed.getItems()).hasSameSizeAs(locallyProcessed.getItems());
+        for (int i = 0; i < processed.getItems().size(); i++) {
+            // Local processing drops additional "id" property of template objects
+            String processedObject = Serialization.asJson(processed.getItems().get(i)).replaceAll(",\"id\":\"[^\"]*\"", "");
+            String locallyProcessedObject = Serialization.asJson(locallyProcessed.getItems().get(i));
+            assertThat(processedObject.replace("pwd\\\"with$special\\\\characters", "pwd-with$special-characters")).isEqualTo(locallyProcessedObject);
+        }
+        assertThat(processed.getItems()).filteredOn(o -> "kieserver".equals(o.getMetadata().getName()) && o instanceof DeploymentConfig)
+                                        .flatExtracting(o -> ((DeploymentConfig) o).getSpec().getTemplate().getSpec().getContainers().get(0).getEnv())
+                                        .filteredOn(e -> OpenShiftImageConstants.KIE_SERVER_PWD.equals(e.getName()))
+                                        .extracting(e -> e.getValue())
+                                        .containsExactly("pwd\"with$special\\characters");
+    }
+
+    @Test
+    public void testProcessDoesNotModifyObjects() {
+        Deployment kieServer = new KieServerDeploymentBuilder("kieserver").withKieServerUserFromProperties().build();
+        String original = Serialization.asJson(kieServer.getDeploymentConfig());
+
+        TemplateProcessor.process(kieServer.getObjects(), kieServer.getParameters(), Collections.singletonMap(OpenShiftImageConstants.KIE_SERVER_USER, "user"));
+
+        assertThat(Serialization.asJson(kieServer.getDeploymentConfig())).isEqualTo(original);
+    }
+
+    @Test
+    public void testProcessParameterValues() {
+        List<Parameter> parameters = Arrays.asList(new ParameterBuilder().withName("PASSED").withValue("default").build(),
+                                                   new ParameterBuilder().withName("DEFAULT").withValue("default").build(),
+                                                   new ParameterBuilder().withName("GENERATED").withGenerate("expression").withFrom("[a-z]{8}").build(),
+                                                   new ParameterBuilder().withName("OPTIONAL").build(),
+                                                   new ParameterBuilder().withName("NESTED").withValue("nested-${DEFAULT}").build(),
+                                                   new ParameterBuilder().withName("REFERENCING").build(),
+                                                   new ParameterBuilder().withName("OTHER").withValue("other").build());
+        ConfigMap configMap = new ConfigMapBuilder().withNewMetadata()
+                                                        .withName("config-${DEFAULT}")
+                                                    .endMetadata()
+                                                    .addToData("passed", "${PASSED}")
+                                                    .addToData("generated", "${GENERATED}")
+                                                    .addToData("optional", "[${OPTIONAL}]")
+                                                    .addToData("nested", "${NESTED}")
+                                                    .addToData("referencing", "${REFERENCING}")
+                                                    .addToData("unknown", "${UNKNOWN}")
+                                                    .addToData("key-${DEFAULT}", "value")
+                                                    .build();
+
+        Map<String, String> values = new HashMap<>();
+        values.put("PASSED", "passed");
+        values.put("REFERENCING", "value-${OTHER}");
+        KubernetesList processed = TemplateProcessor.process(Collections.singletonList(configMap), parameters, values);
+
+        ConfigMap processedConfigMap = (ConfigMap) processed.getItems().get(0);
+        assertThat(processedConfigMap.getMetadata().getName()).isEqualTo("config-default");
+        assertThat(processedConfigMap.getData()).containsEntry("passed", "passed")
+                                                .containsEntry("optional", "[]")
+                                                // Values are substituted in single pass, same as by OpenShift
+                                                .containsEntry("nested", "nested-${DEFAULT}")
+                                                .containsEntry("referencing", "value-${OTHER}")
+                                                .containsEntry("unknown", "${UNKNOWN}")
+                                                .containsEntry("key-default", "value");
+        assertThat(processedConfigMap.getData().get("generated")).matches("[a-z]{8}");
+    }
+
+    @Test
+    public void testProcessNumericParameter() {
+        // Template with numeric field parameter can't be parsed by local processing
+        Deployment kieServer = new KieServerDeploymentBuilder("kieserver").withReplicasFromProperties().build();
+
+        KubernetesList processed = TemplateProcessor.process(kieServer.getObjects(), kieServer.getParameters(), Collections.singletonMap(OpenShiftImageConstants.KIE_SERVER_REPLICAS, "2"));
+
+        assertThat(processed.getItems()).filteredOn(o -> o instanceof DeploymentConfig)
+                                        .hasOnlyOneElementSatisfying(o -> assertThat(((DeploymentConfig) o).getSpec().getReplicas()).isEqualTo(2));
+    }
+
+    @Test
+    public void testProcessNonStringParameter() {
+        Deployment kieServer = new KieServerDeploymentBuilder("kieserver").build();
+        kieServer.getDeploymentConfig().getSpec().setReplicas(null);
+        kieServer.getDeploymentConfig().getSpec().setAdditionalProperty("replicas", "${{REPLICAS}}");
+        kieServer.getDeploymentConfig().getMetadata().getLabels().put("replicas", "${{REPLICAS}}");
+        List<Parameter> parameters = Collections.singletonList(new ParameterBuilder().withName("REPLICAS").withValue("3").build());
+
+        KubernetesList processed = TemplateProcessor.process(Collections.singletonList(kieServer.getDeploymentConfig()), parameters, Collections.emptyMap());
+
+        HasMetadata processedDeploymentConfig = processed.getItems().get(0);
+        assertThat(((DeploymentConfig) processedDeploymentConfig).getSpec().getReplicas()).isEqualTo(3);
+        assertThat(processedDeploymentConfig.getMetadata().getLabels()).containsEntry("replicas", "3");
+    }
+
+    @Test
+    public void testProcessMissingRequiredParameter() {
+        List<Parameter> parameters = Collections.singletonList(new ParameterBuilder().withName("REQUIRED").withRequired(true).build());
+        List<HasMetadata> objects = Collections.singletonList(new ConfigMapBuilder().withNewMetadata().withName("${REQUIRED}").endMetadata().build());
+
+        assertThatThrownBy(() -> TemplateProcessor.process(objects, parameters, Collections.emptyMap())).isInstanceOf(IllegalArgumentException.class)
+                                                                                                        .hasMessageContaining("REQUIRED");
+    }
+
+    // Local processing replaces parameters in serialized JSON, so values with quotes and backslashes produce invalid JSON
+    private static Map<String, String> withoutQuotes(Map<String, String> parameters) {
+        Map<String, String> result = new HashMap<>();
+        parameters.forEach((k, v) -> result.put(k, v.replace("\"", "-").replace("\\", "-")));
+        return result;
+    }
+}
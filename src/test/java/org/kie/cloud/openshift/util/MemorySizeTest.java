@@ -0,0 +1,29 @@
+package org.kie.cloud.openshift.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.fabric8.kubernetes.api.model.Quantity;
+import org.junit.Test;
+
+public class MemorySizeTest {
+
+    @Test
+    public void testToBytes() {
+        assertThat(MemorySize.toBytes(new Quantity("1Gi"))).hasValue(1024L * 1024 * 1024);
+        assertThat(MemorySize.toBytes(new Quantity("512Mi"))).hasValue(512L * 1024 * 1024);
+        assertThat(MemorySize.toBytes(new Quantity("1.5G"))).hasValue(1500L * 1000 * 1000);
+        assertThat(MemorySize.toBytes(new Quantity("1048576"))).hasValue(1048576L);
+    }
+
+    @Test
+    public void testToBytesNotPlainAmount() {
+        assertThat(MemorySize.toBytes(new Quantity("${KIE_SERVER_MEMORY_LIMIT}"))).isEmpty();
+        assertThat(MemorySize.toBytes(null)).isEmpty();
+    }
+
+    @Test
+    public void testToMegabytes() {
+        assertThat(MemorySize.toMegabytes(1024L * 1024 * 1024)).isEqualTo("1024M");
+        assertThat(MemorySize.toMegabytes(1500L * 1024)).isEqualTo("1M");
+    }
+}